@@ -0,0 +1,72 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.helper.CategoryMappingHelper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryMappingHelperBenchmark {
+
+    private Category rootCategory;
+    private Category childCategory;
+    private CategoryDto childCategoryDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.rootCategory = Category.builder()
+            .categoryId(1)
+            .categoryTitle("Computers")
+            .imageUrl("https://cdn.example.com/categories/1.png")
+            .build();
+        this.childCategory = Category.builder()
+            .categoryId(2)
+            .categoryTitle("Laptops")
+            .imageUrl("https://cdn.example.com/categories/2.png")
+            .parentCategory(this.rootCategory)
+            .build();
+        this.childCategoryDto = CategoryMappingHelper.map(this.childCategory);
+    }
+
+    @Benchmark
+    public CategoryDto mapRootToDto() {
+        return CategoryMappingHelper.map(this.rootCategory);
+    }
+
+    @Benchmark
+    public CategoryDto mapChildToDto() {
+        return CategoryMappingHelper.map(this.childCategory);
+    }
+
+    @Benchmark
+    public Category mapChildToEntity() {
+        return CategoryMappingHelper.map(this.childCategoryDto);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CategoryMappingHelperBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
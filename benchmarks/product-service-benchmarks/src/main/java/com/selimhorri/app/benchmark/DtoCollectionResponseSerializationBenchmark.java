@@ -0,0 +1,81 @@
+package com.selimhorri.app.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.config.mapper.MapperConfig;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.ProductMappingHelper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DtoCollectionResponseSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+    private DtoCollectionResponse<ProductDto> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.objectMapper = new MapperConfig().objectMapperBean();
+        this.products = IntStream.rangeClosed(1, this.size)
+            .mapToObj(ProductMappingHelperBenchmark::newProduct)
+            .collect(Collectors.toUnmodifiableList());
+        this.response = new DtoCollectionResponse<>(this.products.stream()
+            .map(ProductMappingHelper::map)
+            .collect(Collectors.toUnmodifiableList()));
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        this.objectMapper.writeValue(OutputStream.nullOutputStream(), this.response);
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.response);
+    }
+
+    @Benchmark
+    public void mapAndSerialize() throws IOException {
+        this.objectMapper.writeValue(OutputStream.nullOutputStream(), new DtoCollectionResponse<>(this.products.stream()
+            .map(ProductMappingHelper::map)
+            .collect(Collectors.toUnmodifiableList())));
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(DtoCollectionResponseSerializationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
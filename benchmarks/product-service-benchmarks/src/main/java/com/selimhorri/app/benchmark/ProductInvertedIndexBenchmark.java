@@ -0,0 +1,125 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.index.ProductInvertedIndex;
+import com.selimhorri.app.index.ProductSearchResult;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductInvertedIndexBenchmark {
+
+    private static final int VOCABULARY_SIZE = 20_000;
+    private static final int CATEGORIES = 500;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    private int catalogueSize;
+
+    private List<String> vocabulary;
+    private ProductInvertedIndex productInvertedIndex;
+    private Set<Integer> categoryIds;
+    private int nextUpdatedProductId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        this.vocabulary = IntStream.range(0, VOCABULARY_SIZE)
+            .mapToObj(i -> "word" + i)
+            .collect(Collectors.toUnmodifiableList());
+        this.productInvertedIndex = new ProductInvertedIndex();
+        IntStream.rangeClosed(1, this.catalogueSize)
+            .forEach(productId -> this.productInvertedIndex.index(this.newProduct(random, productId)));
+        this.productInvertedIndex.trimToSize();
+        this.categoryIds = Set.of(7, 8, 9);
+        this.nextUpdatedProductId = 1;
+
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.out.printf("%nIndexed %d products, %d terms, ~%d MB heap in use%n", this.productInvertedIndex.size(),
+            this.productInvertedIndex.termCount(), (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+    }
+
+    @Benchmark
+    public ProductSearchResult searchRareTerm() {
+        return this.productInvertedIndex.search("word19999", null, null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ProductSearchResult searchCommonTerm() {
+        return this.productInvertedIndex.search("word0", null, null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ProductSearchResult searchTwoTerms() {
+        return this.productInvertedIndex.search("word3 word150", null, null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ProductSearchResult searchCategoryTitle() {
+        return this.productInvertedIndex.search("category42", null, null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ProductSearchResult searchWithFilters() {
+        return this.productInvertedIndex.search("word1 word2", this.categoryIds, 10.0, 500.0, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ProductSearchResult searchDeepPage() {
+        return this.productInvertedIndex.search("word5", null, null, null, 49, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void reindexProduct() {
+        final int productId = this.nextUpdatedProductId;
+        this.nextUpdatedProductId = productId % this.catalogueSize + 1;
+        this.productInvertedIndex.index(new ProductProjection(productId, "word" + productId % VOCABULARY_SIZE + " updated",
+            null, "SKU-" + productId, 10.0, 1, productId % CATEGORIES, "category" + productId % CATEGORIES, null));
+    }
+
+    private ProductProjection newProduct(final Random random, final int productId) {
+        final String title = IntStream.range(0, 3 + random.nextInt(4))
+            .mapToObj(i -> this.vocabulary.get(zipf(random, VOCABULARY_SIZE)))
+            .collect(Collectors.joining(" "));
+        final int categoryId = random.nextInt(CATEGORIES);
+        return new ProductProjection(productId, title, null, "SKU-" + productId, 1.0 + random.nextInt(1_000),
+            random.nextInt(100), categoryId, "category" + categoryId, null);
+    }
+
+    private static int zipf(final Random random, final int n) {
+        return (int) Math.min(n - 1, Math.floor(Math.pow(n + 1, random.nextDouble())) - 1);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ProductInvertedIndexBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,73 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMappingHelperBenchmark {
+
+    private Product product;
+    private ProductDto productDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.product = newProduct(1);
+        this.productDto = ProductMappingHelper.map(this.product);
+    }
+
+    @Benchmark
+    public ProductDto mapToDto() {
+        return ProductMappingHelper.map(this.product);
+    }
+
+    @Benchmark
+    public Product mapToEntity() {
+        return ProductMappingHelper.map(this.productDto);
+    }
+
+    static Product newProduct(final int productId) {
+        return Product.builder()
+            .productId(productId)
+            .productTitle("product-" + productId)
+            .imageUrl("https://cdn.example.com/products/" + productId + ".png")
+            .sku("SKU-" + productId)
+            .priceUnit(19.99 + productId % 100)
+            .quantity(productId % 50)
+            .category(Category.builder()
+                .categoryId(productId % 10)
+                .categoryTitle("category-" + productId % 10)
+                .imageUrl("https://cdn.example.com/categories/" + productId % 10 + ".png")
+                .build())
+            .build();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ProductMappingHelperBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
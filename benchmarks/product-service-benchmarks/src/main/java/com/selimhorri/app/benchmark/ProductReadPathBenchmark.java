@@ -0,0 +1,188 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.ProductReactiveRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ProductReadPathBenchmark {
+
+    private static final String DATABASE = "product_read_path_benchmark";
+    private static final int POOL_SIZE = 16;
+
+    @Param({"100000"})
+    private int catalogueSize;
+
+    @Param({"20", "500"})
+    private int pageSize;
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private ConnectionPool connectionPool;
+    private ProductRepository productRepository;
+    private ProductReactiveRepository productReactiveRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl("jdbc:h2:mem:" + DATABASE + ";DB_CLOSE_DELAY=-1");
+        hikariConfig.setUsername("sa");
+        hikariConfig.setMaximumPoolSize(POOL_SIZE);
+        this.dataSource = new HikariDataSource(hikariConfig);
+        Flyway.configure().dataSource(this.dataSource).load().migrate();
+        new JdbcTemplate(this.dataSource).batchUpdate("INSERT INTO products "
+            + "(category_id, product_title, image_url, sku, price_unit, quantity) VALUES (?, ?, 'xxx', ?, ?, 50)",
+            IntStream.range(0, this.catalogueSize)
+                .mapToObj(i -> new Object[] { 1 + i % 3, "product-" + i, "SKU-" + i, 1.0 + i % 1_000 })
+                .collect(Collectors.toList()));
+
+        final LocalContainerEntityManagerFactoryBean entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(this.dataSource);
+        entityManagerFactoryBean.setPackagesToScan("com.selimhorri.app.domain");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of("hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        this.entityManagerFactory = entityManagerFactoryBean.getObject();
+        final EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(this.entityManagerFactory);
+        this.productRepository = new JpaRepositoryFactory(entityManager).getRepository(ProductRepository.class);
+
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(
+                ConnectionFactoryOptions.parse("r2dbc:h2:mem:///" + DATABASE)
+                    .mutate()
+                    .option(ConnectionFactoryOptions.USER, "sa")
+                    .option(ConnectionFactoryOptions.PASSWORD, "")
+                    .build()))
+            .initialSize(POOL_SIZE)
+            .maxSize(POOL_SIZE)
+            .build());
+        this.productReactiveRepository = new ProductReactiveRepository(DatabaseClient.create(this.connectionPool));
+
+        System.out.printf("%nSeeded %d products, %d cores available%n",
+            this.catalogueSize, Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.connectionPool.dispose();
+        this.entityManagerFactory.close();
+        this.dataSource.close();
+    }
+
+    @Benchmark
+    public List<ProductDto> blockingKeysetPage() {
+        return this.productRepository.findProjectionsAfter(this.nextAfter(), PageRequest.of(0, this.pageSize))
+            .stream()
+            .map(ProductMappingHelper::map)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Benchmark
+    public List<ProductDto> reactiveKeysetPage() {
+        return this.productReactiveRepository.findProjectionsAfter(this.nextAfter(), this.pageSize)
+            .map(ProductMappingHelper::map)
+            .collectList()
+            .block();
+    }
+
+    @Benchmark
+    public ProductDto blockingFindById() {
+        return this.productRepository.findAllProjectionsByProductIdIn(List.of(this.nextAfter() + 1))
+            .stream()
+            .map(ProductMappingHelper::map)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @Benchmark
+    public ProductDto reactiveFindById() {
+        return this.productReactiveRepository.findProjectionById(this.nextAfter() + 1)
+            .map(ProductMappingHelper::map)
+            .block();
+    }
+
+    private int nextAfter() {
+        return ThreadLocalRandom.current().nextInt(this.catalogueSize - this.pageSize);
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final Collection<RunResult> results = new Runner(new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .include(ProductReadPathBenchmark.class.getSimpleName())
+            .build()).run();
+        printPerCore(results, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static void printPerCore(final Collection<RunResult> results, final int cores) {
+        System.out.printf("%nPer core summary (%d cores)%n", cores);
+        System.out.printf("%-22s %9s %18s %12s%n", "benchmark", "pageSize", "ops/ms per core", "p99 ms");
+        results.stream()
+            .collect(Collectors.groupingBy(result -> result.getParams().getBenchmark() + ":" + result.getParams().getParam("pageSize"),
+                TreeMap::new, Collectors.toList()))
+            .forEach((key, runs) -> {
+                double throughput = Double.NaN;
+                double p99 = Double.NaN;
+                for (final RunResult run : runs)
+                    if (run.getParams().getMode() == Mode.Throughput)
+                        throughput = run.getPrimaryResult().getScore() / cores;
+                    else if (run.getParams().getMode() == Mode.SampleTime)
+                        p99 = run.getPrimaryResult().getStatistics().getPercentile(99);
+                System.out.printf("%-22s %9s %18.3f %12.3f%n", key.substring(key.lastIndexOf('.') + 1, key.indexOf(':')),
+                    key.substring(key.indexOf(':') + 1), throughput, p99);
+            });
+    }
+}
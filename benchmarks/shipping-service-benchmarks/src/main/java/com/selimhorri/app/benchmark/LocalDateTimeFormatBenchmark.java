@@ -0,0 +1,88 @@
+package com.selimhorri.app.benchmark;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.config.mapper.MapperConfig;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OrderDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalDateTimeFormatBenchmark {
+
+    private DateTimeFormatter formatter;
+    private ObjectMapper objectMapper;
+    private LocalDateTime orderDate;
+    private String formattedOrderDate;
+    private OrderDto orderDto;
+    private String orderDtoJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.formatter = DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT);
+        this.objectMapper = new MapperConfig().objectMapperBean();
+        this.orderDate = LocalDateTime.of(2023, 1, 15, 10, 30, 0, 123_456_000);
+        this.formattedOrderDate = this.formatter.format(this.orderDate);
+        this.orderDto = OrderDto.builder()
+            .orderId(1)
+            .orderDate(this.orderDate)
+            .orderDesc("order-1")
+            .orderFee(42.5)
+            .build();
+        this.orderDtoJson = this.objectMapper.writeValueAsString(this.orderDto);
+    }
+
+    @Benchmark
+    public String formatWithSharedFormatter() {
+        return this.formatter.format(this.orderDate);
+    }
+
+    @Benchmark
+    public String formatWithPatternPerCall() {
+        return DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT).format(this.orderDate);
+    }
+
+    @Benchmark
+    public LocalDateTime parseWithSharedFormatter() {
+        return LocalDateTime.parse(this.formattedOrderDate, this.formatter);
+    }
+
+    @Benchmark
+    public String serializeOrderDto() throws IOException {
+        return this.objectMapper.writeValueAsString(this.orderDto);
+    }
+
+    @Benchmark
+    public OrderDto deserializeOrderDto() throws IOException {
+        return this.objectMapper.readValue(this.orderDtoJson, OrderDto.class);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(LocalDateTimeFormatBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
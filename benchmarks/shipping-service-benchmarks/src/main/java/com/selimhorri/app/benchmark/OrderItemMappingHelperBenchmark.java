@@ -0,0 +1,60 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.helper.OrderItemMappingHelper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderItemMappingHelperBenchmark {
+
+    private OrderItem orderItem;
+    private OrderItemDto orderItemDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.orderItem = OrderItem.builder()
+            .orderId(1)
+            .productId(101)
+            .orderedQuantity(3)
+            .build();
+        this.orderItemDto = OrderItemMappingHelper.map(this.orderItem);
+    }
+
+    @Benchmark
+    public OrderItemDto mapToDto() {
+        return OrderItemMappingHelper.map(this.orderItem);
+    }
+
+    @Benchmark
+    public OrderItem mapToEntity() {
+        return OrderItemMappingHelper.map(this.orderItemDto);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(OrderItemMappingHelperBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,122 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.UserServiceApplication;
+import com.selimhorri.app.dto.UserDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserBatchLookupBenchmark {
+
+    private static final int USERS = 5_000;
+    private static final ParameterizedTypeReference<Map<Integer, UserDto>> BATCH_RESPONSE =
+        new ParameterizedTypeReference<>() {};
+
+    @Param({"10", "100", "1000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext applicationContext;
+    private RestTemplate restTemplate;
+    private String apiUrl;
+    private int maxUserId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.applicationContext = new SpringApplication(UserServiceApplication.class).run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:user_batch_lookup_benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "--spring.zipkin.enabled=false",
+            "--eureka.client.enabled=false",
+            "--spring.cloud.compatibility-verifier.enabled=false",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.springframework.web=WARN",
+            "--logging.level.org.springframework.data=WARN",
+            "--logging.level.com.selimhorri=WARN");
+
+        final JdbcTemplate jdbcTemplate = this.applicationContext.getBean(JdbcTemplate.class);
+        final int existingUsers = jdbcTemplate.queryForObject("SELECT MAX(user_id) FROM users", Integer.class);
+        jdbcTemplate.batchUpdate("INSERT INTO users (first_name, last_name, email) VALUES (?, ?, ?)",
+            IntStream.range(0, USERS)
+                .mapToObj(i -> new Object[] { "first-" + i, "last-" + i, "user-" + i + "@example.com" })
+                .collect(Collectors.toList()));
+        jdbcTemplate.update("INSERT INTO credentials (user_id, username, password, role, is_enabled) "
+            + "SELECT user_id, CONCAT('user-', user_id), 'password', 'ROLE_USER', true FROM users WHERE user_id > ?",
+            existingUsers);
+        this.maxUserId = existingUsers + USERS;
+
+        final int port = ((WebServerApplicationContext) this.applicationContext).getWebServer().getPort();
+        this.apiUrl = "http://localhost:" + port + "/user-service/api/users";
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.applicationContext.close();
+    }
+
+    private List<Integer> randomIds() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return random.ints(1, this.maxUserId + 1).distinct().limit(this.batchSize).boxed().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int perIdLookup() {
+        int resolved = 0;
+        for (final Integer userId : this.randomIds())
+            if (this.restTemplate.getForObject(this.apiUrl + "/" + userId, UserDto.class) != null)
+                resolved++;
+        return resolved;
+    }
+
+    @Benchmark
+    public int batchLookup() {
+        return this.restTemplate
+            .exchange(this.apiUrl + "/batch", HttpMethod.POST, new HttpEntity<>(this.randomIds()), BATCH_RESPONSE)
+            .getBody()
+            .size();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(UserBatchLookupBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.client.BulkLookupClient;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+public class ProductCacheConfig {
+	
+	public static final String PRODUCT_CACHE_NAME = "products";
+	
+	@Bean
+	public AsyncLoadingCache<Integer, ProductDto> productCache(final ProductCacheProperties productCacheProperties, 
+			final RestTemplate restTemplate, 
+			final BulkLookupClient bulkLookupClient, 
+			final CircuitBreakerFactory<?, ?> circuitBreakerFactory, 
+			final ProductCacheLoaderExecutor productCacheLoaderExecutor, 
+			final MeterRegistry meterRegistry) {
+		
+		final AsyncLoadingCache<Integer, ProductDto> productCache = Caffeine.newBuilder()
+				.maximumSize(productCacheProperties.getMaximumSize())
+				.expireAfterWrite(productCacheProperties.getExpireAfterWrite())
+				.recordStats()
+				.buildAsync(new AsyncCacheLoader<Integer, ProductDto>() {
+					
+					@Override
+					public CompletableFuture<ProductDto> asyncLoad(final Integer productId, final Executor executor) {
+						return productCacheLoaderExecutor.supplyAsync(() -> circuitBreakerFactory
+								.create(AppConstant.PRODUCT_SERVICE_CIRCUIT_BREAKER)
+								.run(() -> restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+										.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class)));
+					}
+					
+					@Override
+					public CompletableFuture<Map<Integer, ProductDto>> asyncLoadAll(final Iterable<? extends Integer> productIds, 
+							final Executor executor) {
+						return productCacheLoaderExecutor.supplyAsync(() -> bulkLookupClient.fetchAllByIds(
+								AppConstant.PRODUCT_SERVICE_CIRCUIT_BREAKER, 
+								AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, 
+								StreamSupport.stream(productIds.spliterator(), false)
+										.collect(Collectors.toUnmodifiableList()), 
+								new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {}, 
+								ProductDto::getProductId));
+					}
+					
+				});
+		
+		return CaffeineCacheMetrics.monitor(meterRegistry, productCache, PRODUCT_CACHE_NAME);
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,68 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class ProductCacheLoaderExecutor {
+	
+	private final ExecutorService executorService;
+	
+	public ProductCacheLoaderExecutor(final ProductCacheProperties productCacheProperties, 
+			final MeterRegistry meterRegistry) {
+		log.info("**ProductCacheLoaderExecutor, load products on {} threads, queued at {}*\n", 
+				productCacheProperties.getLoaderPoolSize(), productCacheProperties.getLoaderQueueCapacity());
+		final var threadPoolExecutor = new ThreadPoolExecutor(
+				productCacheProperties.getLoaderPoolSize(), 
+				productCacheProperties.getLoaderPoolSize(), 
+				60L, TimeUnit.SECONDS, 
+				new ArrayBlockingQueue<>(productCacheProperties.getLoaderQueueCapacity()), 
+				new CustomizableThreadFactory("product-cache-"), 
+				new ThreadPoolExecutor.AbortPolicy());
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+		this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, 
+				ProductCacheConfig.PRODUCT_CACHE_NAME);
+	}
+	
+	public <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier) {
+		try {
+			return CompletableFuture.supplyAsync(supplier, this.executorService);
+		}
+		catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		this.executorService.shutdownNow();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.cache.product")
+@Data
+public class ProductCacheProperties {
+	
+	private long maximumSize = 10_000;
+	private Duration expireAfterWrite = Duration.ofMinutes(5);
+	private int loaderPoolSize = 8;
+	private int loaderQueueCapacity = 256;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,39 @@
+package com.selimhorri.app.dto.response.collection;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class DtoKeysetPageResponse<T> {
+	
+	private Collection<T> collection;
+	private String next;
+	
+	public static <T> DtoKeysetPageResponse<T> of(final List<T> collection, final int limit, 
+			final Function<T, String> cursorExtractor) {
+		final String next = !collection.isEmpty() && collection.size() >= limit 
+				? cursorExtractor.apply(collection.get(collection.size() - 1)) 
+				: null;
+		return new DtoKeysetPageResponse<>(collection, next);
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
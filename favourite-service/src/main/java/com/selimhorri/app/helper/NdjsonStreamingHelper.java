@@ -0,0 +1,42 @@
+package com.selimhorri.app.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+public interface NdjsonStreamingHelper {
+	
+	public static <T> StreamingResponseBody stream(final ObjectMapper objectMapper, 
+			final Consumer<Consumer<T>> producer) {
+		final ObjectWriter objectWriter = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT);
+		return outputStream -> producer.accept(dto -> {
+			try {
+				outputStream.write(objectWriter.writeValueAsBytes(dto));
+				outputStream.write('\n');
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -6,6 +6,7 @@ import java.time.format.DateTimeFormatter;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,12 +15,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoKeysetPageResponse;
+import com.selimhorri.app.helper.NdjsonStreamingHelper;
 import com.selimhorri.app.service.FavouriteService;
 
 import lombok.RequiredArgsConstructor;
@@ -32,6 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteResource {
 	
 	private final FavouriteService favouriteService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll() {
@@ -39,6 +46,25 @@ public class FavouriteResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
 	}
 	
+	@GetMapping(params = "limit")
+	public ResponseEntity<DtoKeysetPageResponse<FavouriteDto>> findAll(
+			@RequestParam(value = "after", required = false) final String after, 
+			@RequestParam("limit") final Integer limit) {
+		log.info("*** FavouriteDto List, controller; fetch favourites page after id *");
+		final int pageLimit = Math.max(1, Math.min(limit, AppConstant.KEYSET_PAGE_MAX_LIMIT));
+		final var favouriteId = (after == null) ? null : parseCursor(after);
+		return ResponseEntity.ok(DtoKeysetPageResponse.of(this.favouriteService.findAllAfter(favouriteId, pageLimit), 
+				pageLimit, FavouriteResource::formatCursor));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** FavouriteDto Stream, controller; stream all favourites *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(NdjsonStreamingHelper.stream(this.objectMapper, this.favouriteService::streamAll));
+	}
+	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
 	public ResponseEntity<FavouriteDto> findById(
 			@PathVariable("userId") final String userId, 
@@ -98,6 +124,17 @@ public class FavouriteResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	private static FavouriteId parseCursor(final String cursor) {
+		final String[] keys = cursor.split(",", 3);
+		return new FavouriteId(Integer.parseInt(keys[0].strip()), Integer.parseInt(keys[1].strip()), 
+				LocalDateTime.parse(keys[2].strip(), DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT)));
+	}
+	
+	private static String formatCursor(final FavouriteDto favouriteDto) {
+		return favouriteDto.getUserId() + "," + favouriteDto.getProductId() + "," 
+				+ favouriteDto.getLikeDate().format(DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT));
+	}
+	
 	
 	
 }
@@ -1,18 +1,32 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.selimhorri.app.config.client.BulkLookupClient;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
@@ -28,25 +42,51 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
+	private final BulkLookupClient bulkLookupClient;
+	private final AsyncLoadingCache<Integer, ProductDto> productCache;
+	private final CircuitBreakerFactory<?, ?> circuitBreakerFactory;
 	
 	@Override
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		return this.enrich(this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
-					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-						return f;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public List<FavouriteDto> findAllAfter(final FavouriteId favouriteId, final int limit) {
+		log.info("*** FavouriteDto List, service; fetch favourites page after id *");
+		final var pageable = PageRequest.of(0, limit);
+		final List<Favourite> favourites = (favouriteId == null) 
+				? this.favouriteRepository.findAllByOrderByUserIdAscProductIdAscLikeDateAsc(pageable) 
+				: this.favouriteRepository.findAllAfter(favouriteId.getUserId(), 
+						favouriteId.getProductId(), favouriteId.getLikeDate(), pageable);
+		return this.enrich(favourites.stream()
+				.map(FavouriteMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<FavouriteDto> consumer) {
+		log.info("*** Void, service; stream all favourites *");
+		final List<FavouriteDto> chunk = new ArrayList<>(AppConstant.BULK_LOOKUP_CHUNK_SIZE);
+		try (final Stream<Favourite> favourites = this.favouriteRepository
+				.streamAllByOrderByUserIdAscProductIdAscLikeDateAsc()) {
+			favourites.forEach(favourite -> {
+				chunk.add(FavouriteMappingHelper.map(favourite));
+				this.entityManager.detach(favourite);
+				if (chunk.size() == AppConstant.BULK_LOOKUP_CHUNK_SIZE) {
+					this.enrich(chunk).forEach(consumer);
+					chunk.clear();
+				}
+			});
+		}
+		this.enrich(chunk).forEach(consumer);
 	}
 	
 	@Override
@@ -55,18 +95,57 @@ public class FavouriteServiceImpl implements FavouriteService {
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
 				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+					final UserDto userDto = f.getUserDto();
+					f.setUserDto(this.circuitBreakerFactory.create(AppConstant.USER_SERVICE_CIRCUIT_BREAKER)
+							.run(() -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class), 
+								throwable -> {
+									log.warn("*** FavouriteDto, service; user lookup degraded: {} *", throwable.toString());
+									return userDto;
+								}));
+					final ProductDto productDto = f.getProductDto();
+					f.setProductDto(this.productCache.get(f.getProductId())
+							.exceptionally(throwable -> {
+								log.warn("*** FavouriteDto, service; product lookup degraded: {} *", throwable.toString());
+								return productDto;
+							})
+							.join());
 					return f;
 				})
 				.orElseThrow(() -> new FavouriteNotFoundException(
 						String.format("Favourite with id: [%s] not found!", favouriteId)));
 	}
 	
+	private List<FavouriteDto> enrich(final List<FavouriteDto> favouriteDtos) {
+		
+		final Map<Integer, UserDto> userDtos = this.bulkLookupClient.fetchAllByIds(
+				AppConstant.USER_SERVICE_CIRCUIT_BREAKER, 
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, 
+				favouriteDtos.stream()
+					.map(FavouriteDto::getUserId)
+					.filter(Objects::nonNull)
+					.collect(Collectors.toCollection(TreeSet::new)), 
+				new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {}, 
+				UserDto::getUserId);
+		
+		final Map<Integer, ProductDto> productDtos = this.productCache.getAll(favouriteDtos.stream()
+				.map(FavouriteDto::getProductId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(TreeSet::new)))
+				.exceptionally(throwable -> {
+					log.warn("*** FavouriteDto List, service; product lookup degraded: {} *", throwable.toString());
+					return Map.of();
+				})
+				.join();
+		
+		favouriteDtos.forEach(f -> {
+			f.setUserDto(userDtos.getOrDefault(f.getUserId(), f.getUserDto()));
+			f.setProductDto(productDtos.getOrDefault(f.getProductId(), f.getProductDto()));
+		});
+		
+		return favouriteDtos;
+	}
+	
 	@Override
 	public FavouriteDto save(final FavouriteDto favouriteDto) {
 		return FavouriteMappingHelper.map(this.favouriteRepository
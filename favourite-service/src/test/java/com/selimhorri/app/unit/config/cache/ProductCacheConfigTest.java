@@ -0,0 +1,207 @@
+package com.selimhorri.app.unit.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.selimhorri.app.config.cache.ProductCacheConfig;
+import com.selimhorri.app.config.cache.ProductCacheLoaderExecutor;
+import com.selimhorri.app.config.cache.ProductCacheProperties;
+import com.selimhorri.app.config.client.BulkLookupClient;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductCacheConfigTest {
+
+    private static final long PRODUCT_LATENCY_MILLIS = 50;
+
+    private ExecutorService executorService;
+    private ProductCacheLoaderExecutor productCacheLoaderExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private StubProductServiceRestTemplate stubRestTemplate;
+    private ProductCacheProperties productCacheProperties;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(16);
+        meterRegistry = new SimpleMeterRegistry();
+        stubRestTemplate = new StubProductServiceRestTemplate();
+        productCacheProperties = new ProductCacheProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        if (productCacheLoaderExecutor != null)
+            productCacheLoaderExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should only fetch products missing from the cache")
+    void testRepeatedBulkLookupsHitCache() {
+        // Arrange
+        final var productCache = newProductCache();
+        final Set<Integer> hotProductIds = IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toSet());
+
+        // Act
+        IntStream.range(0, 100).forEach(i -> productCache.getAll(hotProductIds).join());
+        final Map<Integer, ProductDto> productDtos = productCache.getAll(Set.of(1, 2, 11)).join();
+
+        // Assert
+        assertThat(productDtos).containsOnlyKeys(1, 2, 11);
+        assertThat(stubRestTemplate.calls.get()).isEqualTo(2);
+        assertThat(stubRestTemplate.requestedIds).containsExactly(
+            List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), List.of(11));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ProductCacheConfig.PRODUCT_CACHE_NAME)
+            .tag("result", "miss").functionCounter().count()).isEqualTo(11.0);
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent lookups of the same product")
+    void testConcurrentLookupsAreDeduplicated() {
+        // Arrange
+        final var productCache = newProductCache();
+
+        // Act
+        final List<CompletableFuture<Map<Integer, ProductDto>>> futures = IntStream.range(0, 32)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> productCache.getAll(Set.of(1)).join(), executorService))
+            .collect(Collectors.toList());
+        futures.forEach(CompletableFuture::join);
+
+        // Assert
+        assertThat(stubRestTemplate.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load on the loader pool so a slow product does not block callers of other keys")
+    void testLoadsRunOffTheCallerThread() {
+        // Arrange
+        final var productCache = newProductCache();
+
+        // Act
+        final long start = System.nanoTime();
+        final CompletableFuture<ProductDto> slow = productCache.get(1);
+        final long getMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertThat(getMillis).isLessThan(PRODUCT_LATENCY_MILLIS);
+        assertThat(slow.join().getProductTitle()).isEqualTo("product-1");
+        assertThat(stubRestTemplate.loaderThreads).isNotEmpty().doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("Should fail the lookup rather than load on the caller when the loader pool is full")
+    void testSaturatedLoaderPoolFailsFast() {
+        // Arrange
+        productCacheProperties.setLoaderPoolSize(1);
+        productCacheProperties.setLoaderQueueCapacity(1);
+        final var productCache = newProductCache();
+
+        // Act
+        final List<CompletableFuture<ProductDto>> futures = IntStream.rangeClosed(1, 4)
+            .mapToObj(productCache::get)
+            .collect(Collectors.toList());
+
+        // Assert
+        assertThat(futures).filteredOn(CompletableFuture::isCompletedExceptionally).hasSize(2);
+        assertThat(stubRestTemplate.loaderThreads).isNotEmpty().doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("Should evict beyond the configured maximum size")
+    void testEvictionIsBoundedAndRecorded() {
+        // Arrange
+        productCacheProperties.setMaximumSize(10);
+        final var productCache = newProductCache();
+
+        // Act
+        productCache.getAll(IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList())).join();
+        productCache.synchronous().cleanUp();
+
+        // Assert
+        assertThat(productCache.synchronous().estimatedSize()).isLessThanOrEqualTo(10);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", ProductCacheConfig.PRODUCT_CACHE_NAME)
+            .functionCounter().count()).isGreaterThanOrEqualTo(90.0);
+    }
+
+    private AsyncLoadingCache<Integer, ProductDto> newProductCache() {
+        final var circuitBreakerFactory = new Resilience4JCircuitBreakerFactory();
+        productCacheLoaderExecutor = new ProductCacheLoaderExecutor(productCacheProperties, meterRegistry);
+        return new ProductCacheConfig().productCache(productCacheProperties, stubRestTemplate,
+            new BulkLookupClient(stubRestTemplate, circuitBreakerFactory), circuitBreakerFactory,
+            productCacheLoaderExecutor, meterRegistry);
+    }
+
+    private static final class StubProductServiceRestTemplate extends RestTemplate {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<List<Integer>> requestedIds = new CopyOnWriteArrayList<>();
+        private final List<String> loaderThreads = new CopyOnWriteArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getForObject(final String url, final Class<T> responseType, final Object... uriVariables) {
+            this.calls.incrementAndGet();
+            this.loaderThreads.add(Thread.currentThread().getName());
+            try {
+                Thread.sleep(PRODUCT_LATENCY_MILLIS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final var productId = Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+            return (T) ProductDto.builder().productId(productId).productTitle("product-" + productId).build();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(final String url, final HttpMethod method,
+                final HttpEntity<?> requestEntity, final ParameterizedTypeReference<T> responseType,
+                final Object... uriVariables) {
+
+            this.calls.incrementAndGet();
+            this.loaderThreads.add(Thread.currentThread().getName());
+            try {
+                Thread.sleep(PRODUCT_LATENCY_MILLIS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            final List<Integer> ids = Arrays.stream(url.substring(url.indexOf("?ids=") + 5).split(","))
+                    .map(Integer::parseInt)
+                    .collect(Collectors.toList());
+            this.requestedIds.add(ids);
+
+            return (ResponseEntity<T>) ResponseEntity.ok(new DtoCollectionResponse<>(ids.stream()
+                    .map(id -> ProductDto.builder().productId(id).productTitle("product-" + id).build())
+                    .collect(Collectors.toList())));
+        }
+
+    }
+}
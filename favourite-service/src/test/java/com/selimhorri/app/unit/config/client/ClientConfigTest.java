@@ -0,0 +1,126 @@
+package com.selimhorri.app.unit.config.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.client.ClientConfig;
+import com.selimhorri.app.config.client.HttpClientProperties;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+class ClientConfigTest {
+
+    private static final int MAX_PER_ROUTE = 8;
+    private static final int CALLERS = 16;
+    private static final int REQUESTS = 500;
+
+    private HttpServer stubServer;
+    private ExecutorService callers;
+    private SimpleMeterRegistry meterRegistry;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger serverInFlight = new AtomicInteger();
+    private final AtomicInteger serverMaxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ((Logger) LoggerFactory.getLogger("org.apache.http")).setLevel(Level.INFO);
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.setExecutor(Executors.newFixedThreadPool(CALLERS));
+        stubServer.createContext("/product-service/api/products", exchange -> {
+            serverMaxInFlight.accumulateAndGet(serverInFlight.incrementAndGet(), Math::max);
+            try {
+                clientPorts.add(exchange.getRemoteAddress().getPort());
+                Thread.sleep(2);
+                final byte[] body = "{\"productId\":1}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finally {
+                exchange.close();
+                serverInFlight.decrementAndGet();
+            }
+        });
+        stubServer.start();
+
+        final var httpClientProperties = new HttpClientProperties();
+        httpClientProperties.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        httpClientProperties.setConnectionRequestTimeout(Duration.ofSeconds(30));
+        meterRegistry = new SimpleMeterRegistry();
+        final var clientConfig = new ClientConfig();
+        connectionManager = clientConfig.poolingHttpClientConnectionManager(httpClientProperties, meterRegistry);
+        httpClient = clientConfig.httpClient(httpClientProperties, connectionManager);
+        restTemplate = clientConfig.restTemplateBean(httpClient);
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        callers.shutdownNow();
+        httpClient.close();
+        stubServer.stop(0);
+        ((ExecutorService) stubServer.getExecutor()).shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should reuse a bounded pool of keep-alive connections under concurrent load")
+    void testConcurrentLoadReusesPooledConnections() {
+        // Arrange
+        final String url = "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/product-service/api/products/1";
+
+        // Act
+        final List<CompletableFuture<String>> responses = IntStream.range(0, REQUESTS)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> restTemplate.getForObject(url, String.class), callers))
+            .collect(Collectors.toList());
+        responses.forEach(CompletableFuture::join);
+
+        // Assert
+        assertThat(responses).allSatisfy(r -> assertThat(r.join()).contains("productId"));
+        assertThat(serverMaxInFlight.get()).isLessThanOrEqualTo(MAX_PER_ROUTE);
+        assertThat(clientPorts).hasSizeLessThanOrEqualTo(MAX_PER_ROUTE);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+        assertThat(connectionManager.getTotalStats().getAvailable()).isPositive();
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+            .tag("httpclient", ClientConfig.HTTP_CLIENT_POOL_NAME).tag("state", "leased").gauge().value()).isZero();
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+            .tag("httpclient", ClientConfig.HTTP_CLIENT_POOL_NAME).tag("state", "available").gauge().value())
+            .isEqualTo(clientPorts.size());
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.pending")
+            .tag("httpclient", ClientConfig.HTTP_CLIENT_POOL_NAME).gauge().value()).isZero();
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.route.max.default")
+            .tag("httpclient", ClientConfig.HTTP_CLIENT_POOL_NAME).gauge().value()).isEqualTo(MAX_PER_ROUTE);
+    }
+}
@@ -0,0 +1,143 @@
+package com.selimhorri.app.unit.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.cache.ProductCacheConfig;
+import com.selimhorri.app.config.cache.ProductCacheLoaderExecutor;
+import com.selimhorri.app.config.cache.ProductCacheProperties;
+import com.selimhorri.app.config.client.BulkLookupClient;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.FavouriteRepository;
+import com.selimhorri.app.service.impl.FavouriteServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ExtendWith(MockitoExtension.class)
+@Slf4j
+class FavouriteServiceImplBenchmarkTest {
+
+    private static final long SIMULATED_HOP_LATENCY_MILLIS = 2;
+    private static final int DISTINCT_USERS = 1_000;
+    private static final int DISTINCT_PRODUCTS = 5_000;
+
+    @Mock
+    private FavouriteRepository favouriteRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @ParameterizedTest(name = "{0} favourites")
+    @ValueSource(ints = {100, 1_000, 10_000, 50_000})
+    @DisplayName("Remote call count should grow with distinct ids, not with favourite rows")
+    void benchmarkFindAll(final int rows) {
+
+        final var likeDate = LocalDateTime.now();
+        final List<Favourite> favourites = IntStream.range(0, rows)
+                .mapToObj(i -> Favourite.builder()
+                        .userId(i % DISTINCT_USERS + 1)
+                        .productId(i % DISTINCT_PRODUCTS + 1)
+                        .likeDate(likeDate.plusNanos(i * 1000L))
+                        .build())
+                .collect(Collectors.toList());
+        when(this.favouriteRepository.findAll()).thenReturn(favourites);
+
+        final var stubRestTemplate = new StubRestTemplate();
+        final var circuitBreakerFactory = new Resilience4JCircuitBreakerFactory();
+        final var bulkLookupClient = new BulkLookupClient(stubRestTemplate, circuitBreakerFactory);
+        final var favouriteService = new FavouriteServiceImpl(this.favouriteRepository, this.entityManager, stubRestTemplate,
+                bulkLookupClient, new ProductCacheConfig().productCache(new ProductCacheProperties(), stubRestTemplate,
+                        bulkLookupClient, circuitBreakerFactory,
+                        new ProductCacheLoaderExecutor(new ProductCacheProperties(), new SimpleMeterRegistry()),
+                        new SimpleMeterRegistry()),
+                circuitBreakerFactory);
+
+        final long start = System.nanoTime();
+        final List<FavouriteDto> result = favouriteService.findAll();
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        final int distinctUsers = Math.min(rows, DISTINCT_USERS);
+        final int distinctProducts = Math.min(rows, DISTINCT_PRODUCTS);
+        final int expectedCalls = chunks(distinctUsers) + chunks(distinctProducts);
+        final int perRowCalls = 2 * rows;
+
+        log.info("rows={} | batched: calls={}, elapsed={}ms | per-row: calls={}, simulated={}ms", 
+                rows, stubRestTemplate.calls.get(), elapsedMillis, 
+                perRowCalls, perRowCalls * SIMULATED_HOP_LATENCY_MILLIS);
+
+        assertThat(result).hasSize(rows);
+        assertThat(result).allSatisfy(f -> {
+            assertThat(f.getUserDto().getFirstName()).isEqualTo("user-" + f.getUserId());
+            assertThat(f.getProductDto().getProductTitle()).isEqualTo("product-" + f.getProductId());
+        });
+        assertThat(stubRestTemplate.calls.get()).isEqualTo(expectedCalls);
+    }
+
+    private static int chunks(final int ids) {
+        return (ids + AppConstant.BULK_LOOKUP_CHUNK_SIZE - 1) / AppConstant.BULK_LOOKUP_CHUNK_SIZE;
+    }
+
+    private static final class StubRestTemplate extends RestTemplate {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(final String url, final HttpMethod method, 
+                final HttpEntity<?> requestEntity, final ParameterizedTypeReference<T> responseType, 
+                final Object... uriVariables) {
+
+            this.calls.incrementAndGet();
+            try {
+                Thread.sleep(SIMULATED_HOP_LATENCY_MILLIS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            final List<Integer> ids = Arrays.stream(url.substring(url.indexOf("?ids=") + 5).split(","))
+                    .map(Integer::parseInt)
+                    .collect(Collectors.toList());
+
+            if (url.startsWith(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL))
+                return (ResponseEntity<T>) ResponseEntity.ok(new DtoCollectionResponse<>(ids.stream()
+                        .map(id -> UserDto.builder().userId(id).firstName("user-" + id).build())
+                        .collect(Collectors.toList())));
+
+            return (ResponseEntity<T>) ResponseEntity.ok(new DtoCollectionResponse<>(ids.stream()
+                    .map(id -> ProductDto.builder().productId(id).productTitle("product-" + id).build())
+                    .collect(Collectors.toList())));
+        }
+
+    }
+}
@@ -10,35 +10,50 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.EntityManager;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.cache.ProductCacheConfig;
+import com.selimhorri.app.config.cache.ProductCacheLoaderExecutor;
+import com.selimhorri.app.config.cache.ProductCacheProperties;
+import com.selimhorri.app.config.client.BulkLookupClient;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.repository.FavouriteRepository;
 import com.selimhorri.app.service.impl.FavouriteServiceImpl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class FavouriteServiceImplTest {
 
     @Mock
     private FavouriteRepository favouriteRepository;
     
+    @Mock
+    private EntityManager entityManager;
+
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
     private FavouriteServiceImpl favouriteService;
 
     private Favourite favourite1;
@@ -54,6 +69,14 @@ class FavouriteServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        final var circuitBreakerFactory = new Resilience4JCircuitBreakerFactory();
+        final var bulkLookupClient = new BulkLookupClient(restTemplate, circuitBreakerFactory);
+        favouriteService = new FavouriteServiceImpl(favouriteRepository, entityManager, restTemplate, bulkLookupClient,
+            new ProductCacheConfig().productCache(new ProductCacheProperties(), restTemplate, bulkLookupClient,
+                circuitBreakerFactory, new ProductCacheLoaderExecutor(new ProductCacheProperties(), new SimpleMeterRegistry()),
+                new SimpleMeterRegistry()),
+            circuitBreakerFactory);
+
         // Create test data
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT);
         likeDate1 = LocalDateTime.parse("15-01-2023__10:30:00:000000", formatter);
@@ -107,14 +130,12 @@ class FavouriteServiceImplTest {
     void testFindAll() {
         // Arrange
         when(favouriteRepository.findAll()).thenReturn(Arrays.asList(favourite1, favourite2));
-        when(restTemplate.getForObject(eq(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/1"), eq(UserDto.class)))
-            .thenReturn(userDto);
-        when(restTemplate.getForObject(eq(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/2"), eq(UserDto.class)))
-            .thenReturn(userDto);
-        when(restTemplate.getForObject(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/101"), eq(ProductDto.class)))
-            .thenReturn(productDto);
-        when(restTemplate.getForObject(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/102"), eq(ProductDto.class)))
-            .thenReturn(productDto);
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids=1,2"), eq(HttpMethod.GET), 
+                isNull(), any(ParameterizedTypeReference.class)))
+            .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(userDto))));
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids=101,102"), eq(HttpMethod.GET), 
+                isNull(), any(ParameterizedTypeReference.class)))
+            .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(productDto))));
 
         // Act
         List<FavouriteDto> result = favouriteService.findAll();
@@ -125,7 +146,13 @@ class FavouriteServiceImplTest {
         assertThat(result.get(0).getProductId()).isEqualTo(101);
         assertThat(result.get(1).getUserId()).isEqualTo(2);
         assertThat(result.get(1).getProductId()).isEqualTo(102);
+        assertThat(result.get(0).getUserDto().getFirstName()).isEqualTo("John");
+        assertThat(result.get(0).getProductDto().getProductTitle()).isEqualTo("Smartphone");
+        assertThat(result.get(1).getUserDto().getUserId()).isEqualTo(2);
+        assertThat(result.get(1).getUserDto().getFirstName()).isNull();
         verify(favouriteRepository, times(1)).findAll();
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(restTemplate, never()).getForObject(anyString(), eq(UserDto.class));
     }
 
     @Test
@@ -149,6 +176,27 @@ class FavouriteServiceImplTest {
         verify(favouriteRepository, times(1)).findById(favouriteId1);
     }
 
+    @Test
+    @DisplayName("Should fall back to partial DTOs when downstream services fail")
+    void testFindByIdDegradesWhenDownstreamFails() {
+        // Arrange
+        when(favouriteRepository.findById(favouriteId1)).thenReturn(Optional.of(favourite1));
+        when(restTemplate.getForObject(eq(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/1"), eq(UserDto.class)))
+            .thenThrow(new ResourceAccessException("user-service unavailable"));
+        when(restTemplate.getForObject(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/101"), eq(ProductDto.class)))
+            .thenThrow(new ResourceAccessException("product-service unavailable"));
+
+        // Act
+        FavouriteDto result = favouriteService.findById(favouriteId1);
+
+        // Assert
+        assertThat(result).isNotNull();
+        assertThat(result.getUserDto().getUserId()).isEqualTo(1);
+        assertThat(result.getUserDto().getFirstName()).isNull();
+        assertThat(result.getProductDto().getProductId()).isEqualTo(101);
+        assertThat(result.getProductDto().getProductTitle()).isNull();
+    }
+
     @Test
     @DisplayName("Should throw exception when favourite ID not found")
     void testFindByIdNotFound() {
@@ -0,0 +1,78 @@
+package com.selimhorri.app.config.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BulkLookupClient {
+	
+	private final RestTemplate restTemplate;
+	private final CircuitBreakerFactory<?, ?> circuitBreakerFactory;
+	
+	public <T> Map<Integer, T> fetchAllByIds(final String circuitBreakerId, final String apiUrl, final Collection<Integer> ids, 
+			final ParameterizedTypeReference<DtoCollectionResponse<T>> responseType, 
+			final Function<T, Integer> idExtractor) {
+		
+		final Map<Integer, T> resolved = new HashMap<>(ids.size());
+		final List<Integer> sortedIds = ids.stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.sorted()
+				.collect(Collectors.toCollection(ArrayList::new));
+		
+		for (int from = 0; from < sortedIds.size(); from += AppConstant.BULK_LOOKUP_CHUNK_SIZE) {
+			final String joinedIds = sortedIds
+					.subList(from, Math.min(from + AppConstant.BULK_LOOKUP_CHUNK_SIZE, sortedIds.size()))
+					.stream()
+						.map(String::valueOf)
+						.collect(Collectors.joining(","));
+			final DtoCollectionResponse<T> response = this.circuitBreakerFactory.create(circuitBreakerId)
+					.run(() -> this.restTemplate
+							.exchange(apiUrl + "?ids=" + joinedIds, HttpMethod.GET, null, responseType)
+							.getBody(), throwable -> {
+						log.warn("**BulkLookupClient, {} lookup degraded to partial enrichment: {}*\n", 
+								circuitBreakerId, throwable.toString());
+						return null;
+					});
+			if (response != null && response.getCollection() != null)
+				response.getCollection().stream()
+						.filter(Objects::nonNull)
+						.forEach(t -> resolved.put(idExtractor.apply(t), t));
+		}
+		
+		return resolved;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -11,6 +11,13 @@ public abstract class AppConstant {
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	
+	public static final int KEYSET_PAGE_MAX_LIMIT = 1000;
+	public static final String STREAM_FETCH_SIZE = "500";
+	
+	public static final int BULK_LOOKUP_CHUNK_SIZE = 500;
+	
+	public static final String USER_SERVICE_CIRCUIT_BREAKER = "userService";
+	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
 		
@@ -1,12 +1,15 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.CartDto;
 
 public interface CartService {
 	
 	List<CartDto> findAll();
+	List<CartDto> findAllAfter(final Integer cartId, final int limit);
+	void streamAll(final Consumer<CartDto> consumer);
 	CartDto findById(final Integer cartId);
 	CartDto save(final CartDto cartDto);
 	CartDto update(final CartDto cartDto);
@@ -1,12 +1,17 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.OrderDto;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	List<OrderDto> findAllAfter(final Integer orderId, final int limit);
+	List<OrderDto> findAllByIds(final Collection<Integer> orderIds);
+	void streamAll(final Consumer<OrderDto> consumer);
 	OrderDto findById(final Integer orderId);
 	OrderDto save(final OrderDto orderDto);
 	OrderDto update(final OrderDto orderDto);
@@ -1,16 +1,29 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.client.BulkLookupClient;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
@@ -26,21 +39,45 @@ import lombok.extern.slf4j.Slf4j;
 public class CartServiceImpl implements CartService {
 	
 	private final CartRepository cartRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
+	private final BulkLookupClient bulkLookupClient;
+	private final CircuitBreakerFactory<?, ?> circuitBreakerFactory;
 	
 	@Override
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		return this.enrichAll(this.cartRepository.findAll()
 				.stream()
 					.map(CartMappingHelper::map)
-					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-						return c;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public List<CartDto> findAllAfter(final Integer cartId, final int limit) {
+		log.info("*** CartDto List, service; fetch carts page after id *");
+		return this.enrichAll(this.cartRepository.findByCartIdGreaterThanOrderByCartIdAsc(cartId, PageRequest.of(0, limit))
+				.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<CartDto> consumer) {
+		log.info("*** Void, service; stream all carts *");
+		final List<CartDto> chunk = new ArrayList<>(AppConstant.BULK_LOOKUP_CHUNK_SIZE);
+		try (final Stream<Cart> carts = this.cartRepository.streamAllByOrderByCartIdAsc()) {
+			carts.forEach(cart -> {
+				chunk.add(CartMappingHelper.map(cart));
+				this.entityManager.detach(cart);
+				if (chunk.size() == AppConstant.BULK_LOOKUP_CHUNK_SIZE) {
+					this.enrichAll(chunk).forEach(consumer);
+					chunk.clear();
+				}
+			});
+		}
+		this.enrichAll(chunk).forEach(consumer);
 	}
 	
 	@Override
@@ -48,15 +85,43 @@ public class CartServiceImpl implements CartService {
 		log.info("*** CartDto, service; fetch cart by id *");
 		return this.cartRepository.findById(cartId)
 				.map(CartMappingHelper::map)
-				.map(c -> {
-					c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-					return c;
-				})
+				.map(this::enrich)
 				.orElseThrow(() -> new CartNotFoundException(String
 						.format("Cart with id: %d not found", cartId)));
 	}
 	
+	private List<CartDto> enrichAll(final List<CartDto> cartDtos) {
+		
+		final Map<Integer, UserDto> userDtos = this.bulkLookupClient.fetchAllByIds(
+				AppConstant.USER_SERVICE_CIRCUIT_BREAKER, 
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, 
+				cartDtos.stream()
+					.map(CartDto::getUserDto)
+					.filter(Objects::nonNull)
+					.map(UserDto::getUserId)
+					.collect(Collectors.toCollection(TreeSet::new)), 
+				new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {}, 
+				UserDto::getUserId);
+		
+		cartDtos.stream()
+				.filter(c -> c.getUserDto() != null)
+				.forEach(c -> c.setUserDto(userDtos.getOrDefault(c.getUserDto().getUserId(), c.getUserDto())));
+		
+		return cartDtos;
+	}
+	
+	private CartDto enrich(final CartDto cartDto) {
+		final UserDto userDto = cartDto.getUserDto();
+		cartDto.setUserDto(this.circuitBreakerFactory.create(AppConstant.USER_SERVICE_CIRCUIT_BREAKER)
+				.run(() -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+						.USER_SERVICE_API_URL + "/" + userDto.getUserId(), UserDto.class), 
+					throwable -> {
+						log.warn("*** CartDto, service; user lookup degraded: {} *", throwable.toString());
+						return userDto;
+					}));
+		return cartDto;
+	}
+	
 	@Override
 	public CartDto save(final CartDto cartDto) {
 		log.info("*** CartDto, service; save cart *");
@@ -1,12 +1,18 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.helper.OrderMappingHelper;
@@ -23,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
 	
 	@Override
 	public List<OrderDto> findAll() {
@@ -34,6 +41,36 @@ public class OrderServiceImpl implements OrderService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<OrderDto> findAllAfter(final Integer orderId, final int limit) {
+		log.info("*** OrderDto List, service; fetch orders page after id *");
+		return this.orderRepository.findByOrderIdGreaterThanOrderByOrderIdAsc(orderId, PageRequest.of(0, limit))
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public List<OrderDto> findAllByIds(final Collection<Integer> orderIds) {
+		log.info("*** OrderDto List, service; fetch all orders by ids *");
+		return this.orderRepository.findAllByOrderIdIn(orderIds)
+				.stream()
+					.map(OrderMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public void streamAll(final Consumer<OrderDto> consumer) {
+		log.info("*** Void, service; stream all orders *");
+		try (final Stream<Order> orders = this.orderRepository.streamAllByOrderByOrderIdAsc()) {
+			orders.forEach(order -> {
+				consumer.accept(OrderMappingHelper.map(order));
+				this.entityManager.detach(order);
+			});
+		}
+	}
+	
 	@Override
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
@@ -0,0 +1,90 @@
+package com.selimhorri.app.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.repository.OrderRepository;
+import com.selimhorri.app.service.impl.OrderServiceImpl;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderRepositoryTest {
+
+    private static final int CARTS = 20;
+    private static final int ORDERS_PER_CART = 3;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private OrderServiceImpl orderService;
+    private Statistics statistics;
+    private List<Integer> orderIds;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderServiceImpl(orderRepository, entityManager);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        orderIds = IntStream.range(0, CARTS).boxed().flatMap(i -> {
+            final Cart cart = Cart.builder().userId(1_000 + i).build();
+            entityManager.persist(cart);
+            return IntStream.range(0, ORDERS_PER_CART).mapToObj(j -> {
+                final Order order = Order.builder()
+                    .orderDate(LocalDateTime.now())
+                    .orderDesc("order-" + i + "-" + j)
+                    .orderFee(10.0 * (j + 1))
+                    .cart(cart)
+                    .build();
+                entityManager.persist(order);
+                return order.getOrderId();
+            });
+        }).collect(Collectors.toList());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load orders by ids with their carts in a single SQL statement")
+    void testFindAllByIdsUsesSingleStatement() {
+        // Act
+        final List<OrderDto> orderDtos = orderService.findAllByIds(orderIds);
+
+        // Assert
+        assertThat(orderDtos).hasSize(CARTS * ORDERS_PER_CART)
+            .allSatisfy(o -> assertThat(o.getCartDto().getCartId()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should need one extra select per cart without the cart entity graph")
+    void testFindAllByIdWithoutEntityGraphLoadsCartsSeparately() {
+        // Act
+        final List<Order> orders = orderRepository.findAllById(orderIds);
+
+        // Assert
+        assertThat(orders).hasSize(CARTS * ORDERS_PER_CART);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + CARTS);
+    }
+
+}
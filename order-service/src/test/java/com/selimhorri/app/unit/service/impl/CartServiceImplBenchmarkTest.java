@@ -0,0 +1,118 @@
+package com.selimhorri.app.unit.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.client.BulkLookupClient;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.dto.CartDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.CartRepository;
+import com.selimhorri.app.service.impl.CartServiceImpl;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ExtendWith(MockitoExtension.class)
+@Slf4j
+class CartServiceImplBenchmarkTest {
+
+    private static final long SIMULATED_HOP_LATENCY_MILLIS = 2;
+    private static final int DISTINCT_USERS = 1_000;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @ParameterizedTest(name = "{0} carts")
+    @ValueSource(ints = {100, 1_000, 10_000})
+    @DisplayName("User-service call count should grow with distinct owners, not with carts")
+    void benchmarkFindAll(final int rows) {
+
+        final List<Cart> carts = IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> Cart.builder()
+                        .cartId(i)
+                        .userId(i % DISTINCT_USERS + 1)
+                        .build())
+                .collect(Collectors.toList());
+        when(this.cartRepository.findAll()).thenReturn(carts);
+
+        final var stubRestTemplate = new StubRestTemplate();
+        final var circuitBreakerFactory = new Resilience4JCircuitBreakerFactory();
+        final var cartService = new CartServiceImpl(this.cartRepository, this.entityManager, stubRestTemplate,
+                new BulkLookupClient(stubRestTemplate, circuitBreakerFactory), circuitBreakerFactory);
+
+        final long start = System.nanoTime();
+        final List<CartDto> result = cartService.findAll();
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        final int expectedCalls = chunks(Math.min(rows, DISTINCT_USERS));
+
+        log.info("rows={} | batched: calls={}, elapsed={}ms | per-row: calls={}, simulated={}ms",
+                rows, stubRestTemplate.calls.get(), elapsedMillis,
+                rows, rows * SIMULATED_HOP_LATENCY_MILLIS);
+
+        assertThat(result).hasSize(rows);
+        assertThat(result).allSatisfy(c ->
+                assertThat(c.getUserDto().getFirstName()).isEqualTo("user-" + c.getUserId()));
+        assertThat(stubRestTemplate.calls.get()).isEqualTo(expectedCalls);
+    }
+
+    private static int chunks(final int ids) {
+        return (ids + AppConstant.BULK_LOOKUP_CHUNK_SIZE - 1) / AppConstant.BULK_LOOKUP_CHUNK_SIZE;
+    }
+
+    private static final class StubRestTemplate extends RestTemplate {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(final String url, final HttpMethod method,
+                final HttpEntity<?> requestEntity, final ParameterizedTypeReference<T> responseType,
+                final Object... uriVariables) {
+
+            this.calls.incrementAndGet();
+            try {
+                Thread.sleep(SIMULATED_HOP_LATENCY_MILLIS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            final List<Integer> ids = Arrays.stream(url.substring(url.indexOf("?ids=") + 5).split(","))
+                    .map(Integer::parseInt)
+                    .collect(Collectors.toList());
+
+            return (ResponseEntity<T>) ResponseEntity.ok(new DtoCollectionResponse<>(ids.stream()
+                    .map(id -> UserDto.builder().userId(id).firstName("user-" + id).build())
+                    .collect(Collectors.toList())));
+        }
+
+    }
+}
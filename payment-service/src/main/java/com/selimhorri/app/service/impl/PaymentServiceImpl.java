@@ -1,16 +1,29 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.client.BulkLookupClient;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
@@ -26,21 +39,45 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
+	private final CircuitBreakerFactory<?, ?> circuitBreakerFactory;
+	private final BulkLookupClient bulkLookupClient;
 	
 	@Override
 	public List<PaymentDto> findAll() {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		return this.enrichAll(this.paymentRepository.findAll()
 				.stream()
 					.map(PaymentMappingHelper::map)
-					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-						return p;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public List<PaymentDto> findAllAfter(final Integer paymentId, final int limit) {
+		log.info("*** PaymentDto List, service; fetch payments page after id *");
+		return this.enrichAll(this.paymentRepository.findByPaymentIdGreaterThanOrderByPaymentIdAsc(paymentId, PageRequest.of(0, limit))
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<PaymentDto> consumer) {
+		log.info("*** Void, service; stream all payments *");
+		final List<PaymentDto> chunk = new ArrayList<>(AppConstant.BULK_LOOKUP_CHUNK_SIZE);
+		try (final Stream<Payment> payments = this.paymentRepository.streamAllByOrderByPaymentIdAsc()) {
+			payments.forEach(payment -> {
+				chunk.add(PaymentMappingHelper.map(payment));
+				this.entityManager.detach(payment);
+				if (chunk.size() == AppConstant.BULK_LOOKUP_CHUNK_SIZE) {
+					this.enrichAll(chunk).forEach(consumer);
+					chunk.clear();
+				}
+			});
+		}
+		this.enrichAll(chunk).forEach(consumer);
 	}
 	
 	@Override
@@ -48,14 +85,42 @@ public class PaymentServiceImpl implements PaymentService {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
-				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-					return p;
-				})
+				.map(this::enrich)
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
 	}
 	
+	private List<PaymentDto> enrichAll(final List<PaymentDto> paymentDtos) {
+		
+		final Map<Integer, OrderDto> orderDtos = this.bulkLookupClient.fetchAllByIds(
+				AppConstant.ORDER_SERVICE_CIRCUIT_BREAKER, 
+				AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL, 
+				paymentDtos.stream()
+					.map(PaymentDto::getOrderDto)
+					.filter(Objects::nonNull)
+					.map(OrderDto::getOrderId)
+					.collect(Collectors.toCollection(TreeSet::new)), 
+				new ParameterizedTypeReference<DtoCollectionResponse<OrderDto>>() {}, 
+				OrderDto::getOrderId);
+		
+		paymentDtos.stream()
+				.filter(p -> p.getOrderDto() != null)
+				.forEach(p -> p.setOrderDto(orderDtos.getOrDefault(p.getOrderDto().getOrderId(), p.getOrderDto())));
+		
+		return paymentDtos;
+	}
+	
+	private PaymentDto enrich(final PaymentDto paymentDto) {
+		final OrderDto orderDto = paymentDto.getOrderDto();
+		paymentDto.setOrderDto(this.circuitBreakerFactory.create(AppConstant.ORDER_SERVICE_CIRCUIT_BREAKER)
+				.run(() -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+						.ORDER_SERVICE_API_URL + "/" + orderDto.getOrderId(), OrderDto.class), 
+					throwable -> {
+						log.warn("*** PaymentDto, service; order lookup degraded: {} *", throwable.toString());
+						return orderDto;
+					}));
+		return paymentDto;
+	}
+	
 	@Override
 	public PaymentDto save(final PaymentDto paymentDto) {
 		log.info("*** PaymentDto, service; save payment *");
@@ -0,0 +1,140 @@
+package com.selimhorri.app.unit.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.client.BulkLookupClient;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
+import com.selimhorri.app.domain.PaymentStatus;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.PaymentRepository;
+import com.selimhorri.app.service.impl.PaymentServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceImplTest {
+
+    private static final int DISTINCT_ORDERS = 1_200;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private List<Payment> payments;
+
+    @BeforeEach
+    void setUp() {
+        payments = IntStream.rangeClosed(1, 1_500)
+            .mapToObj(i -> Payment.builder()
+                .paymentId(i)
+                .orderId(i % DISTINCT_ORDERS + 1)
+                .isPayed(false)
+                .paymentStatus(PaymentStatus.NOT_STARTED)
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Should look up distinct orders in chunks instead of once per payment")
+    void testFindAllChunksOrderLookups() {
+        // Arrange
+        when(paymentRepository.findAll()).thenReturn(payments);
+        final var stubRestTemplate = new StubOrderServiceRestTemplate(0);
+
+        // Act
+        final List<PaymentDto> paymentDtos = newPaymentService(stubRestTemplate).findAll();
+
+        // Assert
+        assertThat(paymentDtos).hasSize(payments.size())
+            .allSatisfy(p -> assertThat(p.getOrderDto().getOrderDesc())
+                .isEqualTo("order-" + p.getOrderDto().getOrderId()));
+        assertThat(stubRestTemplate.calls.get())
+            .isEqualTo((DISTINCT_ORDERS + AppConstant.BULK_LOOKUP_CHUNK_SIZE - 1) / AppConstant.BULK_LOOKUP_CHUNK_SIZE);
+        assertThat(stubRestTemplate.maxChunkSize.get()).isEqualTo(AppConstant.BULK_LOOKUP_CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should keep the order id and enrich the other chunks when one chunk fails")
+    void testFindAllDegradesWhenChunkFails() {
+        // Arrange
+        when(paymentRepository.findAll()).thenReturn(payments);
+        final int failingChunkStart = AppConstant.BULK_LOOKUP_CHUNK_SIZE + 1;
+        final var stubRestTemplate = new StubOrderServiceRestTemplate(failingChunkStart);
+
+        // Act
+        final List<PaymentDto> paymentDtos = newPaymentService(stubRestTemplate).findAll();
+
+        // Assert
+        assertThat(paymentDtos).hasSize(payments.size());
+        assertThat(paymentDtos).allSatisfy(p -> {
+            final OrderDto orderDto = p.getOrderDto();
+            final boolean inFailingChunk = orderDto.getOrderId() >= failingChunkStart
+                && orderDto.getOrderId() < failingChunkStart + AppConstant.BULK_LOOKUP_CHUNK_SIZE;
+            assertThat(orderDto.getOrderDesc()).isEqualTo(inFailingChunk ? null : "order-" + orderDto.getOrderId());
+        });
+        assertThat(stubRestTemplate.calls.get()).isEqualTo(3);
+    }
+
+    private PaymentServiceImpl newPaymentService(final RestTemplate restTemplate) {
+        final var circuitBreakerFactory = new Resilience4JCircuitBreakerFactory();
+        return new PaymentServiceImpl(paymentRepository, entityManager, restTemplate, circuitBreakerFactory,
+            new BulkLookupClient(restTemplate, circuitBreakerFactory));
+    }
+
+    private static final class StubOrderServiceRestTemplate extends RestTemplate {
+
+        private final int failingChunkStart;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger maxChunkSize = new AtomicInteger();
+
+        private StubOrderServiceRestTemplate(final int failingChunkStart) {
+            this.failingChunkStart = failingChunkStart;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(final String url, final HttpMethod method,
+                final HttpEntity<?> requestEntity, final ParameterizedTypeReference<T> responseType,
+                final Object... uriVariables) {
+
+            this.calls.incrementAndGet();
+            final List<Integer> ids = Arrays.stream(url.substring(url.indexOf("?ids=") + 5).split(","))
+                .map(Integer::parseInt)
+                .collect(Collectors.toList());
+            this.maxChunkSize.accumulateAndGet(ids.size(), Math::max);
+            if (ids.get(0) == this.failingChunkStart)
+                throw new ResourceAccessException("order-service unavailable");
+
+            return (ResponseEntity<T>) ResponseEntity.ok(new DtoCollectionResponse<>(ids.stream()
+                .map(id -> OrderDto.builder().orderId(id).orderDesc("order-" + id).build())
+                .collect(Collectors.toList())));
+        }
+
+    }
+}
@@ -0,0 +1,225 @@
+package com.selimhorri.app.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.selimhorri.app.config.bulk.BulkImportProperties;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.ProductImportResponse;
+import com.selimhorri.app.exception.wrapper.ProductImportException;
+import com.selimhorri.app.helper.ProductCsvHelper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class ProductBulkImporter {
+	
+	private static final String INSERT_PRODUCT = "INSERT INTO products "
+			+ "(category_id, product_title, image_url, sku, price_unit, quantity) VALUES (?, ?, ?, ?, ?, ?)";
+	private static final int[] INSERT_PRODUCT_TYPES = {
+		Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.INTEGER
+	};
+	
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final BulkImportProperties bulkImportProperties;
+	private final ObjectReader ndjsonReader;
+	private final Counter importedCounter;
+	private final Counter rejectedCounter;
+	private final Timer batchTimer;
+	
+	public ProductBulkImporter(final JdbcTemplate jdbcTemplate, 
+			final PlatformTransactionManager transactionManager, 
+			final BulkImportProperties bulkImportProperties, 
+			final ObjectMapper objectMapper, 
+			final MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.bulkImportProperties = bulkImportProperties;
+		this.ndjsonReader = objectMapper.readerFor(ProductDto.class)
+				.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		this.importedCounter = Counter.builder("products.import.records")
+				.tag("outcome", "imported")
+				.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("products.import.records")
+				.tag("outcome", "rejected")
+				.register(meterRegistry);
+		this.batchTimer = Timer.builder("products.import.batch")
+				.register(meterRegistry);
+	}
+	
+	public ProductImportResponse importAll(final Reader reader, final ProductRecordFormat format) throws IOException {
+		final long start = System.nanoTime();
+		final BufferedReader bufferedReader = reader instanceof BufferedReader 
+				? (BufferedReader) reader 
+				: new BufferedReader(reader, 64 * 1024);
+		final Batch batch = new Batch();
+		
+		Function<String, ProductDto> parser = format == ProductRecordFormat.NDJSON ? this::readNdjson : null;
+		int lineNumber = 0;
+		String line;
+		while ((line = bufferedReader.readLine()) != null) {
+			lineNumber++;
+			if (line.isBlank())
+				continue;
+			if (parser == null) {
+				parser = csvParser(line);
+				continue;
+			}
+			try {
+				batch.add(lineNumber, toRow(validate(parser.apply(line))));
+			}
+			catch (RuntimeException e) {
+				batch.reject(lineNumber, e.getMessage());
+			}
+			if (batch.size() >= this.bulkImportProperties.getBatchSize())
+				this.flush(batch);
+		}
+		this.flush(batch);
+		
+		final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		log.info("**ProductBulkImporter, imported {} and rejected {} products in {} ms*\n", 
+				batch.imported, batch.rejected, elapsedMillis);
+		return ProductImportResponse.builder()
+				.imported(batch.imported)
+				.rejected(batch.rejected)
+				.elapsedMillis(elapsedMillis)
+				.errors(batch.errors)
+				.build();
+	}
+	
+	private void flush(final Batch batch) {
+		if (batch.size() == 0)
+			return;
+		try {
+			this.batchTimer.record(() -> this.transactionTemplate.executeWithoutResult(status -> 
+					this.jdbcTemplate.batchUpdate(INSERT_PRODUCT, batch.rows, INSERT_PRODUCT_TYPES)));
+			batch.imported(batch.size());
+		}
+		catch (DataAccessException e) {
+			log.info("**ProductBulkImporter, batch failed, retrying {} rows one by one*\n", batch.size());
+			for (int i = 0; i < batch.size(); i++) {
+				final Object[] row = batch.rows.get(i);
+				try {
+					this.transactionTemplate.executeWithoutResult(status -> 
+							this.jdbcTemplate.update(INSERT_PRODUCT, row, INSERT_PRODUCT_TYPES));
+					batch.imported(1);
+				}
+				catch (DataAccessException rowException) {
+					batch.reject(batch.lineNumbers.get(i), rowException.getMostSpecificCause().getMessage());
+				}
+			}
+		}
+		batch.clear();
+	}
+	
+	private static Function<String, ProductDto> csvParser(final String headerLine) {
+		try {
+			return ProductCsvHelper.parser(headerLine);
+		}
+		catch (IllegalArgumentException e) {
+			throw new ProductImportException(e.getMessage(), e);
+		}
+	}
+	
+	private ProductDto readNdjson(final String line) {
+		try {
+			return this.ndjsonReader.readValue(line);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException(e.getOriginalMessage(), e);
+		}
+	}
+	
+	private static ProductDto validate(final ProductDto productDto) {
+		if (productDto.getProductTitle() == null || productDto.getProductTitle().isBlank())
+			throw new IllegalArgumentException("productTitle must not be blank");
+		if (productDto.getSku() == null || productDto.getSku().isBlank())
+			throw new IllegalArgumentException("sku must not be blank");
+		if (productDto.getPriceUnit() == null || productDto.getPriceUnit() < 0)
+			throw new IllegalArgumentException("priceUnit must be a non-negative number");
+		if (productDto.getQuantity() == null || productDto.getQuantity() < 0)
+			throw new IllegalArgumentException("quantity must be a non-negative integer");
+		return productDto;
+	}
+	
+	private static Object[] toRow(final ProductDto productDto) {
+		return new Object[] {
+			productDto.getCategoryDto() != null ? productDto.getCategoryDto().getCategoryId() : null, 
+			productDto.getProductTitle(), 
+			productDto.getImageUrl(), 
+			productDto.getSku(), 
+			productDto.getPriceUnit(), 
+			productDto.getQuantity()
+		};
+	}
+	
+	private final class Batch {
+		
+		private final List<Object[]> rows = new ArrayList<>();
+		private final List<Integer> lineNumbers = new ArrayList<>();
+		private final List<String> errors = new ArrayList<>();
+		private long imported;
+		private long rejected;
+		
+		private void add(final int lineNumber, final Object[] row) {
+			this.lineNumbers.add(lineNumber);
+			this.rows.add(row);
+		}
+		
+		private int size() {
+			return this.rows.size();
+		}
+		
+		private void clear() {
+			this.rows.clear();
+			this.lineNumbers.clear();
+		}
+		
+		private void imported(final int count) {
+			this.imported += count;
+			importedCounter.increment(count);
+		}
+		
+		private void reject(final int lineNumber, final String message) {
+			this.rejected++;
+			rejectedCounter.increment();
+			if (this.errors.size() < bulkImportProperties.getMaxReportedErrors())
+				this.errors.add(String.format("line %d: %s", lineNumber, message));
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
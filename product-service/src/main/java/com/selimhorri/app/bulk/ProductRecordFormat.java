@@ -0,0 +1,8 @@
+package com.selimhorri.app.bulk;
+
+public enum ProductRecordFormat {
+	
+	CSV,
+	NDJSON;
+	
+}
@@ -0,0 +1,22 @@
+package com.selimhorri.app.config.bulk;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BulkImportProperties.class)
+public class BulkImportConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
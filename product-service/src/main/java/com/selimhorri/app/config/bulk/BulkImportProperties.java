@@ -0,0 +1,24 @@
+package com.selimhorri.app.config.bulk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.bulk-import")
+@Data
+public class BulkImportProperties {
+	
+	private int batchSize = 1000;
+	private int maxReportedErrors = 100;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.http-client")
+@Data
+public class HttpClientProperties {
+	
+	private int maxTotal = 200;
+	private int defaultMaxPerRoute = 50;
+	private Map<String, Integer> maxPerRoute = new HashMap<>();
+	private Duration connectTimeout = Duration.ofSeconds(2);
+	private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+	private Duration readTimeout = Duration.ofSeconds(5);
+	private Duration keepAlive = Duration.ofSeconds(30);
+	private Duration validateAfterInactivity = Duration.ofSeconds(2);
+	private boolean compressionEnabled = true;
+	
+}
+
+
+
+
+
+
+
+
+
+
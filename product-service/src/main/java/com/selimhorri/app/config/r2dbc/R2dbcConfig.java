@@ -0,0 +1,60 @@
+package com.selimhorri.app.config.r2dbc;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.reactive-catalogue", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class R2dbcConfig implements DisposableBean {
+	
+	private volatile ConnectionPool connectionPool;
+	
+	@Bean
+	public DatabaseClient databaseClient(final R2dbcProperties r2dbcProperties) {
+		final R2dbcProperties.Pool pool = r2dbcProperties.getPool();
+		final ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(ConnectionFactoryBuilder
+					.withUrl(r2dbcProperties.getUrl())
+					.username(r2dbcProperties.getUsername())
+					.password(r2dbcProperties.getPassword())
+					.build());
+		final PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+		map.from(pool.getInitialSize()).to(builder::initialSize);
+		map.from(pool.getMaxSize()).to(builder::maxSize);
+		map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+		map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+		map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+		map.from(pool.getValidationQuery()).whenHasText().to(builder::validationQuery);
+		this.connectionPool = new ConnectionPool(builder.build());
+		return DatabaseClient.create(this.connectionPool);
+	}
+	
+	@Override
+	public void destroy() {
+		if (this.connectionPool != null)
+			this.connectionPool.dispose();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,24 @@
+package com.selimhorri.app.config.stock;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(StockProperties.class)
+public class StockConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.config.stock;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.stock")
+@Data
+public class StockProperties {
+	
+	private Set<Integer> hotProductIds = new HashSet<>();
+	private int stripes = 8;
+	private int allotmentBatchSize = 64;
+	private Duration allotmentIdleTimeout = Duration.ofSeconds(5);
+	private Duration allotmentReturnInterval = Duration.ofSeconds(5);
+	private Duration defaultTtl = Duration.ofMinutes(10);
+	private Duration maxTtl = Duration.ofHours(1);
+	private int sweepBatchSize = 500;
+	private Duration sweepInterval = Duration.ofSeconds(30);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -46,7 +46,7 @@ public final class Product extends AbstractMappedEntity implements Serializable
 	@Column(name = "price_unit", columnDefinition = "decimal")
 	private Double priceUnit;
 	
-	@Column(name = "quantity")
+	@Column(name = "quantity", updatable = false)
 	private Integer quantity;
 	
 	@ManyToOne(fetch = FetchType.EAGER)
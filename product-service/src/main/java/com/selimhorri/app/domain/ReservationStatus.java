@@ -0,0 +1,10 @@
+package com.selimhorri.app.domain;
+
+public enum ReservationStatus {
+	
+	RESERVED,
+	COMMITTED,
+	RELEASED,
+	EXPIRED;
+	
+}
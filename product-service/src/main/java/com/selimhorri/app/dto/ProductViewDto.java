@@ -0,0 +1,46 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ProductViewDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private Integer productId;
+	private String productTitle;
+	private String imageUrl;
+	private String sku;
+	private Double priceUnit;
+	
+	@JsonProperty("category")
+	@JsonInclude(Include.NON_NULL)
+	private CategoryDto categoryDto;
+	
+	@JsonProperty("categoryPath")
+	private List<CategoryDto> categoryPathDtos;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,32 @@
+package com.selimhorri.app.dto.projection;
+
+import java.io.Serializable;
+
+import lombok.Value;
+
+@Value
+public class ProductProjection implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	Integer productId;
+	String productTitle;
+	String imageUrl;
+	String sku;
+	Double priceUnit;
+	Integer quantity;
+	Integer categoryId;
+	String categoryTitle;
+	String categoryImageUrl;
+	
+}
+
+
+
+
+
+
+
+
+
+
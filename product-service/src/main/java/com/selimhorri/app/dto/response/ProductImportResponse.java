@@ -0,0 +1,31 @@
+package com.selimhorri.app.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ProductImportResponse {
+	
+	private long imported;
+	private long rejected;
+	private long elapsedMillis;
+	private List<String> errors;
+	
+}
+
+
+
+
+
+
+
+
+
+
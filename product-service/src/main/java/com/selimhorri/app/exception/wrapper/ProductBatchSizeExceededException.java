@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class ProductBatchSizeExceededException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public ProductBatchSizeExceededException() {
+		super();
+	}
+	
+	public ProductBatchSizeExceededException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public ProductBatchSizeExceededException(String message) {
+		super(message);
+	}
+	
+	public ProductBatchSizeExceededException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
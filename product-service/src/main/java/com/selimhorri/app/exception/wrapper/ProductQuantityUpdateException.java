@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class ProductQuantityUpdateException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public ProductQuantityUpdateException() {
+		super();
+	}
+	
+	public ProductQuantityUpdateException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public ProductQuantityUpdateException(String message) {
+		super(message);
+	}
+	
+	public ProductQuantityUpdateException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class ProductReservationNotFoundException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public ProductReservationNotFoundException() {
+		super();
+	}
+	
+	public ProductReservationNotFoundException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public ProductReservationNotFoundException(String message) {
+		super(message);
+	}
+	
+	public ProductReservationNotFoundException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
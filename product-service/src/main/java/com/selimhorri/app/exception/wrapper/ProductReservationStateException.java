@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class ProductReservationStateException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public ProductReservationStateException() {
+		super();
+	}
+	
+	public ProductReservationStateException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public ProductReservationStateException(String message) {
+		super(message);
+	}
+	
+	public ProductReservationStateException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,64 @@
+package com.selimhorri.app.helper;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public interface ConditionalResponseHelper {
+	
+	public static final String ETAG_DIGEST_ALGORITHM = "SHA-256";
+	
+	public static <T> ResponseEntity<T> ok(final ObjectMapper objectMapper, final T body) {
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.noCache())
+				.eTag(eTag(objectMapper, body))
+				.body(body);
+	}
+	
+	public static <T> ResponseEntity<T> ok(final ObjectMapper objectMapper, final T body, 
+			final Integer id, final Optional<Instant> lastModified) {
+		final ResponseEntity.BodyBuilder bodyBuilder = ResponseEntity.ok()
+				.cacheControl(CacheControl.noCache())
+				.eTag(lastModified
+						.map(instant -> weakETag(id, instant))
+						.orElseGet(() -> eTag(objectMapper, body)));
+		lastModified.ifPresent(bodyBuilder::lastModified);
+		return bodyBuilder.body(body);
+	}
+	
+	public static String eTag(final ObjectMapper objectMapper, final Object body) {
+		try {
+			final byte[] digest = MessageDigest.getInstance(ETAG_DIGEST_ALGORITHM)
+					.digest(objectMapper.writeValueAsBytes(body));
+			return String.format("\"%064x\"", new BigInteger(1, digest));
+		}
+		catch (NoSuchAlgorithmException | JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	public static String weakETag(final Integer id, final Instant lastModified) {
+		return String.format("W/\"%d-%d.%09d\"", id, lastModified.getEpochSecond(), lastModified.getNano());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
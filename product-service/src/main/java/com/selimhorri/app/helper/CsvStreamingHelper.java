@@ -0,0 +1,40 @@
+package com.selimhorri.app.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface CsvStreamingHelper {
+	
+	public static <T> StreamingResponseBody stream(final String header, final Function<T, String> formatter, 
+			final Consumer<Consumer<T>> producer) {
+		return outputStream -> {
+			outputStream.write((header + '\n').getBytes(StandardCharsets.UTF_8));
+			producer.accept(dto -> {
+				try {
+					outputStream.write((formatter.apply(dto) + '\n').getBytes(StandardCharsets.UTF_8));
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,58 @@
+package com.selimhorri.app.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import reactor.core.publisher.Flux;
+
+public interface NdjsonStreamingHelper {
+	
+	public static <T> StreamingResponseBody stream(final ObjectMapper objectMapper, 
+			final Consumer<Consumer<T>> producer) {
+		final ObjectWriter objectWriter = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT);
+		return outputStream -> producer.accept(dto -> {
+			try {
+				outputStream.write(objectWriter.writeValueAsBytes(dto));
+				outputStream.write('\n');
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+	
+	public static <T> Flux<String> lines(final ObjectMapper objectMapper, final Flux<T> flux) {
+		final ObjectWriter objectWriter = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT);
+		return flux.handle((dto, sink) -> {
+			try {
+				sink.next(objectWriter.writeValueAsString(dto) + "\n");
+			}
+			catch (JsonProcessingException e) {
+				sink.error(e);
+			}
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,119 @@
+package com.selimhorri.app.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+
+public interface ProductCsvHelper {
+	
+	public static final String TEXT_CSV_VALUE = "text/csv";
+	public static final List<String> COLUMNS = List.of("productId", "productTitle", "imageUrl", "sku", 
+			"priceUnit", "quantity", "categoryId");
+	
+	public static String header() {
+		return String.join(",", COLUMNS);
+	}
+	
+	public static String format(final ProductDto productDto) {
+		final CategoryDto categoryDto = productDto.getCategoryDto();
+		return String.join(",", 
+				quote(productDto.getProductId()), 
+				quote(productDto.getProductTitle()), 
+				quote(productDto.getImageUrl()), 
+				quote(productDto.getSku()), 
+				quote(productDto.getPriceUnit()), 
+				quote(productDto.getQuantity()), 
+				quote(categoryDto != null ? categoryDto.getCategoryId() : null));
+	}
+	
+	public static Function<String, ProductDto> parser(final String headerLine) {
+		final List<String> headers = split(headerLine);
+		final Map<String, Integer> positions = new HashMap<>();
+		for (int i = 0; i < headers.size(); i++)
+			positions.put(headers.get(i).trim(), i);
+		if (!positions.containsKey("productTitle") || !positions.containsKey("sku"))
+			throw new IllegalArgumentException("CSV header must declare at least productTitle and sku columns");
+		return line -> {
+			final List<String> values = split(line);
+			final Function<String, String> column = name -> {
+				final Integer position = positions.get(name);
+				return position != null && position < values.size() && !values.get(position).isEmpty() 
+						? values.get(position) 
+						: null;
+			};
+			final String categoryId = column.apply("categoryId");
+			return ProductDto.builder()
+					.productTitle(column.apply("productTitle"))
+					.imageUrl(column.apply("imageUrl"))
+					.sku(column.apply("sku"))
+					.priceUnit(parse(column.apply("priceUnit"), Double::valueOf))
+					.quantity(parse(column.apply("quantity"), Integer::valueOf))
+					.categoryDto(categoryId != null 
+							? CategoryDto.builder().categoryId(Integer.valueOf(categoryId.trim())).build() 
+							: null)
+					.build();
+		};
+	}
+	
+	public static List<String> split(final String line) {
+		final List<String> values = new ArrayList<>();
+		final StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			final char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					value.append('"');
+					i++;
+				}
+				else if (c == '"')
+					quoted = false;
+				else
+					value.append(c);
+			}
+			else if (c == '"')
+				quoted = true;
+			else if (c == ',') {
+				values.add(value.toString());
+				value.setLength(0);
+			}
+			else
+				value.append(c);
+		}
+		if (quoted)
+			throw new IllegalArgumentException("Unterminated quoted value");
+		values.add(value.toString());
+		return values;
+	}
+	
+	private static String quote(final Object value) {
+		if (value == null)
+			return "";
+		final String text = value.toString();
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0)
+			return text;
+		return '"' + text.replace("\"", "\"\"").replace("\r", " ").replace("\n", " ") + '"';
+	}
+	
+	private static <T> T parse(final String value, final Function<String, T> parser) {
+		return value != null ? parser.apply(value.trim()) : null;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
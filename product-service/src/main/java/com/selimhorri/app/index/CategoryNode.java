@@ -0,0 +1,27 @@
+package com.selimhorri.app.index;
+
+import java.io.Serializable;
+
+import lombok.Value;
+
+@Value
+public class CategoryNode implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	Integer categoryId;
+	String categoryTitle;
+	String imageUrl;
+	Integer parentCategoryId;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,177 @@
+package com.selimhorri.app.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.selimhorri.app.dto.CategoryDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class CategoryTree {
+	
+	private final Map<Integer, CategoryNode> nodes;
+	private final Map<Integer, List<CategoryNode>> children;
+	private final List<CategoryNode> preorder;
+	private final Map<Integer, Integer> preorderStart;
+	private final Map<Integer, Integer> preorderEnd;
+	
+	private CategoryTree(final Map<Integer, CategoryNode> nodes, 
+			final Map<Integer, List<CategoryNode>> children, 
+			final List<CategoryNode> preorder, 
+			final Map<Integer, Integer> preorderStart, 
+			final Map<Integer, Integer> preorderEnd) {
+		this.nodes = nodes;
+		this.children = children;
+		this.preorder = preorder;
+		this.preorderStart = preorderStart;
+		this.preorderEnd = preorderEnd;
+	}
+	
+	public static CategoryTree of(final Collection<CategoryNode> categoryNodes) {
+		
+		final Map<Integer, CategoryNode> nodes = categoryNodes.stream()
+				.collect(Collectors.toMap(CategoryNode::getCategoryId, n -> n, (a, b) -> a));
+		final Map<Integer, List<CategoryNode>> children = new HashMap<>();
+		final List<CategoryNode> roots = new ArrayList<>();
+		nodes.values().stream()
+				.sorted(Comparator.comparing(CategoryNode::getCategoryId))
+				.forEach(n -> {
+					if (n.getParentCategoryId() == null || !nodes.containsKey(n.getParentCategoryId()))
+						roots.add(n);
+					else
+						children.computeIfAbsent(n.getParentCategoryId(), k -> new ArrayList<>()).add(n);
+				});
+		
+		final List<CategoryNode> preorder = new ArrayList<>(nodes.size());
+		final Map<Integer, Integer> preorderStart = new HashMap<>();
+		final Map<Integer, Integer> preorderEnd = new HashMap<>();
+		final Deque<Map.Entry<CategoryNode, Integer>> stack = new ArrayDeque<>();
+		for (final CategoryNode root : roots) {
+			preorderStart.put(root.getCategoryId(), preorder.size());
+			preorder.add(root);
+			stack.push(Map.entry(root, 0));
+			while (!stack.isEmpty()) {
+				final var frame = stack.pop();
+				final List<CategoryNode> frameChildren = children.getOrDefault(frame.getKey().getCategoryId(), List.of());
+				if (frame.getValue() < frameChildren.size()) {
+					final CategoryNode child = frameChildren.get(frame.getValue());
+					stack.push(Map.entry(frame.getKey(), frame.getValue() + 1));
+					preorderStart.put(child.getCategoryId(), preorder.size());
+					preorder.add(child);
+					stack.push(Map.entry(child, 0));
+				}
+				else
+					preorderEnd.put(frame.getKey().getCategoryId(), preorder.size());
+			}
+		}
+		
+		if (preorder.size() < nodes.size())
+			log.warn("**CategoryTree, {} categories are part of a parent cycle and were left out of the index*\n", 
+					nodes.size() - preorder.size());
+		
+		final Map<Integer, CategoryNode> reachable = preorder.stream()
+				.collect(Collectors.toUnmodifiableMap(CategoryNode::getCategoryId, n -> n));
+		return new CategoryTree(reachable, 
+				children.entrySet().stream()
+						.filter(e -> reachable.containsKey(e.getKey()))
+						.collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> List.copyOf(e.getValue()))), 
+				List.copyOf(preorder), 
+				Map.copyOf(preorderStart), 
+				Map.copyOf(preorderEnd));
+	}
+	
+	public int size() {
+		return this.preorder.size();
+	}
+	
+	public boolean contains(final Integer categoryId) {
+		return this.nodes.containsKey(categoryId);
+	}
+	
+	public Optional<CategoryDto> subtree(final Integer categoryId) {
+		return Optional.ofNullable(this.nodes.get(categoryId))
+				.map(n -> this.toSubtreeDto(n, this.toDto(n)));
+	}
+	
+	public List<CategoryDto> ancestors(final Integer categoryId) {
+		final List<CategoryDto> ancestors = new ArrayList<>();
+		CategoryNode node = this.nodes.get(categoryId);
+		while (node != null && node.getParentCategoryId() != null) {
+			node = this.nodes.get(node.getParentCategoryId());
+			if (node != null)
+				ancestors.add(this.toDto(node));
+		}
+		Collections.reverse(ancestors);
+		return Collections.unmodifiableList(ancestors);
+	}
+	
+	public List<CategoryDto> path(final Integer categoryId) {
+		final List<CategoryDto> path = new ArrayList<>();
+		CategoryNode node = this.nodes.get(categoryId);
+		while (node != null) {
+			path.add(this.toFlatDto(node));
+			node = node.getParentCategoryId() != null ? this.nodes.get(node.getParentCategoryId()) : null;
+		}
+		Collections.reverse(path);
+		return Collections.unmodifiableList(path);
+	}
+	
+	public List<CategoryDto> descendants(final Integer categoryId) {
+		if (!this.contains(categoryId))
+			return List.of();
+		return this.preorder.subList(this.preorderStart.get(categoryId) + 1, this.preorderEnd.get(categoryId))
+				.stream()
+					.map(this::toDto)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	private CategoryDto toSubtreeDto(final CategoryNode node, final CategoryDto categoryDto) {
+		final List<CategoryNode> nodeChildren = this.children.getOrDefault(node.getCategoryId(), List.of());
+		if (!nodeChildren.isEmpty())
+			categoryDto.setSubCategoriesDtos(nodeChildren.stream()
+					.map(child -> this.toSubtreeDto(child, this.toFlatDto(child)))
+					.collect(Collectors.toCollection(LinkedHashSet::new)));
+		return categoryDto;
+	}
+	
+	private CategoryDto toDto(final CategoryNode node) {
+		final CategoryDto categoryDto = this.toFlatDto(node);
+		Optional.ofNullable(node.getParentCategoryId())
+				.map(this.nodes::get)
+				.map(this::toFlatDto)
+				.ifPresent(categoryDto::setParentCategoryDto);
+		return categoryDto;
+	}
+	
+	private CategoryDto toFlatDto(final CategoryNode node) {
+		return CategoryDto.builder()
+				.categoryId(node.getCategoryId())
+				.categoryTitle(node.getCategoryTitle())
+				.imageUrl(node.getImageUrl())
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
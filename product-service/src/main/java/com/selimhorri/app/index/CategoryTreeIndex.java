@@ -0,0 +1,59 @@
+package com.selimhorri.app.index;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.selimhorri.app.repository.CategoryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CategoryTreeIndex {
+	
+	private final CategoryRepository categoryRepository;
+	private volatile CategoryTree categoryTree;
+	
+	public CategoryTreeIndex(final CategoryRepository categoryRepository) {
+		this.categoryRepository = categoryRepository;
+	}
+	
+	public CategoryTree get() {
+		final CategoryTree current = this.categoryTree;
+		return current != null ? current : this.rebuild();
+	}
+	
+	public synchronized CategoryTree rebuild() {
+		final CategoryTree rebuilt = CategoryTree.of(this.categoryRepository.findAllCategoryNodes());
+		this.categoryTree = rebuilt;
+		log.info("**CategoryTreeIndex, rebuilt category tree with {} categories*\n", rebuilt.size());
+		return rebuilt;
+	}
+	
+	public void refresh() {
+		if (this.categoryTree != null)
+			this.rebuild();
+	}
+	
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryTreeChanged(final CategoryTreeChangedEvent event) {
+		log.info("**CategoryTreeIndex, category {} changed, rebuilding category tree*\n", event.getCategoryId());
+		this.rebuild();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,21 @@
+package com.selimhorri.app.index;
+
+import lombok.Value;
+
+@Value
+public class ProductChangedEvent {
+	
+	Integer productId;
+	boolean deleted;
+	
+}
+
+
+
+
+
+
+
+
+
+
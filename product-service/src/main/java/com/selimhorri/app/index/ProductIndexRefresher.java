@@ -0,0 +1,85 @@
+package com.selimhorri.app.index;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class ProductIndexRefresher {
+	
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	private final CategoryTreeIndex categoryTreeIndex;
+	private final ProductSearchIndex productSearchIndex;
+	private final ProductViewIndex productViewIndex;
+	private volatile TableState lastProducts;
+	private volatile TableState lastCategories;
+	
+	public ProductIndexRefresher(final ProductRepository productRepository, 
+			final CategoryRepository categoryRepository, 
+			final CategoryTreeIndex categoryTreeIndex, 
+			final ProductSearchIndex productSearchIndex, 
+			final ProductViewIndex productViewIndex) {
+		this.productRepository = productRepository;
+		this.categoryRepository = categoryRepository;
+		this.categoryTreeIndex = categoryTreeIndex;
+		this.productSearchIndex = productSearchIndex;
+		this.productViewIndex = productViewIndex;
+	}
+	
+	@Scheduled(fixedDelayString = "${app.index.refresh-interval:PT30S}")
+	public synchronized boolean refreshIfChanged() {
+		final TableState products = this.productRepository.findTableState();
+		final TableState categories = this.categoryRepository.findTableState();
+		if (products.equals(this.lastProducts) && categories.equals(this.lastCategories))
+			return false;
+		if (!categories.equals(this.lastCategories) || !this.reindexChanged(products)) {
+			log.info("**ProductIndexRefresher, catalogue changed from {} {} to {} {}, rebuilding indexes*\n", 
+					this.lastProducts, this.lastCategories, products, categories);
+			this.categoryTreeIndex.refresh();
+			this.productSearchIndex.refresh();
+			this.productViewIndex.refresh();
+		}
+		this.lastProducts = products;
+		this.lastCategories = categories;
+		return true;
+	}
+	
+	private boolean reindexChanged(final TableState products) {
+		final TableState previous = this.lastProducts;
+		if (previous == null || previous.getLastModified() == null || previous.getMaxId() == null)
+			return false;
+		final List<ProductProjection> changed = this.productRepository
+				.findProjectionsChangedSince(previous.getLastModified(), previous.getMaxId());
+		final long inserted = changed.stream()
+				.filter(product -> product.getProductId() > previous.getMaxId())
+				.count();
+		if (products.getRows() != previous.getRows() + inserted)
+			return false;
+		this.productSearchIndex.reindex(changed);
+		this.productViewIndex.reindex(changed);
+		log.info("**ProductIndexRefresher, re-indexed {} products changed since {}*\n", changed.size(), previous.getLastModified());
+		return true;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
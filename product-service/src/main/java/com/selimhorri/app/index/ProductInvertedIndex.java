@@ -0,0 +1,337 @@
+package com.selimhorri.app.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.selimhorri.app.dto.projection.ProductProjection;
+
+public final class ProductInvertedIndex {
+	
+	private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final byte TITLE = 1;
+	private static final byte SKU = 2;
+	private static final byte CATEGORY = 4;
+	private static final int NO_CATEGORY = Integer.MIN_VALUE;
+	private static final int MIN_DELETED_DOCS_TO_COMPACT = 1024;
+	private static final Comparator<Hit> BEST_FIRST = Comparator.comparingDouble((Hit h) -> h.score).reversed()
+			.thenComparingInt(h -> h.productId);
+	
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, Postings> postings = new HashMap<>();
+	private final BitSet liveDocs = new BitSet();
+	private int[] docProductIds = new int[16];
+	private double[] docPrices = new double[16];
+	private int[] docCategoryIds = new int[16];
+	private int[] productDocs = new int[16];
+	private int maxDoc;
+	private int liveDocCount;
+	
+	public void index(final ProductProjection product) {
+		final int productId = product.getProductId();
+		if (productId < 0)
+			throw new IllegalArgumentException(String.format("Product id must not be negative: %d", productId));
+		this.lock.writeLock().lock();
+		try {
+			this.remove0(productId);
+			final int doc = this.maxDoc++;
+			this.ensureDocCapacity(doc + 1);
+			this.ensureProductCapacity(productId + 1);
+			this.docProductIds[doc] = productId;
+			this.docPrices[doc] = product.getPriceUnit() != null ? product.getPriceUnit() : Double.NaN;
+			this.docCategoryIds[doc] = product.getCategoryId() != null ? product.getCategoryId() : NO_CATEGORY;
+			this.productDocs[productId] = doc + 1;
+			this.liveDocs.set(doc);
+			this.liveDocCount++;
+			
+			final Map<String, Byte> terms = new LinkedHashMap<>();
+			addTerms(terms, product.getProductTitle(), TITLE);
+			addTerms(terms, product.getSku(), SKU);
+			addTerms(terms, product.getCategoryTitle(), CATEGORY);
+			terms.forEach((term, fields) -> this.postings.computeIfAbsent(term, t -> new Postings()).add(doc, fields));
+			this.maybeCompact();
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public boolean remove(final Integer productId) {
+		this.lock.writeLock().lock();
+		try {
+			final boolean removed = this.remove0(productId);
+			if (removed)
+				this.maybeCompact();
+			return removed;
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public void trimToSize() {
+		this.lock.writeLock().lock();
+		try {
+			this.docProductIds = Arrays.copyOf(this.docProductIds, this.maxDoc);
+			this.docPrices = Arrays.copyOf(this.docPrices, this.maxDoc);
+			this.docCategoryIds = Arrays.copyOf(this.docCategoryIds, this.maxDoc);
+			this.postings.values().forEach(Postings::trimToSize);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.liveDocCount;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	public int termCount() {
+		this.lock.readLock().lock();
+		try {
+			return this.postings.size();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	public ProductSearchResult search(final String query, final Set<Integer> categoryIds, 
+			final Double minPrice, final Double maxPrice, final int page, final int size) {
+		
+		final List<String> terms = tokenize(query).stream()
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+		final int window = (page + 1) * size;
+		final PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(window, 1024) + 1, BEST_FIRST.reversed());
+		long totalElements = 0;
+		
+		this.lock.readLock().lock();
+		try {
+			if (terms.isEmpty()) {
+				for (int doc = this.liveDocs.nextSetBit(0); doc >= 0; doc = this.liveDocs.nextSetBit(doc + 1)) {
+					if (this.matches(doc, categoryIds, minPrice, maxPrice)) {
+						totalElements++;
+						offer(top, window, 0.0, this.docProductIds[doc]);
+					}
+				}
+			}
+			else {
+				final List<Postings> termPostings = new ArrayList<>(terms.size());
+				final List<Double> idfs = new ArrayList<>(terms.size());
+				for (final String term : terms) {
+					final Postings p = this.postings.get(term);
+					if (p != null && p.size > 0) {
+						termPostings.add(p);
+						idfs.add(Math.log(1.0 + (double) this.liveDocCount / p.size));
+					}
+				}
+				final int[] cursors = new int[termPostings.size()];
+				while (true) {
+					int doc = Integer.MAX_VALUE;
+					for (int i = 0; i < cursors.length; i++)
+						if (cursors[i] < termPostings.get(i).size)
+							doc = Math.min(doc, termPostings.get(i).docs[cursors[i]]);
+					if (doc == Integer.MAX_VALUE)
+						break;
+					double score = 0.0;
+					int matchedTerms = 0;
+					for (int i = 0; i < cursors.length; i++) {
+						final Postings p = termPostings.get(i);
+						if (cursors[i] < p.size && p.docs[cursors[i]] == doc) {
+							score += idfs.get(i) * weight(p.fields[cursors[i]]);
+							matchedTerms++;
+							cursors[i]++;
+						}
+					}
+					if (this.liveDocs.get(doc) && this.matches(doc, categoryIds, minPrice, maxPrice)) {
+						totalElements++;
+						offer(top, window, score * matchedTerms / terms.size(), this.docProductIds[doc]);
+					}
+				}
+			}
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+		
+		final List<Hit> hits = new ArrayList<>(top);
+		hits.sort(BEST_FIRST);
+		final int fromIndex = Math.min(page * size, hits.size());
+		return new ProductSearchResult(hits.subList(fromIndex, hits.size()).stream()
+				.map(h -> h.productId)
+				.collect(Collectors.toUnmodifiableList()), totalElements);
+	}
+	
+	static List<String> tokenize(final String text) {
+		if (text == null || text.isBlank())
+			return Collections.emptyList();
+		return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+				.filter(t -> !t.isEmpty())
+				.collect(Collectors.toList());
+	}
+	
+	private static void addTerms(final Map<String, Byte> terms, final String text, final byte field) {
+		tokenize(text).forEach(t -> terms.merge(t, field, (a, b) -> (byte) (a | b)));
+	}
+	
+	private static double weight(final byte fields) {
+		return ((fields & TITLE) != 0 ? 3.0 : 0.0)
+				+ ((fields & SKU) != 0 ? 2.0 : 0.0)
+				+ ((fields & CATEGORY) != 0 ? 1.0 : 0.0);
+	}
+	
+	private static void offer(final PriorityQueue<Hit> top, final int window, final double score, final int productId) {
+		if (top.size() < window)
+			top.add(new Hit(score, productId));
+		else if (score > top.peek().score || (score == top.peek().score && productId < top.peek().productId)) {
+			top.poll();
+			top.add(new Hit(score, productId));
+		}
+	}
+	
+	private boolean matches(final int doc, final Set<Integer> categoryIds, final Double minPrice, final Double maxPrice) {
+		return (categoryIds == null || categoryIds.contains(this.docCategoryIds[doc]))
+				&& (minPrice == null || this.docPrices[doc] >= minPrice)
+				&& (maxPrice == null || this.docPrices[doc] <= maxPrice);
+	}
+	
+	private boolean remove0(final Integer productId) {
+		if (productId == null || productId < 0 || productId >= this.productDocs.length || this.productDocs[productId] == 0)
+			return false;
+		this.liveDocs.clear(this.productDocs[productId] - 1);
+		this.productDocs[productId] = 0;
+		this.liveDocCount--;
+		return true;
+	}
+	
+	private void maybeCompact() {
+		final int deletedDocs = this.maxDoc - this.liveDocCount;
+		if (deletedDocs < MIN_DELETED_DOCS_TO_COMPACT || deletedDocs * 4 < this.maxDoc)
+			return;
+		
+		final int[] newDocs = new int[this.maxDoc];
+		int newMaxDoc = 0;
+		for (int doc = 0; doc < this.maxDoc; doc++) {
+			if (this.liveDocs.get(doc)) {
+				newDocs[doc] = newMaxDoc;
+				this.docProductIds[newMaxDoc] = this.docProductIds[doc];
+				this.docPrices[newMaxDoc] = this.docPrices[doc];
+				this.docCategoryIds[newMaxDoc] = this.docCategoryIds[doc];
+				this.productDocs[this.docProductIds[newMaxDoc]] = newMaxDoc + 1;
+				newMaxDoc++;
+			}
+			else
+				newDocs[doc] = -1;
+		}
+		
+		final Iterator<Postings> iterator = this.postings.values().iterator();
+		while (iterator.hasNext()) {
+			final Postings p = iterator.next();
+			p.remap(newDocs);
+			if (p.size == 0)
+				iterator.remove();
+		}
+		
+		this.liveDocs.clear();
+		this.liveDocs.set(0, newMaxDoc);
+		this.maxDoc = newMaxDoc;
+	}
+	
+	private void ensureDocCapacity(final int capacity) {
+		if (capacity > this.docProductIds.length) {
+			final int newLength = Math.max(capacity, this.docProductIds.length + (this.docProductIds.length >> 1));
+			this.docProductIds = Arrays.copyOf(this.docProductIds, newLength);
+			this.docPrices = Arrays.copyOf(this.docPrices, newLength);
+			this.docCategoryIds = Arrays.copyOf(this.docCategoryIds, newLength);
+		}
+	}
+	
+	private void ensureProductCapacity(final int capacity) {
+		if (capacity > this.productDocs.length)
+			this.productDocs = Arrays.copyOf(this.productDocs, 
+					Math.max(capacity, this.productDocs.length + (this.productDocs.length >> 1)));
+	}
+	
+	private static final class Hit {
+		
+		private final double score;
+		private final int productId;
+		
+		private Hit(final double score, final int productId) {
+			this.score = score;
+			this.productId = productId;
+		}
+		
+	}
+	
+	private static final class Postings {
+		
+		private int[] docs = new int[2];
+		private byte[] fields = new byte[2];
+		private int size;
+		
+		private void add(final int doc, final byte field) {
+			if (this.size == this.docs.length) {
+				final int newLength = this.docs.length + (this.docs.length >> 1) + 1;
+				this.docs = Arrays.copyOf(this.docs, newLength);
+				this.fields = Arrays.copyOf(this.fields, newLength);
+			}
+			this.docs[this.size] = doc;
+			this.fields[this.size] = field;
+			this.size++;
+		}
+		
+		private void remap(final int[] newDocs) {
+			int newSize = 0;
+			for (int i = 0; i < this.size; i++) {
+				final int newDoc = newDocs[this.docs[i]];
+				if (newDoc >= 0) {
+					this.docs[newSize] = newDoc;
+					this.fields[newSize] = this.fields[i];
+					newSize++;
+				}
+			}
+			this.size = newSize;
+		}
+		
+		private void trimToSize() {
+			this.docs = Arrays.copyOf(this.docs, this.size);
+			this.fields = Arrays.copyOf(this.fields, this.size);
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
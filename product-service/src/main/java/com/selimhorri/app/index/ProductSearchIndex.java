@@ -0,0 +1,99 @@
+package com.selimhorri.app.index;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class ProductSearchIndex {
+	
+	private final ProductRepository productRepository;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+	private volatile ProductInvertedIndex productInvertedIndex;
+	
+	public ProductSearchIndex(final ProductRepository productRepository, 
+			final PlatformTransactionManager transactionManager) {
+		this.productRepository = productRepository;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+	}
+	
+	public ProductInvertedIndex get() {
+		final ProductInvertedIndex current = this.productInvertedIndex;
+		return current != null ? current : this.rebuild();
+	}
+	
+	public synchronized ProductInvertedIndex rebuild() {
+		final ProductInvertedIndex rebuilt = new ProductInvertedIndex();
+		this.readOnlyTransactionTemplate.executeWithoutResult(status -> {
+			try (final Stream<ProductProjection> products = this.productRepository.streamAllProjections()) {
+				products.forEach(rebuilt::index);
+			}
+		});
+		rebuilt.trimToSize();
+		this.productInvertedIndex = rebuilt;
+		log.info("**ProductSearchIndex, rebuilt search index with {} products and {} terms*\n", 
+				rebuilt.size(), rebuilt.termCount());
+		return rebuilt;
+	}
+	
+	public void refresh() {
+		if (this.productInvertedIndex != null)
+			this.rebuild();
+	}
+	
+	public synchronized void reindex(final List<ProductProjection> products) {
+		final ProductInvertedIndex current = this.productInvertedIndex;
+		if (current != null)
+			products.forEach(current::index);
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onProductChanged(final ProductChangedEvent event) {
+		final ProductInvertedIndex current = this.productInvertedIndex;
+		if (current == null)
+			return;
+		this.findProjection(event).ifPresentOrElse(current::index, () -> current.remove(event.getProductId()));
+	}
+	
+	private Optional<ProductProjection> findProjection(final ProductChangedEvent event) {
+		if (event.isDeleted())
+			return Optional.empty();
+		return this.readOnlyTransactionTemplate.execute(status -> 
+				this.productRepository.findProjectionByProductId(event.getProductId()));
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryTreeChanged(final CategoryTreeChangedEvent event) {
+		this.refresh();
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsImported(final ProductsImportedEvent event) {
+		this.refresh();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,23 @@
+package com.selimhorri.app.index;
+
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class ProductSearchResult {
+	
+	List<Integer> productIds;
+	long totalElements;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,113 @@
+package com.selimhorri.app.index;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductViewDto;
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class ProductViewIndex {
+	
+	private final ProductRepository productRepository;
+	private final CategoryTreeIndex categoryTreeIndex;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+	private volatile ProductViews productViews;
+	
+	public ProductViewIndex(final ProductRepository productRepository, 
+			final CategoryTreeIndex categoryTreeIndex, 
+			final PlatformTransactionManager transactionManager) {
+		this.productRepository = productRepository;
+		this.categoryTreeIndex = categoryTreeIndex;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+	}
+	
+	public Optional<ProductViewDto> find(final Integer productId) {
+		final ProductViews current = this.productViews;
+		return (current != null ? current : this.rebuild()).find(productId);
+	}
+	
+	public synchronized ProductViews rebuild() {
+		final ProductViews rebuilt = new ProductViews();
+		final CategoryTree categoryTree = this.categoryTreeIndex.get();
+		this.readOnlyTransactionTemplate.executeWithoutResult(status -> {
+			try (final Stream<ProductProjection> products = this.productRepository.streamAllProjections()) {
+				products.forEach(product -> rebuilt.put(product, categoryTree));
+			}
+		});
+		this.productViews = rebuilt;
+		log.info("**ProductViewIndex, rebuilt product read model with {} products*\n", rebuilt.size());
+		return rebuilt;
+	}
+	
+	public void refresh() {
+		if (this.productViews != null)
+			this.rebuild();
+	}
+	
+	public synchronized void reindex(final List<ProductProjection> products) {
+		final ProductViews current = this.productViews;
+		if (current == null)
+			return;
+		final CategoryTree categoryTree = this.categoryTreeIndex.get();
+		products.forEach(product -> current.put(product, categoryTree));
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onProductChanged(final ProductChangedEvent event) {
+		final ProductViews current = this.productViews;
+		if (current == null)
+			return;
+		final Optional<ProductProjection> product = event.isDeleted() 
+				? Optional.empty() 
+				: this.readOnlyTransactionTemplate.execute(status -> 
+						this.productRepository.findProjectionByProductId(event.getProductId()));
+		product.ifPresentOrElse(p -> current.put(p, this.categoryTreeIndex.get()), () -> current.remove(event.getProductId()));
+	}
+	
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onCategoryTreeChanged(final CategoryTreeChangedEvent event) {
+		final ProductViews current = this.productViews;
+		if (current == null)
+			return;
+		final CategoryTree categoryTree = this.categoryTreeIndex.get();
+		final int repathed = current.repath(Stream.concat(Stream.of(event.getCategoryId()), 
+					categoryTree.descendants(event.getCategoryId()).stream().map(CategoryDto::getCategoryId))
+				.collect(Collectors.toUnmodifiableSet()), categoryTree);
+		log.info("**ProductViewIndex, category {} changed, refreshed {} product views*\n", event.getCategoryId(), repathed);
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsImported(final ProductsImportedEvent event) {
+		this.refresh();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,102 @@
+package com.selimhorri.app.index;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductViewDto;
+import com.selimhorri.app.dto.projection.ProductProjection;
+
+public final class ProductViews {
+	
+	private final Map<Integer, ProductViewDto> views = new ConcurrentHashMap<>();
+	private final Map<Integer, ProductProjection> products = new ConcurrentHashMap<>();
+	private final Map<Integer, Set<Integer>> productIdsByCategory = new ConcurrentHashMap<>();
+	
+	public Optional<ProductViewDto> find(final Integer productId) {
+		return Optional.ofNullable(this.views.get(productId));
+	}
+	
+	public int size() {
+		return this.views.size();
+	}
+	
+	public void put(final ProductProjection product, final CategoryTree categoryTree) {
+		final ProductProjection previous = this.products.put(product.getProductId(), product);
+		if (previous != null && !Objects.equals(previous.getCategoryId(), product.getCategoryId()))
+			this.unlink(previous);
+		if (product.getCategoryId() != null)
+			this.productIdsByCategory.computeIfAbsent(product.getCategoryId(), k -> ConcurrentHashMap.newKeySet())
+					.add(product.getProductId());
+		this.views.put(product.getProductId(), toView(product, categoryTree));
+	}
+	
+	public void remove(final Integer productId) {
+		final ProductProjection removed = this.products.remove(productId);
+		this.views.remove(productId);
+		if (removed != null)
+			this.unlink(removed);
+	}
+	
+	public int repath(final Collection<Integer> categoryIds, final CategoryTree categoryTree) {
+		int repathed = 0;
+		for (final Integer categoryId : categoryIds)
+			for (final Integer productId : this.productIdsByCategory.getOrDefault(categoryId, Set.of())) {
+				final ProductProjection product = this.products.get(productId);
+				if (product != null) {
+					this.views.put(productId, toView(product, categoryTree));
+					repathed++;
+				}
+			}
+		return repathed;
+	}
+	
+	private void unlink(final ProductProjection product) {
+		if (product.getCategoryId() != null)
+			this.productIdsByCategory.computeIfPresent(product.getCategoryId(), (k, productIds) -> {
+				productIds.remove(product.getProductId());
+				return productIds.isEmpty() ? null : productIds;
+			});
+	}
+	
+	private static ProductViewDto toView(final ProductProjection product, final CategoryTree categoryTree) {
+		final var categoryPathDtos = product.getCategoryId() != null 
+				? categoryTree.path(product.getCategoryId()) 
+				: List.<CategoryDto>of();
+		return ProductViewDto.builder()
+				.productId(product.getProductId())
+				.productTitle(product.getProductTitle())
+				.imageUrl(product.getImageUrl())
+				.sku(product.getSku())
+				.priceUnit(product.getPriceUnit())
+				.categoryDto(!categoryPathDtos.isEmpty() 
+						? categoryPathDtos.get(categoryPathDtos.size() - 1) 
+						: product.getCategoryId() != null 
+								? CategoryDto.builder()
+									.categoryId(product.getCategoryId())
+									.categoryTitle(product.getCategoryTitle())
+									.imageUrl(product.getCategoryImageUrl())
+									.build() 
+								: null)
+				.categoryPathDtos(categoryPathDtos)
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
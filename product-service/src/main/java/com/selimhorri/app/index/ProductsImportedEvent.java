@@ -0,0 +1,20 @@
+package com.selimhorri.app.index;
+
+import lombok.Value;
+
+@Value
+public class ProductsImportedEvent {
+	
+	long importedCount;
+	
+}
+
+
+
+
+
+
+
+
+
+
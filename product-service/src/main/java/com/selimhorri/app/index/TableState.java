@@ -0,0 +1,24 @@
+package com.selimhorri.app.index;
+
+import java.time.Instant;
+
+import lombok.Value;
+
+@Value
+public class TableState {
+	
+	Long rows;
+	Integer maxId;
+	Instant lastModified;
+	
+}
+
+
+
+
+
+
+
+
+
+
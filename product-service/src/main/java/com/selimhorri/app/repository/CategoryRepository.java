@@ -1,11 +1,41 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.index.CategoryNode;
+import com.selimhorri.app.index.TableState;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	List<Category> findByCategoryIdGreaterThanOrderByCategoryIdAsc(final Integer categoryId, final Pageable pageable);
+	
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.STREAM_FETCH_SIZE))
+	Stream<Category> streamAllByOrderByCategoryIdAsc();
+	
+	@Query("SELECT new com.selimhorri.app.index.CategoryNode(c.categoryId, c.categoryTitle, c.imageUrl, p.categoryId) "
+			+ "FROM Category c LEFT JOIN c.parentCategory p")
+	List<CategoryNode> findAllCategoryNodes();
+	
+	@Query("SELECT new com.selimhorri.app.index.TableState(COUNT(c), MAX(c.categoryId), MAX(COALESCE(c.updatedAt, c.createdAt))) "
+			+ "FROM Category c")
+	TableState findTableState();
 	
+	@Query("SELECT COALESCE(c.updatedAt, c.createdAt) FROM Category c WHERE c.categoryId = :categoryId")
+	Optional<Instant> findLastModifiedByCategoryId(@Param("categoryId") final Integer categoryId);
 	
 }
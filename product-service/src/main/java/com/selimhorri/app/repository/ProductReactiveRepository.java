@@ -0,0 +1,73 @@
+package com.selimhorri.app.repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.selimhorri.app.dto.projection.ProductProjection;
+
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@ConditionalOnProperty(prefix = "app.reactive-catalogue", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ProductReactiveRepository {
+	
+	private static final String PRODUCT_PROJECTION = "SELECT p.product_id, p.product_title, p.image_url, p.sku, "
+			+ "p.price_unit, p.quantity, c.category_id, c.category_title, c.image_url AS category_image_url "
+			+ "FROM products p LEFT JOIN categories c ON c.category_id = p.category_id ";
+	
+	private final DatabaseClient databaseClient;
+	
+	public Flux<ProductProjection> findAllProjections() {
+		return this.databaseClient.sql(PRODUCT_PROJECTION + "ORDER BY p.product_id ASC")
+				.map(ProductReactiveRepository::toProjection)
+				.all();
+	}
+	
+	public Flux<ProductProjection> findProjectionsAfter(final Integer productId, final int limit) {
+		return this.databaseClient.sql(PRODUCT_PROJECTION + "WHERE p.product_id > :productId ORDER BY p.product_id ASC LIMIT :limit")
+				.bind("productId", productId)
+				.bind("limit", limit)
+				.map(ProductReactiveRepository::toProjection)
+				.all();
+	}
+	
+	public Mono<ProductProjection> findProjectionById(final Integer productId) {
+		return this.databaseClient.sql(PRODUCT_PROJECTION + "WHERE p.product_id = :productId")
+				.bind("productId", productId)
+				.map(ProductReactiveRepository::toProjection)
+				.one();
+	}
+	
+	private static ProductProjection toProjection(final Row row) {
+		return new ProductProjection(row.get("product_id", Integer.class), 
+				row.get("product_title", String.class), 
+				row.get("image_url", String.class), 
+				row.get("sku", String.class), 
+				Optional.ofNullable(row.get("price_unit", BigDecimal.class)).map(BigDecimal::doubleValue).orElse(null), 
+				row.get("quantity", Integer.class), 
+				row.get("category_id", Integer.class), 
+				row.get("category_title", String.class), 
+				row.get("category_image_url", String.class));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
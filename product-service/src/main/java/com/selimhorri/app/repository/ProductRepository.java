@@ -1,11 +1,118 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.index.TableState;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	String PRODUCT_PROJECTION = "SELECT new com.selimhorri.app.dto.projection.ProductProjection("
+			+ "p.productId, p.productTitle, p.imageUrl, p.sku, p.priceUnit, p.quantity, "
+			+ "c.categoryId, c.categoryTitle, c.imageUrl) "
+			+ "FROM Product p LEFT JOIN p.category c ";
+	
+	String CATEGORY = "WHERE p.category.categoryId = :categoryId ";
+	String CATEGORY_PRICE_RANGE = "WHERE p.category.categoryId = :categoryId AND p.priceUnit BETWEEN :minPrice AND :maxPrice ";
+	String IN_STOCK = "WHERE p.quantity > 0 ";
+	String PRICE_RANGE = "WHERE p.priceUnit BETWEEN :minPrice AND :maxPrice ";
+	
+	@Query(PRODUCT_PROJECTION)
+	List<ProductProjection> findAllProjections();
+	
+	@Query(PRODUCT_PROJECTION + "WHERE p.productId = :productId")
+	Optional<ProductProjection> findProjectionByProductId(@Param("productId") final Integer productId);
+	
+	@Query(PRODUCT_PROJECTION + "WHERE p.productId IN :productIds")
+	List<ProductProjection> findAllProjectionsByProductIdIn(@Param("productIds") final Collection<Integer> productIds);
+	
+	@Query(PRODUCT_PROJECTION + "WHERE p.productId > :productId ORDER BY p.productId ASC")
+	List<ProductProjection> findProjectionsAfter(@Param("productId") final Integer productId, final Pageable pageable);
+	
+	@Query(value = PRODUCT_PROJECTION + CATEGORY_PRICE_RANGE + "ORDER BY p.priceUnit ASC, p.productId ASC", 
+			countQuery = "SELECT COUNT(p) FROM Product p " + CATEGORY_PRICE_RANGE)
+	Page<ProductProjection> findProjectionsByCategoryAndPriceBetween(@Param("categoryId") final Integer categoryId, 
+			@Param("minPrice") final Double minPrice, @Param("maxPrice") final Double maxPrice, final Pageable pageable);
+	
+	@Query(value = PRODUCT_PROJECTION + CATEGORY_PRICE_RANGE + "AND p.quantity > 0 ORDER BY p.priceUnit ASC, p.productId ASC", 
+			countQuery = "SELECT COUNT(p) FROM Product p " + CATEGORY_PRICE_RANGE + "AND p.quantity > 0")
+	Page<ProductProjection> findInStockProjectionsByCategoryAndPriceBetween(@Param("categoryId") final Integer categoryId, 
+			@Param("minPrice") final Double minPrice, @Param("maxPrice") final Double maxPrice, final Pageable pageable);
+	
+	@Query(value = PRODUCT_PROJECTION + IN_STOCK + "AND p.priceUnit BETWEEN :minPrice AND :maxPrice ORDER BY p.productId ASC", 
+			countQuery = "SELECT COUNT(p) FROM Product p " + IN_STOCK + "AND p.priceUnit BETWEEN :minPrice AND :maxPrice")
+	Page<ProductProjection> findInStockProjectionsByPriceBetween(@Param("minPrice") final Double minPrice, 
+			@Param("maxPrice") final Double maxPrice, final Pageable pageable);
+	
+	@Query(value = PRODUCT_PROJECTION + PRICE_RANGE + "ORDER BY p.productId ASC", 
+			countQuery = "SELECT COUNT(p) FROM Product p " + PRICE_RANGE)
+	Page<ProductProjection> findProjectionsByPriceBetween(@Param("minPrice") final Double minPrice, 
+			@Param("maxPrice") final Double maxPrice, final Pageable pageable);
+	
+	@Query(value = PRODUCT_PROJECTION + CATEGORY + "ORDER BY p.priceUnit ASC, p.productId ASC", 
+			countQuery = "SELECT COUNT(p) FROM Product p " + CATEGORY)
+	Page<ProductProjection> findProjectionsByCategory(@Param("categoryId") final Integer categoryId, final Pageable pageable);
+	
+	@Query(value = PRODUCT_PROJECTION + CATEGORY + "AND p.quantity > 0 ORDER BY p.priceUnit ASC, p.productId ASC", 
+			countQuery = "SELECT COUNT(p) FROM Product p " + CATEGORY + "AND p.quantity > 0")
+	Page<ProductProjection> findInStockProjectionsByCategory(@Param("categoryId") final Integer categoryId, final Pageable pageable);
+	
+	@Query(value = PRODUCT_PROJECTION + IN_STOCK + "ORDER BY p.productId ASC", 
+			countQuery = "SELECT COUNT(p) FROM Product p " + IN_STOCK)
+	Page<ProductProjection> findInStockProjections(final Pageable pageable);
+	
+	@Query(value = PRODUCT_PROJECTION + "ORDER BY p.productId ASC", 
+			countQuery = "SELECT COUNT(p) FROM Product p")
+	Page<ProductProjection> findProjections(final Pageable pageable);
+	
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.STREAM_FETCH_SIZE))
+	@Query(PRODUCT_PROJECTION + "ORDER BY p.productId ASC")
+	Stream<ProductProjection> streamAllProjections();
+	
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.STREAM_FETCH_SIZE))
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category c LEFT JOIN FETCH c.parentCategory ORDER BY p.productId ASC")
+	Stream<Product> streamAllByOrderByProductIdAsc();
+	
+	@Query(PRODUCT_PROJECTION + "WHERE p.updatedAt >= :since OR p.productId > :productId ORDER BY p.productId ASC")
+	List<ProductProjection> findProjectionsChangedSince(@Param("since") final Instant since, 
+			@Param("productId") final Integer productId);
+	
+	@Query("SELECT new com.selimhorri.app.index.TableState(COUNT(p), MAX(p.productId), MAX(COALESCE(p.updatedAt, p.createdAt))) "
+			+ "FROM Product p")
+	TableState findTableState();
+	
+	@Query("SELECT COALESCE(p.updatedAt, p.createdAt) FROM Product p WHERE p.productId = :productId")
+	Optional<Instant> findLastModifiedByProductId(@Param("productId") final Integer productId);
+	
+	@Query("SELECT p.quantity FROM Product p WHERE p.productId = :productId")
+	Optional<Integer> findQuantityByProductId(@Param("productId") final Integer productId);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Product p SET p.quantity = p.quantity - :quantity, p.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE p.productId = :productId AND p.quantity >= :quantity")
+	int decrementQuantity(@Param("productId") final Integer productId, @Param("quantity") final int quantity);
 	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Product p SET p.quantity = p.quantity + :quantity, p.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE p.productId = :productId")
+	int incrementQuantity(@Param("productId") final Integer productId, @Param("quantity") final int quantity);
 	
 }
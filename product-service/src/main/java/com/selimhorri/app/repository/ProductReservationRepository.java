@@ -0,0 +1,35 @@
+package com.selimhorri.app.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.selimhorri.app.domain.ProductReservation;
+import com.selimhorri.app.domain.ReservationStatus;
+
+public interface ProductReservationRepository extends JpaRepository<ProductReservation, Integer> {
+	
+	List<ProductReservation> findByReservationStatusAndExpiresAtBefore(final ReservationStatus reservationStatus, 
+			final LocalDateTime expiresAt, final Pageable pageable);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE ProductReservation r SET r.reservationStatus = :to, r.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE r.reservationId = :reservationId AND r.reservationStatus = :from AND r.expiresAt > :now")
+	int transitionUnexpired(@Param("reservationId") final Integer reservationId, 
+			@Param("from") final ReservationStatus from, 
+			@Param("to") final ReservationStatus to, 
+			@Param("now") final LocalDateTime now);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE ProductReservation r SET r.reservationStatus = :to, r.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE r.reservationId = :reservationId AND r.reservationStatus = :from")
+	int transition(@Param("reservationId") final Integer reservationId, 
+			@Param("from") final ReservationStatus from, 
+			@Param("to") final ReservationStatus to);
+	
+}
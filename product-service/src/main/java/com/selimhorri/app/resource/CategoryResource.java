@@ -4,6 +4,7 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +13,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoKeysetPageResponse;
+import com.selimhorri.app.helper.ConditionalResponseHelper;
+import com.selimhorri.app.helper.NdjsonStreamingHelper;
 import com.selimhorri.app.service.CategoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,11 +36,30 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryResource {
 	
 	private final CategoryService categoryService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll() {
 		log.info("*** CategoryDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
+		return ConditionalResponseHelper.ok(this.objectMapper, new DtoCollectionResponse<>(this.categoryService.findAll()));
+	}
+	
+	@GetMapping(params = "limit")
+	public ResponseEntity<DtoKeysetPageResponse<CategoryDto>> findAll(
+			@RequestParam(value = "after", defaultValue = "0") final Integer categoryId, 
+			@RequestParam("limit") final Integer limit) {
+		log.info("*** CategoryDto List, controller; fetch categories page after id *");
+		final int pageLimit = Math.max(1, Math.min(limit, AppConstant.KEYSET_PAGE_MAX_LIMIT));
+		return ConditionalResponseHelper.ok(this.objectMapper, DtoKeysetPageResponse.of(this.categoryService.findAllAfter(categoryId, pageLimit), 
+				pageLimit, categoryDto -> String.valueOf(categoryDto.getCategoryId())));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** CategoryDto Stream, controller; stream all categories *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(NdjsonStreamingHelper.stream(this.objectMapper, this.categoryService::streamAll));
 	}
 	
 	@GetMapping("/{categoryId}")
@@ -41,7 +68,35 @@ public class CategoryResource {
 			@NotBlank(message = "Input must not be blank") 
 			@Valid final String categoryId) {
 		log.info("*** CategoryDto, resource; fetch category by id *");
-		return ResponseEntity.ok(this.categoryService.findById(Integer.parseInt(categoryId)));
+		return ConditionalResponseHelper.ok(this.objectMapper, this.categoryService.findById(Integer.parseInt(categoryId)), 
+				Integer.parseInt(categoryId), this.categoryService.findLastModified(Integer.parseInt(categoryId)));
+	}
+	
+	@GetMapping("/{categoryId}/subtree")
+	public ResponseEntity<CategoryDto> findSubtree(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** CategoryDto, resource; fetch category subtree by id *");
+		return ResponseEntity.ok(this.categoryService.findSubtree(Integer.parseInt(categoryId)));
+	}
+	
+	@GetMapping("/{categoryId}/ancestors")
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAncestors(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** CategoryDto List, resource; fetch category ancestors by id *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAncestors(Integer.parseInt(categoryId))));
+	}
+	
+	@GetMapping("/{categoryId}/descendants")
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findDescendants(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** CategoryDto List, resource; fetch category descendants by id *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findDescendants(Integer.parseInt(categoryId))));
 	}
 	
 	@PostMapping
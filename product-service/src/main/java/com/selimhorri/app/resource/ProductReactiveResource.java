@@ -0,0 +1,84 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoKeysetPageResponse;
+import com.selimhorri.app.helper.NdjsonStreamingHelper;
+import com.selimhorri.app.service.ProductReactiveService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/products")
+@ConditionalOnProperty(prefix = "app.reactive-catalogue", name = "enabled", havingValue = "true")
+@Slf4j
+@RequiredArgsConstructor
+public class ProductReactiveResource {
+	
+	private final ProductReactiveService productReactiveService;
+	private final ObjectMapper objectMapper;
+	
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	public Mono<DtoCollectionResponse<ProductDto>> findAll() {
+		log.info("*** ProductDto List, controller; fetch all products *");
+		return this.productReactiveService.findAll()
+				.collectList()
+				.map(DtoCollectionResponse::new);
+	}
+	
+	@GetMapping(params = "limit", produces = MediaType.APPLICATION_JSON_VALUE)
+	public Mono<DtoKeysetPageResponse<ProductDto>> findAll(
+			@RequestParam(value = "after", defaultValue = "0") final Integer productId, 
+			@RequestParam("limit") final Integer limit) {
+		log.info("*** ProductDto List, controller; fetch products page after id *");
+		final int pageLimit = Math.max(1, Math.min(limit, AppConstant.KEYSET_PAGE_MAX_LIMIT));
+		return this.productReactiveService.findAllAfter(productId, pageLimit)
+				.collectList()
+				.map(productDtos -> DtoKeysetPageResponse.of(productDtos, pageLimit, 
+						productDto -> String.valueOf(productDto.getProductId())));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<String> streamAll() {
+		log.info("*** ProductDto Flux, controller; stream all products *");
+		return NdjsonStreamingHelper.lines(this.objectMapper, this.productReactiveService.findAll());
+	}
+	
+	@GetMapping("/{productId}")
+	public Mono<ProductDto> findById(
+			@PathVariable("productId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String productId) {
+		log.info("*** ProductDto, resource; fetch product by id *");
+		return this.productReactiveService.findById(Integer.parseInt(productId));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,82 @@
+package com.selimhorri.app.resource;
+
+import java.time.Duration;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.dto.ProductReservationDto;
+import com.selimhorri.app.service.StockReservationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/reservations")
+@Slf4j
+@RequiredArgsConstructor
+public class ProductReservationResource {
+	
+	private final StockReservationService stockReservationService;
+	
+	@PostMapping
+	public ResponseEntity<ProductReservationDto> reserve(
+			@RequestParam(value = "ttl", required = false) final Duration ttl, 
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final ProductReservationDto productReservationDto) {
+		log.info("*** ProductReservationDto, resource; reserve product stock *");
+		return ResponseEntity.ok(this.stockReservationService.reserve(productReservationDto, ttl));
+	}
+	
+	@GetMapping("/{reservationId}")
+	public ResponseEntity<ProductReservationDto> findById(
+			@PathVariable("reservationId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String reservationId) {
+		log.info("*** ProductReservationDto, resource; fetch reservation by id *");
+		return ResponseEntity.ok(this.stockReservationService.findById(Integer.parseInt(reservationId)));
+	}
+	
+	@PutMapping("/{reservationId}/commit")
+	public ResponseEntity<ProductReservationDto> commit(
+			@PathVariable("reservationId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String reservationId) {
+		log.info("*** ProductReservationDto, resource; commit reservation *");
+		return ResponseEntity.ok(this.stockReservationService.commit(Integer.parseInt(reservationId)));
+	}
+	
+	@PutMapping("/{reservationId}/release")
+	public ResponseEntity<ProductReservationDto> release(
+			@PathVariable("reservationId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String reservationId) {
+		log.info("*** ProductReservationDto, resource; release reservation *");
+		return ResponseEntity.ok(this.stockReservationService.release(Integer.parseInt(reservationId)));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,9 +1,15 @@
 package com.selimhorri.app.resource;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +18,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.bulk.ProductRecordFormat;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.ProductViewDto;
+import com.selimhorri.app.dto.response.ProductImportResponse;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoKeysetPageResponse;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
+import com.selimhorri.app.helper.ConditionalResponseHelper;
+import com.selimhorri.app.helper.CsvStreamingHelper;
+import com.selimhorri.app.helper.NdjsonStreamingHelper;
+import com.selimhorri.app.helper.ProductCsvHelper;
 import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,11 +47,89 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductResource {
 	
 	private final ProductService productService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll() {
 		log.info("*** ProductDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+		return ConditionalResponseHelper.ok(this.objectMapper, new DtoCollectionResponse<>(this.productService.findAll()));
+	}
+	
+	@GetMapping(params = "limit")
+	public ResponseEntity<DtoKeysetPageResponse<ProductDto>> findAll(
+			@RequestParam(value = "after", defaultValue = "0") final Integer productId, 
+			@RequestParam("limit") final Integer limit) {
+		log.info("*** ProductDto List, controller; fetch products page after id *");
+		final int pageLimit = Math.max(1, Math.min(limit, AppConstant.KEYSET_PAGE_MAX_LIMIT));
+		return ConditionalResponseHelper.ok(this.objectMapper, DtoKeysetPageResponse.of(this.productService.findAllAfter(productId, pageLimit), 
+				pageLimit, productDto -> String.valueOf(productDto.getProductId())));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** ProductDto Stream, controller; stream all products *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(NdjsonStreamingHelper.stream(this.objectMapper, this.productService::streamAll));
+	}
+	
+	@GetMapping(produces = ProductCsvHelper.TEXT_CSV_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAllCsv() {
+		log.info("*** ProductDto Stream, controller; stream all products as csv *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(ProductCsvHelper.TEXT_CSV_VALUE))
+				.body(CsvStreamingHelper.stream(ProductCsvHelper.header(), ProductCsvHelper::format, 
+						this.productService::streamAll));
+	}
+	
+	@PostMapping(value = "/import", consumes = ProductCsvHelper.TEXT_CSV_VALUE)
+	public ResponseEntity<ProductImportResponse> importCsv(final InputStream inputStream) {
+		log.info("*** ProductImportResponse, controller; bulk import products from csv *");
+		return ResponseEntity.ok(this.productService.importAll(
+				new InputStreamReader(inputStream, StandardCharsets.UTF_8), ProductRecordFormat.CSV));
+	}
+	
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<ProductImportResponse> importNdjson(final InputStream inputStream) {
+		log.info("*** ProductImportResponse, controller; bulk import products from ndjson *");
+		return ResponseEntity.ok(this.productService.importAll(
+				new InputStreamReader(inputStream, StandardCharsets.UTF_8), ProductRecordFormat.NDJSON));
+	}
+	
+	@GetMapping(params = "ids")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAllByIds(
+			@RequestParam("ids") 
+			@NotNull(message = "Input must not be NULL!") final List<Integer> productIds) {
+		log.info("*** ProductDto List, controller; fetch all products by ids *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAllByIds(productIds)));
+	}
+	
+	@GetMapping("/search")
+	public ResponseEntity<DtoPageResponse<ProductDto>> search(
+			@RequestParam(value = "q", required = false) final String query, 
+			@RequestParam(value = "category", required = false) final Integer categoryId, 
+			@RequestParam(value = "minPrice", required = false) final Double minPrice, 
+			@RequestParam(value = "maxPrice", required = false) final Double maxPrice, 
+			@RequestParam(value = "page", defaultValue = "0") final Integer page, 
+			@RequestParam(value = "size", defaultValue = "" + AppConstant.SEARCH_PAGE_DEFAULT_SIZE) final Integer size) {
+		log.info("*** ProductDto List, controller; search products *");
+		final int pageSize = Math.max(1, Math.min(size, AppConstant.KEYSET_PAGE_MAX_LIMIT));
+		final int pageNumber = Math.max(0, Math.min(page, AppConstant.SEARCH_MAX_RESULT_WINDOW / pageSize - 1));
+		return ResponseEntity.ok(this.productService.search(query, categoryId, minPrice, maxPrice, pageNumber, pageSize));
+	}
+	
+	@GetMapping("/filter")
+	public ResponseEntity<DtoPageResponse<ProductDto>> filter(
+			@RequestParam(value = "category", required = false) final Integer categoryId, 
+			@RequestParam(value = "minPrice", required = false) final Double minPrice, 
+			@RequestParam(value = "maxPrice", required = false) final Double maxPrice, 
+			@RequestParam(value = "inStock", defaultValue = "false") final Boolean inStock, 
+			@RequestParam(value = "page", defaultValue = "0") final Integer page, 
+			@RequestParam(value = "size", defaultValue = "" + AppConstant.SEARCH_PAGE_DEFAULT_SIZE) final Integer size) {
+		log.info("*** ProductDto List, controller; filter products *");
+		final int pageSize = Math.max(1, Math.min(size, AppConstant.KEYSET_PAGE_MAX_LIMIT));
+		final int pageNumber = Math.max(0, Math.min(page, AppConstant.SEARCH_MAX_RESULT_WINDOW / pageSize - 1));
+		return ResponseEntity.ok(this.productService.filter(categoryId, minPrice, maxPrice, inStock, pageNumber, pageSize));
 	}
 	
 	@GetMapping("/{productId}")
@@ -41,7 +138,17 @@ public class ProductResource {
 			@NotBlank(message = "Input must not be blank!") 
 			@Valid final String productId) {
 		log.info("*** ProductDto, resource; fetch product by id *");
-		return ResponseEntity.ok(this.productService.findById(Integer.parseInt(productId)));
+		return ConditionalResponseHelper.ok(this.objectMapper, this.productService.findById(Integer.parseInt(productId)), 
+				Integer.parseInt(productId), this.productService.findLastModified(Integer.parseInt(productId)));
+	}
+	
+	@GetMapping("/{productId}/view")
+	public ResponseEntity<ProductViewDto> findViewById(
+			@PathVariable("productId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String productId) {
+		log.info("*** ProductViewDto, resource; fetch product view by id *");
+		return ResponseEntity.ok(this.productService.findViewById(Integer.parseInt(productId)));
 	}
 	
 	@PostMapping
@@ -74,6 +181,17 @@ public class ProductResource {
 		return ResponseEntity.ok(this.productService.update(Integer.parseInt(productId), productDto));
 	}
 	
+	@PostMapping("/{productId}/restock")
+	public ResponseEntity<ProductDto> restock(
+			@PathVariable("productId")
+			@NotBlank(message = "Input must not be blank!")
+			@Valid final String productId,
+			@RequestParam("quantity") 
+			@NotNull(message = "Input must not be NULL!") final Integer quantity) {
+		log.info("*** ProductDto, resource; restock product *");
+		return ResponseEntity.ok(this.productService.restock(Integer.parseInt(productId), quantity));
+	}
+	
 	@DeleteMapping("/{productId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("productId") final String productId) {
 		log.info("*** Boolean, resource; delete product by id *");
@@ -1,13 +1,22 @@
 package com.selimhorri.app.service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.CategoryDto;
 
 public interface CategoryService {
 	
 	List<CategoryDto> findAll();
+	List<CategoryDto> findAllAfter(final Integer categoryId, final int limit);
+	void streamAll(final Consumer<CategoryDto> consumer);
 	CategoryDto findById(final Integer categoryId);
+	Optional<Instant> findLastModified(final Integer categoryId);
+	CategoryDto findSubtree(final Integer categoryId);
+	List<CategoryDto> findAncestors(final Integer categoryId);
+	List<CategoryDto> findDescendants(final Integer categoryId);
 	CategoryDto save(final CategoryDto categoryDto);
 	CategoryDto update(final CategoryDto categoryDto);
 	CategoryDto update(final Integer categoryId, final CategoryDto categoryDto);
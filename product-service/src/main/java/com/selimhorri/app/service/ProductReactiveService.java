@@ -0,0 +1,14 @@
+package com.selimhorri.app.service;
+
+import com.selimhorri.app.dto.ProductDto;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ProductReactiveService {
+	
+	Flux<ProductDto> findAll();
+	Flux<ProductDto> findAllAfter(final Integer productId, final int limit);
+	Mono<ProductDto> findById(final Integer productId);
+	
+}
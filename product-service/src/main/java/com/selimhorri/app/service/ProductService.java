@@ -1,16 +1,36 @@
 package com.selimhorri.app.service;
 
+import java.io.Reader;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.selimhorri.app.bulk.ProductRecordFormat;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.ProductViewDto;
+import com.selimhorri.app.dto.response.ProductImportResponse;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	List<ProductDto> findAllAfter(final Integer productId, final int limit);
+	void streamAll(final Consumer<ProductDto> consumer);
+	ProductImportResponse importAll(final Reader reader, final ProductRecordFormat format);
+	List<ProductDto> findAllByIds(final Collection<Integer> productIds);
+	DtoPageResponse<ProductDto> search(final String query, final Integer categoryId, 
+			final Double minPrice, final Double maxPrice, final int page, final int size);
+	DtoPageResponse<ProductDto> filter(final Integer categoryId, final Double minPrice, final Double maxPrice, 
+			final boolean inStock, final int page, final int size);
 	ProductDto findById(final Integer productId);
+	ProductViewDto findViewById(final Integer productId);
+	Optional<Instant> findLastModified(final Integer productId);
 	ProductDto save(final ProductDto productDto);
 	ProductDto update(final ProductDto productDto);
 	ProductDto update(final Integer productId, final ProductDto productDto);
+	ProductDto restock(final Integer productId, final int quantity);
 	void deleteById(final Integer productId);
 	
 }
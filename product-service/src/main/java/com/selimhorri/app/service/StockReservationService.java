@@ -0,0 +1,15 @@
+package com.selimhorri.app.service;
+
+import java.time.Duration;
+
+import com.selimhorri.app.dto.ProductReservationDto;
+
+public interface StockReservationService {
+	
+	ProductReservationDto reserve(final ProductReservationDto productReservationDto, final Duration ttl);
+	ProductReservationDto findById(final Integer reservationId);
+	ProductReservationDto commit(final Integer reservationId);
+	ProductReservationDto release(final Integer reservationId);
+	int releaseExpired();
+	
+}
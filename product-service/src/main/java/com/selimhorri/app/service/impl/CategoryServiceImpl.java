@@ -1,15 +1,26 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.index.CategoryTree;
+import com.selimhorri.app.index.CategoryTreeChangedEvent;
+import com.selimhorri.app.index.CategoryTreeIndex;
 import com.selimhorri.app.repository.CategoryRepository;
 import com.selimhorri.app.service.CategoryService;
 
@@ -23,6 +34,9 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final EntityManager entityManager;
+	private final CategoryTreeIndex categoryTreeIndex;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
 	public List<CategoryDto> findAll() {
@@ -34,6 +48,26 @@ public class CategoryServiceImpl implements CategoryService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<CategoryDto> findAllAfter(final Integer categoryId, final int limit) {
+		log.info("*** CategoryDto List, service; fetch categories page after id *");
+		return this.categoryRepository.findByCategoryIdGreaterThanOrderByCategoryIdAsc(categoryId, PageRequest.of(0, limit))
+				.stream()
+					.map(CategoryMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public void streamAll(final Consumer<CategoryDto> consumer) {
+		log.info("*** Void, service; stream all categories *");
+		try (final Stream<Category> categories = this.categoryRepository.streamAllByOrderByCategoryIdAsc()) {
+			categories.forEach(category -> {
+				consumer.accept(CategoryMappingHelper.map(category));
+				this.entityManager.detach(category);
+			});
+		}
+	}
+	
 	@Override
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
@@ -42,31 +76,68 @@ public class CategoryServiceImpl implements CategoryService {
 				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId)));
 	}
 	
+	@Override
+	public CategoryDto findSubtree(final Integer categoryId) {
+		log.info("*** CategoryDto, service; fetch category subtree by id *");
+		return this.categoryTreeIndex.get().subtree(categoryId)
+				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId)));
+	}
+	
+	@Override
+	public List<CategoryDto> findAncestors(final Integer categoryId) {
+		log.info("*** CategoryDto List, service; fetch category ancestors by id *");
+		final CategoryTree categoryTree = this.categoryTreeIndex.get();
+		if (!categoryTree.contains(categoryId))
+			throw new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId));
+		return categoryTree.ancestors(categoryId);
+	}
+	
+	@Override
+	public List<CategoryDto> findDescendants(final Integer categoryId) {
+		log.info("*** CategoryDto List, service; fetch category descendants by id *");
+		final CategoryTree categoryTree = this.categoryTreeIndex.get();
+		if (!categoryTree.contains(categoryId))
+			throw new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId));
+		return categoryTree.descendants(categoryId);
+	}
+	
+	@Override
+	public Optional<Instant> findLastModified(final Integer categoryId) {
+		log.info("*** Instant, service; fetch category last modified by id *");
+		return this.categoryRepository.findLastModifiedByCategoryId(categoryId);
+	}
+	
 	@Override
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		return this.publishChanged(CategoryMappingHelper.map(this.categoryRepository
+				.save(CategoryMappingHelper.map(categoryDto))));
 	}
 	
 	@Override
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		return this.publishChanged(CategoryMappingHelper.map(this.categoryRepository
+				.save(CategoryMappingHelper.map(categoryDto))));
 	}
 	
 	@Override
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(this.findById(categoryId))));
+		return this.publishChanged(CategoryMappingHelper.map(this.categoryRepository
+				.save(CategoryMappingHelper.map(this.findById(categoryId)))));
 	}
 	
 	@Override
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
 		this.categoryRepository.deleteById(categoryId);
+		this.applicationEventPublisher.publishEvent(new CategoryTreeChangedEvent(categoryId));
+	}
+	
+	private CategoryDto publishChanged(final CategoryDto categoryDto) {
+		this.applicationEventPublisher.publishEvent(new CategoryTreeChangedEvent(categoryDto.getCategoryId()));
+		return categoryDto;
 	}
 	
 	
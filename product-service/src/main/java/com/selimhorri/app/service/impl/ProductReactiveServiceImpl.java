@@ -0,0 +1,60 @@
+package com.selimhorri.app.service.impl;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.ProductReactiveRepository;
+import com.selimhorri.app.service.ProductReactiveService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnProperty(prefix = "app.reactive-catalogue", name = "enabled", havingValue = "true")
+@Slf4j
+@RequiredArgsConstructor
+public class ProductReactiveServiceImpl implements ProductReactiveService {
+	
+	private final ProductReactiveRepository productReactiveRepository;
+	
+	@Override
+	public Flux<ProductDto> findAll() {
+		log.info("*** ProductDto Flux, service; fetch all products *");
+		return this.productReactiveRepository.findAllProjections()
+				.map(ProductMappingHelper::map);
+	}
+	
+	@Override
+	public Flux<ProductDto> findAllAfter(final Integer productId, final int limit) {
+		log.info("*** ProductDto Flux, service; fetch products page after id *");
+		return this.productReactiveRepository.findProjectionsAfter(productId, limit)
+				.map(ProductMappingHelper::map);
+	}
+	
+	@Override
+	public Mono<ProductDto> findById(final Integer productId) {
+		log.info("*** ProductDto Mono, service; fetch product by id *");
+		return this.productReactiveRepository.findProjectionById(productId)
+				.map(ProductMappingHelper::map)
+				.switchIfEmpty(Mono.error(() -> new ProductNotFoundException(String
+						.format("Product with id: %d not found", productId))));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,15 +1,51 @@
 package com.selimhorri.app.service.impl;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.bulk.ProductBulkImporter;
+import com.selimhorri.app.bulk.ProductRecordFormat;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.ProductViewDto;
+import com.selimhorri.app.dto.response.ProductImportResponse;
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
+import com.selimhorri.app.exception.wrapper.ProductBatchSizeExceededException;
+import com.selimhorri.app.exception.wrapper.ProductImportException;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.exception.wrapper.ProductQuantityUpdateException;
 import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.index.CategoryTree;
+import com.selimhorri.app.index.CategoryTreeIndex;
+import com.selimhorri.app.index.ProductChangedEvent;
+import com.selimhorri.app.index.ProductSearchIndex;
+import com.selimhorri.app.index.ProductSearchResult;
+import com.selimhorri.app.index.ProductViewIndex;
+import com.selimhorri.app.index.ProductsImportedEvent;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.ProductService;
 
@@ -23,17 +59,131 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
+	private final EntityManager entityManager;
+	private final ProductSearchIndex productSearchIndex;
+	private final CategoryTreeIndex categoryTreeIndex;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ProductBulkImporter productBulkImporter;
+	private final ProductViewIndex productViewIndex;
 	
 	@Override
 	public List<ProductDto> findAll() {
 		log.info("*** ProductDto List, service; fetch all products *");
-		return this.productRepository.findAll()
+		return this.productRepository.findAllProjections()
 				.stream()
 					.map(ProductMappingHelper::map)
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto List, service; fetch all products by ids *");
+		return this.productRepository.findAllProjectionsByProductIdIn(requireBatchSize(productIds))
+				.stream()
+					.map(ProductMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public DtoPageResponse<ProductDto> search(final String query, final Integer categoryId, 
+			final Double minPrice, final Double maxPrice, final int page, final int size) {
+		log.info("*** ProductDto List, service; search products *");
+		final Set<Integer> categoryIds = categoryId != null ? this.categoryIdsOf(categoryId) : null;
+		final ProductSearchResult productSearchResult = this.productSearchIndex.get()
+				.search(query, categoryIds, minPrice, maxPrice, page, size);
+		final Map<Integer, ProductDto> productDtos = productSearchResult.getProductIds().isEmpty() 
+				? Map.of() 
+				: this.productRepository.findAllProjectionsByProductIdIn(productSearchResult.getProductIds())
+						.stream()
+							.map(ProductMappingHelper::map)
+							.collect(Collectors.toMap(ProductDto::getProductId, Function.identity(), (a, b) -> a));
+		return new DtoPageResponse<>(productSearchResult.getProductIds().stream()
+					.map(productDtos::get)
+					.filter(Objects::nonNull)
+					.collect(Collectors.toUnmodifiableList()), 
+				page, size, productSearchResult.getTotalElements());
+	}
+	
+	@Override
+	public DtoPageResponse<ProductDto> filter(final Integer categoryId, final Double minPrice, final Double maxPrice, 
+			final boolean inStock, final int page, final int size) {
+		log.info("*** ProductDto List, service; filter products by category, price and availability *");
+		final Pageable pageable = PageRequest.of(page, size);
+		final Page<ProductProjection> productProjections = minPrice != null || maxPrice != null 
+				? this.filterByPrice(categoryId, minPrice != null ? minPrice : 0.0, 
+						maxPrice != null ? maxPrice : Double.MAX_VALUE, inStock, pageable) 
+				: this.filterWithoutPrice(categoryId, inStock, pageable);
+		return new DtoPageResponse<>(productProjections.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), 
+				page, size, productProjections.getTotalElements());
+	}
+	
+	private Page<ProductProjection> filterByPrice(final Integer categoryId, final Double minPrice, final Double maxPrice, 
+			final boolean inStock, final Pageable pageable) {
+		if (categoryId != null)
+			return inStock 
+					? this.productRepository.findInStockProjectionsByCategoryAndPriceBetween(categoryId, minPrice, maxPrice, pageable) 
+					: this.productRepository.findProjectionsByCategoryAndPriceBetween(categoryId, minPrice, maxPrice, pageable);
+		return inStock 
+				? this.productRepository.findInStockProjectionsByPriceBetween(minPrice, maxPrice, pageable) 
+				: this.productRepository.findProjectionsByPriceBetween(minPrice, maxPrice, pageable);
+	}
+	
+	private Page<ProductProjection> filterWithoutPrice(final Integer categoryId, final boolean inStock, final Pageable pageable) {
+		if (categoryId != null)
+			return inStock 
+					? this.productRepository.findInStockProjectionsByCategory(categoryId, pageable) 
+					: this.productRepository.findProjectionsByCategory(categoryId, pageable);
+		return inStock 
+				? this.productRepository.findInStockProjections(pageable) 
+				: this.productRepository.findProjections(pageable);
+	}
+	
+	private Set<Integer> categoryIdsOf(final Integer categoryId) {
+		final CategoryTree categoryTree = this.categoryTreeIndex.get();
+		return Stream.concat(Stream.of(categoryId), categoryTree.descendants(categoryId).stream()
+					.map(CategoryDto::getCategoryId))
+				.collect(Collectors.toUnmodifiableSet());
+	}
+	
+	@Override
+	public List<ProductDto> findAllAfter(final Integer productId, final int limit) {
+		log.info("*** ProductDto List, service; fetch products page after id *");
+		return this.productRepository.findProjectionsAfter(productId, PageRequest.of(0, limit))
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public void streamAll(final Consumer<ProductDto> consumer) {
+		log.info("*** Void, service; stream all products *");
+		try (final Stream<Product> products = this.productRepository.streamAllByOrderByProductIdAsc()) {
+			products.forEach(product -> {
+				consumer.accept(ProductMappingHelper.map(product));
+				this.entityManager.detach(product);
+			});
+		}
+	}
+	
+	@Override
+	@Transactional(TxType.NOT_SUPPORTED)
+	public ProductImportResponse importAll(final Reader reader, final ProductRecordFormat format) {
+		log.info("*** ProductImportResponse, service; bulk import products *");
+		try {
+			final ProductImportResponse productImportResponse = this.productBulkImporter.importAll(reader, format);
+			if (productImportResponse.getImported() > 0)
+				this.applicationEventPublisher.publishEvent(new ProductsImportedEvent(productImportResponse.getImported()));
+			return productImportResponse;
+		}
+		catch (IOException e) {
+			throw new ProductImportException("Unable to read import payload", e);
+		}
+	}
+	
 	@Override
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
@@ -42,25 +192,50 @@ public class ProductServiceImpl implements ProductService {
 				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
 	}
 	
+	@Override
+	public ProductViewDto findViewById(final Integer productId) {
+		log.info("*** ProductViewDto, service; fetch product view by id *");
+		return this.productViewIndex.find(productId)
+				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
+	}
+	
+	@Override
+	public Optional<Instant> findLastModified(final Integer productId) {
+		log.info("*** Instant, service; fetch product last modified by id *");
+		return this.productRepository.findLastModifiedByProductId(productId);
+	}
+	
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(productDto)));
+		return this.publishChanged(ProductMappingHelper.map(this.productRepository
+				.save(ProductMappingHelper.map(productDto))));
 	}
 	
 	@Override
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(productDto)));
+		rejectQuantity(productDto.getProductId(), productDto);
+		return this.publishChanged(this.withStoredQuantity(this.productRepository
+				.save(ProductMappingHelper.map(productDto))));
 	}
 	
 	@Override
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(this.findById(productId))));
+		rejectQuantity(productId, productDto);
+		return this.publishChanged(this.withStoredQuantity(this.productRepository
+				.save(ProductMappingHelper.map(this.findById(productId)))));
+	}
+	
+	@Override
+	public ProductDto restock(final Integer productId, final int quantity) {
+		log.info("*** ProductDto, service; restock product *");
+		if (quantity <= 0)
+			throw new ProductQuantityUpdateException(String.format("Restocked quantity must be positive, got %d", quantity));
+		if (this.productRepository.incrementQuantity(productId, quantity) == 0)
+			throw new ProductNotFoundException(String.format("Product with id: %d not found", productId));
+		return this.publishChanged(this.findById(productId));
 	}
 	
 	@Override
@@ -68,6 +243,31 @@ public class ProductServiceImpl implements ProductService {
 		log.info("*** Void, service; delete product by id *");
 		this.productRepository.delete(ProductMappingHelper
 				.map(this.findById(productId)));
+		this.applicationEventPublisher.publishEvent(new ProductChangedEvent(productId, true));
+	}
+	
+	private static Collection<Integer> requireBatchSize(final Collection<Integer> productIds) {
+		if (productIds.size() > AppConstant.BULK_LOOKUP_MAX_IDS)
+			throw new ProductBatchSizeExceededException(String.format("Batch of %d product ids exceeds the maximum of %d", 
+					productIds.size(), AppConstant.BULK_LOOKUP_MAX_IDS));
+		return productIds;
+	}
+	
+	private static void rejectQuantity(final Integer productId, final ProductDto productDto) {
+		if (productDto.getQuantity() != null)
+			throw new ProductQuantityUpdateException(String.format(
+					"Quantity of product with id: %d cannot be set by an update, use restock or reservations", productId));
+	}
+	
+	private ProductDto withStoredQuantity(final Product product) {
+		final ProductDto productDto = ProductMappingHelper.map(product);
+		productDto.setQuantity(this.productRepository.findQuantityByProductId(product.getProductId()).orElse(null));
+		return productDto;
+	}
+	
+	private ProductDto publishChanged(final ProductDto productDto) {
+		this.applicationEventPublisher.publishEvent(new ProductChangedEvent(productDto.getProductId(), false));
+		return productDto;
 	}
 	
 	
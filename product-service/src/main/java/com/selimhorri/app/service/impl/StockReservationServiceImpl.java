@@ -0,0 +1,175 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.stock.StockProperties;
+import com.selimhorri.app.domain.ProductReservation;
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.dto.ProductReservationDto;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.exception.wrapper.ProductReservationNotFoundException;
+import com.selimhorri.app.exception.wrapper.ProductReservationStateException;
+import com.selimhorri.app.helper.ProductReservationMappingHelper;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.ProductReservationRepository;
+import com.selimhorri.app.service.StockReservationService;
+import com.selimhorri.app.stock.StripedStockAllotment;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+public class StockReservationServiceImpl implements StockReservationService {
+	
+	private final ProductReservationRepository productReservationRepository;
+	private final ProductRepository productRepository;
+	private final StripedStockAllotment stripedStockAllotment;
+	private final StockProperties stockProperties;
+	private final TransactionTemplate transactionTemplate;
+	
+	public StockReservationServiceImpl(final ProductReservationRepository productReservationRepository, 
+			final ProductRepository productRepository, 
+			final StripedStockAllotment stripedStockAllotment, 
+			final StockProperties stockProperties, 
+			final PlatformTransactionManager transactionManager) {
+		this.productReservationRepository = productReservationRepository;
+		this.productRepository = productRepository;
+		this.stripedStockAllotment = stripedStockAllotment;
+		this.stockProperties = stockProperties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+	
+	@Override
+	@Transactional(TxType.NOT_SUPPORTED)
+	public ProductReservationDto reserve(final ProductReservationDto productReservationDto, final Duration ttl) {
+		log.info("*** ProductReservationDto, service; reserve product stock *");
+		final Integer productId = productReservationDto.getProductId();
+		final int quantity = productReservationDto.getQuantity();
+		if (quantity <= 0)
+			throw new IllegalArgumentException("Reserved quantity must be positive");
+		final LocalDateTime expiresAt = LocalDateTime.now().plus(this.effectiveTtl(ttl));
+		
+		if (!this.stripedStockAllotment.isHot(productId))
+			return this.transactionTemplate.execute(status -> {
+				if (this.productRepository.decrementQuantity(productId, quantity) == 0)
+					throw this.insufficientStock(productId, quantity);
+				return this.saveReservation(productId, quantity, expiresAt);
+			});
+		
+		if (!this.stripedStockAllotment.take(productId, quantity))
+			throw this.insufficientStock(productId, quantity);
+		try {
+			return this.transactionTemplate.execute(status -> this.saveReservation(productId, quantity, expiresAt));
+		}
+		catch (RuntimeException e) {
+			this.stripedStockAllotment.giveBack(productId, quantity);
+			throw e;
+		}
+	}
+	
+	@Override
+	public ProductReservationDto findById(final Integer reservationId) {
+		log.info("*** ProductReservationDto, service; fetch reservation by id *");
+		return this.productReservationRepository.findById(reservationId)
+				.map(ProductReservationMappingHelper::map)
+				.orElseThrow(() -> new ProductReservationNotFoundException(String
+						.format("Reservation with id: %d not found", reservationId)));
+	}
+	
+	@Override
+	public ProductReservationDto commit(final Integer reservationId) {
+		log.info("*** ProductReservationDto, service; commit reservation *");
+		if (this.productReservationRepository.transitionUnexpired(reservationId, 
+				ReservationStatus.RESERVED, ReservationStatus.COMMITTED, LocalDateTime.now()) == 0)
+			throw this.illegalState(this.findById(reservationId), "committed");
+		return this.findById(reservationId);
+	}
+	
+	@Override
+	public ProductReservationDto release(final Integer reservationId) {
+		log.info("*** ProductReservationDto, service; release reservation *");
+		final ProductReservationDto productReservationDto = this.findById(reservationId);
+		if (this.productReservationRepository.transition(reservationId, 
+				ReservationStatus.RESERVED, ReservationStatus.RELEASED) == 0)
+			throw this.illegalState(productReservationDto, "released");
+		this.productRepository.incrementQuantity(productReservationDto.getProductId(), productReservationDto.getQuantity());
+		return this.findById(reservationId);
+	}
+	
+	@Override
+	@Scheduled(fixedDelayString = "${app.stock.sweep-interval:PT30S}")
+	public int releaseExpired() {
+		final List<ProductReservation> expiredReservations = this.productReservationRepository
+				.findByReservationStatusAndExpiresAtBefore(ReservationStatus.RESERVED, LocalDateTime.now(), 
+						PageRequest.of(0, this.stockProperties.getSweepBatchSize()));
+		int released = 0;
+		for (final ProductReservation productReservation : expiredReservations) {
+			if (this.productReservationRepository.transition(productReservation.getReservationId(), 
+					ReservationStatus.RESERVED, ReservationStatus.EXPIRED) == 1) {
+				this.productRepository.incrementQuantity(productReservation.getProductId(), productReservation.getQuantity());
+				released++;
+			}
+		}
+		if (released > 0)
+			log.info("**StockReservationServiceImpl, released {} expired reservations*\n", released);
+		return released;
+	}
+	
+	private Duration effectiveTtl(final Duration ttl) {
+		if (ttl == null || ttl.isNegative() || ttl.isZero())
+			return this.stockProperties.getDefaultTtl();
+		return ttl.compareTo(this.stockProperties.getMaxTtl()) > 0 ? this.stockProperties.getMaxTtl() : ttl;
+	}
+	
+	private ProductReservationDto saveReservation(final Integer productId, final int quantity, 
+			final LocalDateTime expiresAt) {
+		return ProductReservationMappingHelper.map(this.productReservationRepository.save(ProductReservation.builder()
+				.productId(productId)
+				.quantity(quantity)
+				.reservationStatus(ReservationStatus.RESERVED)
+				.expiresAt(expiresAt)
+				.build()));
+	}
+	
+	private RuntimeException insufficientStock(final Integer productId, final int quantity) {
+		if (!this.productRepository.existsById(productId))
+			return new ProductNotFoundException(String.format("Product with id: %d not found", productId));
+		return new InsufficientStockException(String
+				.format("Product with id: %d has less than %d units in stock", productId, quantity));
+	}
+	
+	private ProductReservationStateException illegalState(final ProductReservationDto productReservationDto, 
+			final String action) {
+		final boolean expired = productReservationDto.getReservationStatus() == ReservationStatus.RESERVED 
+				&& !productReservationDto.getExpiresAt().isAfter(LocalDateTime.now());
+		return new ProductReservationStateException(String.format("Reservation with id: %d is %s and cannot be %s", 
+				productReservationDto.getReservationId(), 
+				expired ? "expired" : productReservationDto.getReservationStatus().name().toLowerCase(), 
+				action));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,73 @@
+package com.selimhorri.app.stock;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+final class StockStripes {
+	
+	private static final int PADDING = 16;
+	
+	private final int stripes;
+	private final AtomicIntegerArray units;
+	private volatile long claimedAt = System.nanoTime();
+	
+	StockStripes(final int stripes) {
+		this.stripes = Math.max(1, stripes);
+		this.units = new AtomicIntegerArray(this.stripes * PADDING);
+	}
+	
+	boolean take(final int quantity) {
+		final int start = home();
+		for (int i = 0; i < this.stripes; i++) {
+			final int index = ((start + i) % this.stripes) * PADDING;
+			int current = this.units.get(index);
+			while (current >= quantity) {
+				if (this.units.compareAndSet(index, current, current - quantity))
+					return true;
+				current = this.units.get(index);
+			}
+		}
+		return false;
+	}
+	
+	void put(final int quantity) {
+		if (quantity > 0)
+			this.units.addAndGet(home() * PADDING, quantity);
+	}
+	
+	int drain() {
+		int drained = 0;
+		for (int i = 0; i < this.stripes; i++)
+			drained += this.units.getAndSet(i * PADDING, 0);
+		return drained;
+	}
+	
+	void claimed() {
+		this.claimedAt = System.nanoTime();
+	}
+	
+	long sinceClaimNanos() {
+		return System.nanoTime() - this.claimedAt;
+	}
+	
+	int available() {
+		int available = 0;
+		for (int i = 0; i < this.stripes; i++)
+			available += this.units.get(i * PADDING);
+		return available;
+	}
+	
+	private int home() {
+		return (int) (Thread.currentThread().getId() % this.stripes);
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,132 @@
+package com.selimhorri.app.stock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.stock.StockProperties;
+import com.selimhorri.app.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class StripedStockAllotment {
+	
+	private final ProductRepository productRepository;
+	private final StockProperties stockProperties;
+	private final TransactionTemplate requiresNewTransactionTemplate;
+	private final ConcurrentMap<Integer, StockStripes> stripesByProductId = new ConcurrentHashMap<>();
+	
+	public StripedStockAllotment(final ProductRepository productRepository, 
+			final StockProperties stockProperties, 
+			final PlatformTransactionManager transactionManager) {
+		this.productRepository = productRepository;
+		this.stockProperties = stockProperties;
+		this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+	
+	public boolean isHot(final Integer productId) {
+		return this.stockProperties.getHotProductIds().contains(productId);
+	}
+	
+	public boolean take(final Integer productId, final int quantity) {
+		final StockStripes stockStripes = this.stripesByProductId
+				.computeIfAbsent(productId, id -> new StockStripes(this.stockProperties.getStripes()));
+		return stockStripes.take(quantity) || this.refillAndTake(productId, stockStripes, quantity);
+	}
+	
+	public void giveBack(final Integer productId, final int quantity) {
+		final StockStripes stockStripes = this.stripesByProductId.get(productId);
+		if (stockStripes != null)
+			stockStripes.put(quantity);
+		else
+			this.requiresNewTransactionTemplate.executeWithoutResult(status -> 
+					this.productRepository.incrementQuantity(productId, quantity));
+	}
+	
+	public int allotted(final Integer productId) {
+		final StockStripes stockStripes = this.stripesByProductId.get(productId);
+		return stockStripes != null ? stockStripes.available() : 0;
+	}
+	
+	private boolean refillAndTake(final Integer productId, final StockStripes stockStripes, final int quantity) {
+		synchronized (stockStripes) {
+			if (stockStripes.take(quantity))
+				return true;
+			final int claimed = this.claim(productId, Math.max(this.stockProperties.getAllotmentBatchSize(), quantity));
+			stockStripes.claimed();
+			if (claimed >= quantity) {
+				stockStripes.put(claimed - quantity);
+				return true;
+			}
+			final int consolidated = stockStripes.drain() + claimed;
+			if (consolidated >= quantity) {
+				stockStripes.put(consolidated - quantity);
+				return true;
+			}
+			stockStripes.put(consolidated);
+			return false;
+		}
+	}
+	
+	private int claim(final Integer productId, final int wanted) {
+		return this.requiresNewTransactionTemplate.execute(status -> {
+			while (true) {
+				final int claimable = Math.min(wanted, this.productRepository
+						.findQuantityByProductId(productId)
+						.orElse(0));
+				if (claimable <= 0)
+					return 0;
+				if (this.productRepository.decrementQuantity(productId, claimable) == 1)
+					return claimable;
+			}
+		});
+	}
+	
+	@Scheduled(fixedDelayString = "${app.stock.allotment-return-interval:PT5S}")
+	public void returnIdleAllotments() {
+		final long idleTimeoutNanos = this.stockProperties.getAllotmentIdleTimeout().toNanos();
+		this.stripesByProductId.forEach((productId, stockStripes) -> {
+			if (stockStripes.sinceClaimNanos() >= idleTimeoutNanos)
+				this.returnAllotment(productId, stockStripes);
+		});
+	}
+	
+	@PreDestroy
+	public void returnAllotments() {
+		this.stripesByProductId.forEach(this::returnAllotment);
+	}
+	
+	private void returnAllotment(final Integer productId, final StockStripes stockStripes) {
+		synchronized (stockStripes) {
+			final int drained = stockStripes.drain();
+			if (drained > 0) {
+				this.requiresNewTransactionTemplate.executeWithoutResult(status -> 
+						this.productRepository.incrementQuantity(productId, drained));
+				log.info("**StripedStockAllotment, returned {} allotted units of product {}*\n", drained, productId);
+			}
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,15 @@
+
+CREATE TABLE product_reservations (
+	reservation_id INT(11) NOT NULL PRIMARY KEY AUTO_INCREMENT,
+	product_id INT(11) NOT NULL,
+	quantity INT(11) NOT NULL,
+	reservation_status VARCHAR(255) NOT NULL,
+	expires_at TIMESTAMP NOT NULL,
+	created_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL NULL_TO_DEFAULT,
+	updated_at TIMESTAMP
+);
+
+ALTER TABLE product_reservations
+  ADD CONSTRAINT fk9_assign FOREIGN KEY (product_id) REFERENCES products (product_id) ON DELETE CASCADE;
+
+CREATE INDEX idx_product_reservations_status_expires_at ON product_reservations (reservation_status, expires_at);
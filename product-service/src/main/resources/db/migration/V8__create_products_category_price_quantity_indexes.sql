@@ -0,0 +1,5 @@
+
+CREATE INDEX idx_products_category_id_price_unit ON products (category_id, price_unit);
+
+CREATE INDEX idx_products_quantity ON products (quantity);
+
@@ -0,0 +1,112 @@
+package com.selimhorri.app.unit.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.selimhorri.app.bulk.ProductBulkImporter;
+import com.selimhorri.app.bulk.ProductRecordFormat;
+import com.selimhorri.app.config.bulk.BulkImportProperties;
+import com.selimhorri.app.dto.response.ProductImportResponse;
+import com.selimhorri.app.exception.wrapper.ProductImportException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductBulkImporterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductBulkImporter productBulkImporter;
+
+    @BeforeEach
+    void setUp() {
+        final BulkImportProperties bulkImportProperties = new BulkImportProperties();
+        bulkImportProperties.setBatchSize(100);
+        meterRegistry = new SimpleMeterRegistry();
+        productBulkImporter = new ProductBulkImporter(jdbcTemplate, transactionManager, bulkImportProperties,
+            new JsonMapper(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM products WHERE sku LIKE 'BULK-%'");
+    }
+
+    @Test
+    @DisplayName("Should batch insert valid CSV rows and report invalid ones by line")
+    void testImportCsv() throws Exception {
+        // Arrange
+        final String csv = "productTitle,sku,priceUnit,quantity,categoryId\n"
+            + IntStream.range(0, 1_000)
+                .mapToObj(i -> String.format("\"Product, %d\",BULK-%d,9.99,%d,1", i, i, i))
+                .collect(Collectors.joining("\n"))
+            + "\n,BULK-missing-title,1.0,1,1"
+            + "\nbad price,BULK-bad-price,abc,1,1"
+            + "\nunknown category,BULK-unknown-category,1.0,1,9999\n";
+
+        // Act
+        final ProductImportResponse response = productBulkImporter.importAll(new StringReader(csv), ProductRecordFormat.CSV);
+
+        // Assert
+        assertThat(response.getImported()).isEqualTo(1_000);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getErrors()).hasSize(3)
+            .anySatisfy(error -> assertThat(error).startsWith("line 1002: productTitle"))
+            .anySatisfy(error -> assertThat(error).startsWith("line 1004: "));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE sku LIKE 'BULK-%'", Long.class))
+            .isEqualTo(1_000L);
+        assertThat(jdbcTemplate.queryForObject("SELECT product_title FROM products WHERE sku = 'BULK-7'", String.class))
+            .isEqualTo("Product, 7");
+        assertThat(meterRegistry.get("products.import.records").tag("outcome", "imported").counter().count())
+            .isEqualTo(1_000);
+        assertThat(meterRegistry.get("products.import.records").tag("outcome", "rejected").counter().count())
+            .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON records with nested categories")
+    void testImportNdjson() throws Exception {
+        // Arrange
+        final String ndjson = "{\"productTitle\":\"a\",\"sku\":\"BULK-a\",\"priceUnit\":1.5,\"quantity\":3,\"category\":{\"categoryId\":2}}\n"
+            + "{\"productTitle\":\"b\",\"sku\":\"BULK-b\",\"priceUnit\":2,\"quantity\":4,\"unknown\":true}\n"
+            + "{not json\n";
+
+        // Act
+        final ProductImportResponse response = productBulkImporter.importAll(new StringReader(ndjson), ProductRecordFormat.NDJSON);
+
+        // Assert
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT category_id FROM products WHERE sku = 'BULK-a'", Integer.class))
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should refuse a CSV payload without the mandatory columns")
+    void testImportCsvWithoutHeader() {
+        assertThatThrownBy(() -> productBulkImporter.importAll(new StringReader("a,b,c\n1,2,3\n"), ProductRecordFormat.CSV))
+            .isInstanceOf(ProductImportException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.selimhorri.app.unit.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.ConditionalResponseHelper;
+
+class ConditionalResponseHelperTest {
+
+    private final ObjectMapper objectMapper = new JsonMapper();
+
+    @Test
+    @DisplayName("Should derive the ETag from the serialized body, not its toString")
+    void testETagHashesSerializedBody() throws Exception {
+        // Arrange
+        final DtoCollectionResponse<CategoryDto> body = new DtoCollectionResponse<>(List.of(category(1, "Computers", 3)));
+        final String serialized = objectMapper.writeValueAsString(body);
+
+        // Act
+        final String eTag = ConditionalResponseHelper.eTag(objectMapper, body);
+        final String sameContent = ConditionalResponseHelper.eTag(objectMapper,
+            objectMapper.readValue(serialized, DtoCollectionResponse.class));
+        final String renamed = ConditionalResponseHelper.eTag(objectMapper,
+            new DtoCollectionResponse<>(List.of(category(1, "Laptops", 3))));
+
+        // Assert
+        assertThat(eTag).matches("\"[0-9a-f]{64}\"");
+        assertThat(sameContent).isEqualTo(eTag);
+        assertThat(renamed).isNotEqualTo(eTag);
+    }
+
+    private static CategoryDto category(final int categoryId, final String categoryTitle, final int subCategories) {
+        final Set<CategoryDto> subCategoriesDtos = IntStream.rangeClosed(1, subCategories)
+            .mapToObj(i -> CategoryDto.builder().categoryId(categoryId * 100 + i).categoryTitle("sub-" + i).build())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        return CategoryDto.builder()
+            .categoryId(categoryId)
+            .categoryTitle(categoryTitle)
+            .subCategoriesDtos(subCategoriesDtos)
+            .build();
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.selimhorri.app.unit.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductCsvHelper;
+
+class ProductCsvHelperTest {
+
+    @Test
+    @DisplayName("Should parse what it formats, including quoted values")
+    void testFormatThenParse() {
+        // Arrange
+        final ProductDto productDto = ProductDto.builder()
+            .productId(7)
+            .productTitle("Laptop, 15\" \"Pro\"")
+            .imageUrl("http://example.com/laptop.jpg")
+            .sku("LAP-7")
+            .priceUnit(999.5)
+            .quantity(3)
+            .categoryDto(CategoryDto.builder().categoryId(2).build())
+            .build();
+
+        // Act
+        final ProductDto parsed = ProductCsvHelper.parser(ProductCsvHelper.header())
+            .apply(ProductCsvHelper.format(productDto));
+
+        // Assert
+        assertThat(parsed.getProductId()).isNull();
+        assertThat(parsed.getProductTitle()).isEqualTo(productDto.getProductTitle());
+        assertThat(parsed.getSku()).isEqualTo("LAP-7");
+        assertThat(parsed.getPriceUnit()).isEqualTo(999.5);
+        assertThat(parsed.getQuantity()).isEqualTo(3);
+        assertThat(parsed.getCategoryDto().getCategoryId()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should map columns by header name and leave missing ones empty")
+    void testParseReorderedColumns() {
+        // Act
+        final ProductDto parsed = ProductCsvHelper.parser("sku,productTitle")
+            .apply("SKU-1,Phone");
+
+        // Assert
+        assertThat(parsed.getSku()).isEqualTo("SKU-1");
+        assertThat(parsed.getProductTitle()).isEqualTo("Phone");
+        assertThat(parsed.getPriceUnit()).isNull();
+        assertThat(parsed.getCategoryDto()).isNull();
+    }
+}
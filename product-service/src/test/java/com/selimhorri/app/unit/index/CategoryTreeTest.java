@@ -0,0 +1,103 @@
+package com.selimhorri.app.unit.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.index.CategoryNode;
+import com.selimhorri.app.index.CategoryTree;
+
+class CategoryTreeTest {
+
+    private CategoryTree categoryTree;
+
+    @BeforeEach
+    void setUp() {
+        // 1 Electronics
+        // +-- 2 Computers
+        // |   +-- 4 Laptops
+        // |   |   +-- 6 Gaming laptops
+        // |   +-- 5 Desktops
+        // +-- 3 Phones
+        // 7 Books
+        categoryTree = CategoryTree.of(List.of(
+            new CategoryNode(6, "Gaming laptops", null, 4),
+            new CategoryNode(1, "Electronics", null, null),
+            new CategoryNode(2, "Computers", null, 1),
+            new CategoryNode(3, "Phones", null, 1),
+            new CategoryNode(4, "Laptops", null, 2),
+            new CategoryNode(5, "Desktops", null, 2),
+            new CategoryNode(7, "Books", null, null)));
+    }
+
+    @Test
+    @DisplayName("Should return the ancestors path from the root down to the parent")
+    void testAncestors() {
+        // Act
+        final List<CategoryDto> ancestors = categoryTree.ancestors(6);
+
+        // Assert
+        assertThat(ancestors).extracting(CategoryDto::getCategoryId).containsExactly(1, 2, 4);
+        assertThat(ancestors.get(2).getParentCategoryDto().getCategoryId()).isEqualTo(2);
+        assertThat(categoryTree.ancestors(1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return all descendants in depth-first order")
+    void testDescendants() {
+        // Act & Assert
+        assertThat(categoryTree.descendants(1)).extracting(CategoryDto::getCategoryId).containsExactly(2, 4, 6, 5, 3);
+        assertThat(categoryTree.descendants(2)).extracting(CategoryDto::getCategoryId).containsExactly(4, 6, 5);
+        assertThat(categoryTree.descendants(7)).isEmpty();
+        assertThat(categoryTree.descendants(99)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the nested subtree rooted at a category")
+    void testSubtree() {
+        // Act
+        final CategoryDto subtree = categoryTree.subtree(2).orElseThrow();
+
+        // Assert
+        assertThat(subtree.getParentCategoryDto().getCategoryId()).isEqualTo(1);
+        assertThat(subtree.getSubCategoriesDtos()).extracting(CategoryDto::getCategoryId).containsExactly(4, 5);
+        assertThat(subtree.getSubCategoriesDtos().iterator().next().getSubCategoriesDtos())
+            .extracting(CategoryDto::getCategoryId).containsExactly(6);
+        assertThat(categoryTree.subtree(99)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should leave categories caught in a parent cycle out of the index")
+    void testCycleIsExcluded() {
+        // Arrange
+        final CategoryTree cyclicTree = CategoryTree.of(List.of(
+            new CategoryNode(1, "Root", null, null),
+            new CategoryNode(2, "Cycle A", null, 3),
+            new CategoryNode(3, "Cycle B", null, 2)));
+
+        // Act & Assert
+        assertThat(cyclicTree.size()).isEqualTo(1);
+        assertThat(cyclicTree.contains(2)).isFalse();
+        assertThat(cyclicTree.ancestors(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should handle deep chains without recursion limits")
+    void testDeepChain() {
+        // Arrange
+        final CategoryTree chain = CategoryTree.of(IntStream.rangeClosed(1, 10_000)
+            .mapToObj(i -> new CategoryNode(i, "category-" + i, null, i == 1 ? null : i - 1))
+            .collect(Collectors.toList()));
+
+        // Act & Assert
+        assertThat(chain.ancestors(10_000)).hasSize(9_999);
+        assertThat(chain.descendants(1)).hasSize(9_999);
+    }
+}
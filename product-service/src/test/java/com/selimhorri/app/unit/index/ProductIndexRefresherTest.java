@@ -0,0 +1,129 @@
+package com.selimhorri.app.unit.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.index.CategoryTreeIndex;
+import com.selimhorri.app.index.ProductIndexRefresher;
+import com.selimhorri.app.index.ProductSearchIndex;
+import com.selimhorri.app.index.ProductViewIndex;
+import com.selimhorri.app.index.TableState;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIndexRefresherTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-01-02T03:04:05Z");
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductViewIndex productViewIndex;
+
+    private ProductIndexRefresher productIndexRefresher;
+
+    @BeforeEach
+    void setUp() {
+        productIndexRefresher = new ProductIndexRefresher(productRepository, categoryRepository,
+            categoryTreeIndex, productSearchIndex, productViewIndex);
+        when(categoryRepository.findTableState()).thenReturn(new TableState(3L, 3, LAST_MODIFIED));
+    }
+
+    @Test
+    @DisplayName("Should refresh only when the catalogue state moved, including on deletes")
+    void testRefreshesOnlyWhenStateChanges() {
+        // Arrange
+        when(productRepository.findTableState())
+            .thenReturn(new TableState(10L, 10, LAST_MODIFIED))
+            .thenReturn(new TableState(10L, 10, LAST_MODIFIED))
+            .thenReturn(new TableState(9L, 10, LAST_MODIFIED));
+
+        // Act
+        final boolean first = productIndexRefresher.refreshIfChanged();
+        final boolean unchanged = productIndexRefresher.refreshIfChanged();
+        final boolean afterDelete = productIndexRefresher.refreshIfChanged();
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(unchanged).isFalse();
+        assertThat(afterDelete).isTrue();
+        verify(categoryTreeIndex, times(2)).refresh();
+        verify(productSearchIndex, times(2)).refresh();
+        verify(productViewIndex, times(2)).refresh();
+    }
+
+    @Test
+    @DisplayName("Should re-index only the rows changed since the last poll when nothing was deleted")
+    void testReindexesOnlyChangedRows() {
+        // Arrange
+        final Instant reserved = LAST_MODIFIED.plusSeconds(30);
+        final List<ProductProjection> changed = List.of(
+            new ProductProjection(4, "Zenbook", null, "ZB-14", 999.0, 4, 3, "Computers", null),
+            new ProductProjection(11, "Pixel", null, "PX-8", 599.0, 10, 3, "Computers", null));
+        when(productRepository.findTableState())
+            .thenReturn(new TableState(10L, 10, LAST_MODIFIED))
+            .thenReturn(new TableState(11L, 11, reserved));
+        when(productRepository.findProjectionsChangedSince(LAST_MODIFIED, 10)).thenReturn(changed);
+
+        // Act
+        final boolean first = productIndexRefresher.refreshIfChanged();
+        final boolean afterReservation = productIndexRefresher.refreshIfChanged();
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(afterReservation).isTrue();
+        verify(productSearchIndex).reindex(changed);
+        verify(productViewIndex).reindex(changed);
+        verify(categoryTreeIndex, times(1)).refresh();
+        verify(productSearchIndex, times(1)).refresh();
+        verify(productViewIndex, times(1)).refresh();
+    }
+
+    @Test
+    @DisplayName("Should rebuild everything when categories changed")
+    void testRebuildsOnCategoryChange() {
+        // Arrange
+        when(productRepository.findTableState()).thenReturn(new TableState(10L, 10, LAST_MODIFIED));
+        when(categoryRepository.findTableState())
+            .thenReturn(new TableState(3L, 3, LAST_MODIFIED))
+            .thenReturn(new TableState(3L, 3, LAST_MODIFIED.plusSeconds(30)));
+
+        // Act
+        productIndexRefresher.refreshIfChanged();
+        final boolean afterCategoryChange = productIndexRefresher.refreshIfChanged();
+
+        // Assert
+        assertThat(afterCategoryChange).isTrue();
+        verify(categoryTreeIndex, times(2)).refresh();
+        verify(productSearchIndex, times(2)).refresh();
+        verify(productViewIndex, times(2)).refresh();
+        verify(productRepository, never()).findProjectionsChangedSince(any(), any());
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.selimhorri.app.unit.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.index.ProductInvertedIndex;
+import com.selimhorri.app.index.ProductSearchResult;
+
+class ProductInvertedIndexTest {
+
+    private ProductInvertedIndex productInvertedIndex;
+
+    @BeforeEach
+    void setUp() {
+        productInvertedIndex = new ProductInvertedIndex();
+        productInvertedIndex.index(product(1, "Asus Zenbook laptop", "ASUS-ZB-14", 999.0, 10, "Computers"));
+        productInvertedIndex.index(product(2, "HP Pavilion desktop", "HP-PV-01", 699.0, 11, "Desktops"));
+        productInvertedIndex.index(product(3, "Laptop sleeve", "SLV-13", 29.0, 12, "Accessories"));
+        productInvertedIndex.index(product(4, "Gaming mouse", "LAPTOP-MS", 49.0, 12, "Accessories"));
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above sku matches and all-term matches above partial ones")
+    void testRanking() {
+        // Act
+        final ProductSearchResult single = productInvertedIndex.search("laptop", null, null, null, 0, 10);
+        final ProductSearchResult multi = productInvertedIndex.search("asus laptop", null, null, null, 0, 10);
+
+        // Assert
+        assertThat(single.getProductIds()).containsExactly(1, 3, 4);
+        assertThat(single.getTotalElements()).isEqualTo(3);
+        assertThat(multi.getProductIds().get(0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should match category titles and apply category and price filters")
+    void testFilters() {
+        // Act & Assert
+        assertThat(productInvertedIndex.search("accessories", null, null, null, 0, 10).getProductIds())
+            .containsExactly(3, 4);
+        assertThat(productInvertedIndex.search(null, Set.of(12), 40.0, null, 0, 10).getProductIds())
+            .containsExactly(4);
+        assertThat(productInvertedIndex.search("", null, 100.0, 800.0, 0, 10).getProductIds())
+            .containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Should paginate ranked results and report the total")
+    void testPagination() {
+        // Act
+        final ProductSearchResult page0 = productInvertedIndex.search(null, null, null, null, 0, 3);
+        final ProductSearchResult page1 = productInvertedIndex.search(null, null, null, null, 1, 3);
+
+        // Assert
+        assertThat(page0.getProductIds()).containsExactly(1, 2, 3);
+        assertThat(page1.getProductIds()).containsExactly(4);
+        assertThat(page1.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and deletes incrementally")
+    void testIncrementalUpdates() {
+        // Act
+        productInvertedIndex.index(product(3, "Tablet sleeve", "SLV-11", 25.0, 12, "Accessories"));
+        productInvertedIndex.remove(4);
+
+        // Assert
+        assertThat(productInvertedIndex.search("laptop", null, null, null, 0, 10).getProductIds()).containsExactly(1);
+        assertThat(productInvertedIndex.search("tablet", null, null, null, 0, 10).getProductIds()).containsExactly(3);
+        assertThat(productInvertedIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should compact deleted documents without losing live ones")
+    void testCompaction() {
+        // Arrange
+        IntStream.rangeClosed(100, 5_099).forEach(i -> productInvertedIndex.index(product(i, "bulk item " + i, "BULK-" + i, 1.0, 1, "Bulk")));
+
+        // Act
+        IntStream.rangeClosed(100, 4_099).forEach(productInvertedIndex::remove);
+        productInvertedIndex.trimToSize();
+
+        // Assert
+        assertThat(productInvertedIndex.size()).isEqualTo(1_004);
+        assertThat(productInvertedIndex.search("bulk", null, null, null, 0, 5).getTotalElements()).isEqualTo(1_000);
+        assertThat(productInvertedIndex.search("4100", null, null, null, 0, 5).getProductIds()).containsExactly(4_100);
+        assertThat(productInvertedIndex.search("laptop", null, null, null, 0, 10).getProductIds()).containsExactly(1, 3, 4);
+    }
+
+    private static ProductProjection product(final int productId, final String title, final String sku,
+            final double price, final int categoryId, final String categoryTitle) {
+        return new ProductProjection(productId, title, null, sku, price, 1, categoryId, categoryTitle, null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.selimhorri.app.unit.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.index.ProductChangedEvent;
+import com.selimhorri.app.index.ProductSearchIndex;
+import com.selimhorri.app.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(productRepository, transactionManager);
+        when(productRepository.streamAllProjections()).thenReturn(Stream.of(
+            new ProductProjection(1, "Zenbook", null, "ZB-14", 999.0, 5, 10, "Computers", null)));
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should index the committed row rather than the request payload on change")
+    void testChangeReindexesCommittedRow() {
+        // Arrange
+        when(productRepository.findProjectionByProductId(1)).thenReturn(Optional.of(
+            new ProductProjection(1, "Zenbook", null, "ZB-14", 999.0, 5, 11, "Laptops", null)));
+
+        // Act
+        productSearchIndex.onProductChanged(new ProductChangedEvent(1, false));
+
+        // Assert
+        assertThat(productSearchIndex.get().search("laptops", null, null, null, 0, 10).getProductIds())
+            .containsExactly(1);
+        assertThat(productSearchIndex.get().search("computers", null, null, null, 0, 10).getProductIds())
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop products that are deleted or no longer found")
+    void testDeleteRemovesProduct() {
+        // Arrange
+        when(productRepository.findProjectionByProductId(1)).thenReturn(Optional.empty());
+
+        // Act
+        productSearchIndex.onProductChanged(new ProductChangedEvent(1, false));
+
+        // Assert
+        assertThat(productSearchIndex.get().size()).isZero();
+    }
+
+}
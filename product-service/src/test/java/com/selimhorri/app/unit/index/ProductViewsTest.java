@@ -0,0 +1,99 @@
+package com.selimhorri.app.unit.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductViewDto;
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.index.CategoryNode;
+import com.selimhorri.app.index.CategoryTree;
+import com.selimhorri.app.index.ProductViews;
+
+class ProductViewsTest {
+
+    private ProductViews productViews;
+
+    @BeforeEach
+    void setUp() {
+        // 1 Electronics
+        // +-- 2 Computers
+        // |   +-- 4 Laptops
+        // 7 Books
+        productViews = new ProductViews();
+        final CategoryTree categoryTree = CategoryTree.of(List.of(
+            new CategoryNode(1, "Electronics", null, null),
+            new CategoryNode(2, "Computers", null, 1),
+            new CategoryNode(4, "Laptops", null, 2),
+            new CategoryNode(7, "Books", null, null)));
+        productViews.put(product(10, 4, "Laptops"), categoryTree);
+        productViews.put(product(11, 7, "Books"), categoryTree);
+    }
+
+    private static ProductProjection product(final Integer productId, final Integer categoryId, final String categoryTitle) {
+        return new ProductProjection(productId, "product-" + productId, null, "SKU-" + productId, 10.0, 1,
+            categoryId, categoryTitle, null);
+    }
+
+    private List<String> pathTitles(final Integer productId) {
+        return productViews.find(productId).orElseThrow().getCategoryPathDtos().stream()
+            .map(CategoryDto::getCategoryTitle)
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Should flatten the full category path from the root down to the product category")
+    void testFullCategoryPath() {
+        // Act
+        final ProductViewDto productView = productViews.find(10).orElseThrow();
+
+        // Assert
+        assertThat(pathTitles(10)).containsExactly("Electronics", "Computers", "Laptops");
+        assertThat(productView.getCategoryDto().getCategoryId()).isEqualTo(4);
+        assertThat(productView.getSku()).isEqualTo("SKU-10");
+    }
+
+    @Test
+    @DisplayName("Should refresh only the products under a renamed or moved category")
+    void testRepathAfterCategoryChange() {
+        // Arrange
+        final CategoryTree renamed = CategoryTree.of(List.of(
+            new CategoryNode(1, "Electronics", null, null),
+            new CategoryNode(2, "Computing", null, 7),
+            new CategoryNode(4, "Laptops", null, 2),
+            new CategoryNode(7, "Books", null, null)));
+
+        // Act
+        final int repathed = productViews.repath(Set.of(2, 4), renamed);
+
+        // Assert
+        assertThat(repathed).isEqualTo(1);
+        assertThat(pathTitles(10)).containsExactly("Books", "Computing", "Laptops");
+        assertThat(pathTitles(11)).containsExactly("Books");
+    }
+
+    @Test
+    @DisplayName("Should move a product between categories and drop deleted products")
+    void testPutAndRemove() {
+        // Arrange
+        final CategoryTree categoryTree = CategoryTree.of(List.of(new CategoryNode(7, "Books", null, null)));
+
+        // Act
+        productViews.put(product(10, 7, "Books"), categoryTree);
+        productViews.remove(11);
+
+        // Assert
+        assertThat(pathTitles(10)).containsExactly("Books");
+        assertThat(productViews.find(11)).isEmpty();
+        assertThat(productViews.repath(Set.of(4), categoryTree)).isZero();
+        assertThat(productViews.size()).isEqualTo(1);
+    }
+
+}
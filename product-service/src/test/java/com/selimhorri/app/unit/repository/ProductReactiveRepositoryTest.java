@@ -0,0 +1,116 @@
+package com.selimhorri.app.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.repository.ProductReactiveRepository;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.core.publisher.BaseSubscriber;
+
+class ProductReactiveRepositoryTest {
+
+    private static final String DATABASE = "product_reactive_repository_test";
+
+    private static ProductReactiveRepository productReactiveRepository;
+    private static long existingProducts;
+
+    @BeforeAll
+    static void setUp() {
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + DATABASE + ";DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.batchUpdate("INSERT INTO products (category_id, product_title, sku, price_unit, quantity) "
+            + "VALUES (1, ?, ?, 9.99, 5)", List.of(
+                new Object[] { "reactive-1", "R-1" },
+                new Object[] { "reactive-2", "R-2" },
+                new Object[] { "reactive-3", "R-3" }));
+        existingProducts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+        productReactiveRepository = new ProductReactiveRepository(
+            DatabaseClient.create(ConnectionFactories.get(ConnectionFactoryOptions.parse("r2dbc:h2:mem:///" + DATABASE)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, "sa")
+                .option(ConnectionFactoryOptions.PASSWORD, "")
+                .build())));
+    }
+
+    @Test
+    @DisplayName("Should stream every product with its category")
+    void testFindAllProjections() {
+        // Act
+        final List<ProductProjection> products = productReactiveRepository.findAllProjections().collectList().block();
+
+        // Assert
+        assertThat(products).hasSize((int) existingProducts)
+            .isSortedAccordingTo((a, b) -> a.getProductId().compareTo(b.getProductId()))
+            .filteredOn(p -> p.getProductTitle().startsWith("reactive-"))
+            .hasSize(3)
+            .allSatisfy(p -> {
+                assertThat(p.getPriceUnit()).isEqualTo(9.99);
+                assertThat(p.getCategoryId()).isEqualTo(1);
+                assertThat(p.getCategoryTitle()).isNotNull();
+            });
+    }
+
+    @Test
+    @DisplayName("Should read a keyset page and an empty result for a missing product")
+    void testFindProjectionsAfterAndById() {
+        // Act
+        final List<ProductProjection> page = productReactiveRepository.findProjectionsAfter(1, 2).collectList().block();
+
+        // Assert
+        assertThat(page).extracting(ProductProjection::getProductId).containsExactly(2, 3);
+        assertThat(productReactiveRepository.findProjectionById(2).block().getProductId()).isEqualTo(2);
+        assertThat(productReactiveRepository.findProjectionById(Integer.MAX_VALUE).blockOptional()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should only emit as many products as the subscriber requested")
+    void testBackpressure() throws InterruptedException {
+        // Arrange
+        final List<ProductProjection> received = new CopyOnWriteArrayList<>();
+        final AtomicLong requested = new AtomicLong();
+        final CountDownLatch latch = new CountDownLatch(2);
+
+        // Act
+        productReactiveRepository.findAllProjections()
+            .doOnRequest(requested::addAndGet)
+            .subscribe(new BaseSubscriber<ProductProjection>() {
+
+                @Override
+                protected void hookOnSubscribe(final Subscription subscription) {
+                    request(2);
+                }
+
+                @Override
+                protected void hookOnNext(final ProductProjection product) {
+                    received.add(product);
+                    latch.countDown();
+                }
+
+            });
+        latch.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+
+        // Assert
+        assertThat(requested).hasValue(2);
+        assertThat(received).hasSize(2);
+    }
+
+}
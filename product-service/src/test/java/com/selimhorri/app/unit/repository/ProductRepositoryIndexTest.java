@@ -0,0 +1,145 @@
+package com.selimhorri.app.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.index.TableState;
+import com.selimhorri.app.repository.ProductRepository;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.selimhorri.app.unit.repository.ProductRepositoryIndexTest$CapturingStatementInspector"
+})
+class ProductRepositoryIndexTest {
+
+    private static final int CATEGORIES = 20;
+    private static final int PRODUCTS_PER_CATEGORY = 50;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Integer categoryId;
+
+    @BeforeEach
+    void setUp() {
+        IntStream.range(0, CATEGORIES).forEach(i -> {
+            final Category category = Category.builder().categoryTitle("category-" + i).build();
+            entityManager.persist(category);
+            categoryId = category.getCategoryId();
+            IntStream.range(0, PRODUCTS_PER_CATEGORY).forEach(j -> entityManager.persist(Product.builder()
+                .productTitle("product-" + i + "-" + j)
+                .sku("SKU-" + i + "-" + j)
+                .priceUnit((double) j)
+                .quantity(j % 10 == 0 ? 1 : 0)
+                .category(category)
+                .build()));
+        });
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.execute("ANALYZE");
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Should report a new table state when a row is deleted")
+    void testTableStateMovesOnDelete() {
+        // Arrange
+        final TableState before = productRepository.findTableState();
+
+        // Act
+        productRepository.deleteById(productRepository.findProjectionsAfter(0, PageRequest.of(0, 1)).get(0).getProductId());
+        productRepository.flush();
+        final TableState after = productRepository.findTableState();
+
+        // Assert
+        assertThat(after.getRows()).isEqualTo(before.getRows() - 1);
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should filter by category and price range through the composite index")
+    void testCategoryPriceRangeUsesCompositeIndex() {
+        // Act
+        final Page<ProductProjection> products = productRepository
+            .findProjectionsByCategoryAndPriceBetween(categoryId, 10.0, 19.0, PageRequest.of(0, PAGE_SIZE));
+
+        // Assert
+        assertThat(products.getContent()).hasSize(10)
+            .allSatisfy(p -> assertThat(p.getCategoryId()).isEqualTo(categoryId))
+            .allSatisfy(p -> assertThat(p.getPriceUnit()).isBetween(10.0, 19.0));
+        assertThat(explain(categoryId, 10.0, 19.0, PAGE_SIZE))
+            .containsIgnoringCase("IDX_PRODUCTS_CATEGORY_ID_PRICE_UNIT");
+    }
+
+    @Test
+    @DisplayName("Should filter in stock products of a category through the composite index")
+    void testInStockCategoryPriceRangeUsesCompositeIndex() {
+        // Act
+        final Page<ProductProjection> products = productRepository
+            .findInStockProjectionsByCategoryAndPriceBetween(categoryId, 0.0, 49.0, PageRequest.of(0, PAGE_SIZE));
+
+        // Assert
+        assertThat(products.getContent()).hasSize(5).allSatisfy(p -> assertThat(p.getQuantity()).isPositive());
+        assertThat(explain(categoryId, 0.0, 49.0, PAGE_SIZE))
+            .containsIgnoringCase("IDX_PRODUCTS_CATEGORY_ID_PRICE_UNIT");
+    }
+
+    @Test
+    @DisplayName("Should filter in stock products through the quantity index")
+    void testInStockUsesQuantityIndex() {
+        // Act
+        final Page<ProductProjection> products = productRepository
+            .findInStockProjectionsByPriceBetween(0.0, Double.MAX_VALUE, PageRequest.of(0, PAGE_SIZE));
+
+        // Assert
+        assertThat(products.getContent()).hasSize(PAGE_SIZE).allSatisfy(p -> assertThat(p.getQuantity()).isPositive());
+        assertThat(explain(0.0, Double.MAX_VALUE, PAGE_SIZE)).containsIgnoringCase("IDX_PRODUCTS_QUANTITY");
+    }
+
+    private String explain(final Object... parameters) {
+        final String sql = CapturingStatementInspector.STATEMENTS.stream()
+            .filter(statement -> statement.toLowerCase().contains("order by"))
+            .findFirst()
+            .orElseThrow();
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(final String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.selimhorri.app.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.index.CategoryTreeIndex;
+import com.selimhorri.app.index.ProductSearchIndex;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.impl.ProductServiceImpl;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ProductRepositoryStatisticsTest {
+
+    private static final int CATEGORIES = 20;
+    private static final int PRODUCTS_PER_CATEGORY = 10;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private ProductServiceImpl productService;
+    private Statistics statistics;
+    private long existingProducts;
+
+    @BeforeEach
+    void setUp() {
+        productService = new ProductServiceImpl(productRepository, entityManager,
+            new ProductSearchIndex(productRepository, transactionManager), new CategoryTreeIndex(categoryRepository),
+            applicationEventPublisher, null, null);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        existingProducts = productRepository.count();
+
+        IntStream.range(0, CATEGORIES).forEach(i -> {
+            final Category parentCategory = Category.builder().categoryTitle("parent-" + i).build();
+            entityManager.persist(parentCategory);
+            final Category category = Category.builder().categoryTitle("category-" + i).parentCategory(parentCategory).build();
+            entityManager.persist(category);
+            IntStream.range(0, PRODUCTS_PER_CATEGORY).forEach(j -> entityManager.persist(Product.builder()
+                .productTitle("product-" + i + "-" + j)
+                .sku("SKU-" + i + "-" + j)
+                .priceUnit(10.0)
+                .quantity(1)
+                .category(category)
+                .build()));
+        });
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should issue one select per distinct category when loading managed products")
+    void testEntityFindAllIsNPlusOne() {
+        // Act
+        final List<Product> products = productRepository.findAll();
+
+        // Assert
+        assertThat(products).hasSize((int) existingProducts + CATEGORIES * PRODUCTS_PER_CATEGORY);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(CATEGORIES);
+    }
+
+    @Test
+    @DisplayName("Should load the product list with a single SQL statement")
+    void testFindAllUsesSingleStatement() {
+        // Act
+        final List<ProductDto> productDtos = productService.findAll();
+
+        // Assert
+        assertThat(productDtos).hasSize((int) existingProducts + CATEGORIES * PRODUCTS_PER_CATEGORY)
+            .allSatisfy(p -> assertThat(p.getCategoryDto().getCategoryTitle()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should load a keyset page with a single SQL statement")
+    void testFindAllAfterUsesSingleStatement() {
+        // Act
+        final List<ProductDto> productDtos = productService.findAllAfter(0, 100);
+
+        // Assert
+        assertThat(productDtos).hasSize(100);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stream products and their categories with a single SQL statement")
+    void testStreamAllUsesSingleStatement() {
+        // Act
+        final List<ProductDto> streamed = new ArrayList<>();
+        productService.streamAll(streamed::add);
+
+        // Assert
+        assertThat(streamed).hasSize((int) existingProducts + CATEGORIES * PRODUCTS_PER_CATEGORY);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
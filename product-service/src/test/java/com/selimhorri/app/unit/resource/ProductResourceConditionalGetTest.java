@@ -0,0 +1,119 @@
+package com.selimhorri.app.unit.resource;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.resource.ProductResource;
+import com.selimhorri.app.service.ProductService;
+
+@ExtendWith(MockitoExtension.class)
+class ProductResourceConditionalGetTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-01-02T03:04:05Z");
+
+    @Mock
+    private ProductService productService;
+
+    private MockMvc mockMvc;
+    private ProductDto productDto;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProductResource(productService, new JsonMapper())).build();
+        productDto = ProductDto.builder()
+            .productId(1)
+            .productTitle("Laptop")
+            .sku("LAP-1")
+            .priceUnit(999.0)
+            .quantity(5)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should send a weak ETag from id and Last-Modified, and no-cache, on a single product read")
+    void testFindByIdSendsValidators() throws Exception {
+        // Arrange
+        when(productService.findById(1)).thenReturn(productDto);
+        when(productService.findLastModified(1)).thenReturn(Optional.of(LAST_MODIFIED));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-1767323045.000000000\""))
+            .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Fri, 02 Jan 2026 03:04:05 GMT"))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andExpect(jsonPath("$.productTitle").value("Laptop"));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without a body when If-None-Match matches")
+    void testFindByIdNotModified() throws Exception {
+        // Arrange
+        when(productService.findById(1)).thenReturn(productDto);
+        when(productService.findLastModified(1)).thenReturn(Optional.of(LAST_MODIFIED));
+        final String eTag = mockMvc.perform(get("/api/products/1"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should send the new representation once the product changed")
+    void testFindByIdModifiedAfterChange() throws Exception {
+        // Arrange
+        when(productService.findById(1)).thenReturn(productDto);
+        when(productService.findLastModified(1)).thenReturn(Optional.of(LAST_MODIFIED));
+        final String eTag = mockMvc.perform(get("/api/products/1"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        productDto.setQuantity(4);
+        when(productService.findLastModified(1)).thenReturn(Optional.of(LAST_MODIFIED.plusMillis(1)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.quantity").value(4));
+    }
+
+    @Test
+    @DisplayName("Should validate collection reads by ETag only, since deletes do not move Last-Modified")
+    void testFindAllValidatesByETag() throws Exception {
+        // Arrange
+        final ProductDto otherProductDto = ProductDto.builder().productId(2).productTitle("Mouse").build();
+        when(productService.findAll()).thenReturn(List.of(productDto, otherProductDto));
+        final String eTag = mockMvc.perform(get("/api/products"))
+            .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+        when(productService.findAll()).thenReturn(List.of(productDto));
+        mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection.length()").value(1));
+    }
+}
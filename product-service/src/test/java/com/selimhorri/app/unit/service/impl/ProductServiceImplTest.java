@@ -4,9 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,12 +21,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.projection.ProductProjection;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
+import com.selimhorri.app.exception.wrapper.ProductBatchSizeExceededException;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.exception.wrapper.ProductQuantityUpdateException;
+import com.selimhorri.app.index.CategoryTreeIndex;
+import com.selimhorri.app.index.ProductChangedEvent;
+import com.selimhorri.app.index.ProductInvertedIndex;
+import com.selimhorri.app.index.ProductSearchIndex;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.impl.ProductServiceImpl;
 
@@ -30,6 +48,18 @@ class ProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -100,7 +130,7 @@ class ProductServiceImplTest {
     @DisplayName("Should find all products")
     void testFindAll() {
         // Arrange
-        when(productRepository.findAll()).thenReturn(Arrays.asList(product1, product2));
+        when(productRepository.findAllProjections()).thenReturn(Arrays.asList(projectionOf(product1), projectionOf(product2)));
 
         // Act
         List<ProductDto> result = productService.findAll();
@@ -111,7 +141,121 @@ class ProductServiceImplTest {
         assertThat(result.get(0).getProductTitle()).isEqualTo("Smartphone");
         assertThat(result.get(1).getProductId()).isEqualTo(2);
         assertThat(result.get(1).getProductTitle()).isEqualTo("Laptop");
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findAllProjections();
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should find all products by ids")
+    void testFindAllByIds() {
+        // Arrange
+        when(productRepository.findAllProjectionsByProductIdIn(List.of(1, 2)))
+            .thenReturn(Arrays.asList(projectionOf(product1), projectionOf(product2)));
+
+        // Act
+        List<ProductDto> result = productService.findAllByIds(List.of(1, 2));
+
+        // Assert
+        assertThat(result).isNotNull().hasSize(2);
+        assertThat(result.get(0).getProductId()).isEqualTo(1);
+        assertThat(result.get(1).getProductId()).isEqualTo(2);
+        verify(productRepository, times(1)).findAllProjectionsByProductIdIn(List.of(1, 2));
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reject an ids lookup larger than the cap")
+    void testFindAllByIdsRejectsOversizedBatch() {
+        // Arrange
+        final List<Integer> productIds = IntStream.rangeClosed(1, AppConstant.BULK_LOOKUP_MAX_IDS + 1)
+                .boxed()
+                .collect(Collectors.toList());
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.findAllByIds(productIds))
+                .isInstanceOf(ProductBatchSizeExceededException.class);
+        verify(productRepository, never()).findAllProjectionsByProductIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should find products page after the given id")
+    void testFindAllAfter() {
+        // Arrange
+        when(productRepository.findProjectionsAfter(1, PageRequest.of(0, 10)))
+            .thenReturn(List.of(projectionOf(product2)));
+
+        // Act
+        List<ProductDto> result = productService.findAllAfter(1, 10);
+
+        // Assert
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getProductId()).isEqualTo(2);
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should stream all products and detach each streamed entity")
+    void testStreamAll() {
+        // Arrange
+        when(productRepository.streamAllByOrderByProductIdAsc()).thenReturn(Stream.of(product1, product2));
+        List<ProductDto> streamed = new ArrayList<>();
+
+        // Act
+        productService.streamAll(streamed::add);
+
+        // Assert
+        assertThat(streamed).extracting(ProductDto::getProductId).containsExactly(1, 2);
+        verify(entityManager, times(1)).detach(product1);
+        verify(entityManager, times(1)).detach(product2);
+    }
+
+    @Test
+    @DisplayName("Should return search hits in rank order")
+    void testSearch() {
+        // Arrange
+        final ProductInvertedIndex productInvertedIndex = new ProductInvertedIndex();
+        productInvertedIndex.index(projectionOf(product1));
+        productInvertedIndex.index(projectionOf(product2));
+        when(productSearchIndex.get()).thenReturn(productInvertedIndex);
+        when(productRepository.findAllProjectionsByProductIdIn(List.of(2)))
+            .thenReturn(List.of(projectionOf(product2)));
+
+        // Act
+        DtoPageResponse<ProductDto> result = productService.search("laptop", null, null, null, 0, 10);
+
+        // Assert
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getCollection()).extracting(ProductDto::getProductTitle).containsExactly("Laptop");
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should not filter on price unless a price bound is given")
+    void testFilterWithoutPriceBoundsKeepsUnpricedProducts() {
+        // Arrange
+        final Product unpriced = Product.builder().productId(3).productTitle("Gift card").category(category).build();
+        when(productRepository.findProjections(PageRequest.of(0, 10)))
+            .thenReturn(new PageImpl<>(List.of(projectionOf(unpriced)), PageRequest.of(0, 10), 1));
+
+        // Act
+        DtoPageResponse<ProductDto> result = productService.filter(null, null, null, false, 0, 10);
+
+        // Assert
+        assertThat(result.getCollection()).extracting(ProductDto::getProductTitle).containsExactly("Gift card");
+        verify(productRepository, never()).findProjectionsByPriceBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should publish a change event when a product is saved")
+    void testSavePublishesProductChangedEvent() {
+        // Arrange
+        when(productRepository.save(any(Product.class))).thenReturn(product1);
+
+        // Act
+        productService.save(productDto1);
+
+        // Assert
+        verify(applicationEventPublisher, times(1)).publishEvent(new ProductChangedEvent(1, false));
     }
 
     @Test
@@ -182,7 +326,6 @@ class ProductServiceImplTest {
                 .imageUrl("http://example.com/updated-smartphone.jpg")
                 .sku("PHONE-123")
                 .priceUnit(699.99)
-                .quantity(15)
                 .categoryDto(categoryDto)
                 .build();
         
@@ -198,4 +341,55 @@ class ProductServiceImplTest {
         assertThat(result.getPriceUnit()).isEqualTo(699.99);
         verify(productRepository, times(1)).save(any(Product.class));
     }
+
+    @Test
+    @DisplayName("Should reject an update that carries a quantity")
+    void testUpdateRejectsQuantity() {
+        // Arrange
+        productDto1.setQuantity(1_000);
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.update(productDto1))
+            .isInstanceOf(ProductQuantityUpdateException.class)
+            .hasMessageContaining("restock");
+        assertThatThrownBy(() -> productService.update(1, productDto1))
+            .isInstanceOf(ProductQuantityUpdateException.class);
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Should restock a product with an increment update")
+    void testRestock() {
+        // Arrange
+        when(productRepository.incrementQuantity(1, 5)).thenReturn(1);
+        when(productRepository.findById(1)).thenReturn(Optional.of(product1));
+
+        // Act
+        ProductDto result = productService.restock(1, 5);
+
+        // Assert
+        assertThat(result.getProductId()).isEqualTo(1);
+        verify(productRepository, times(1)).incrementQuantity(1, 5);
+        verify(applicationEventPublisher, times(1)).publishEvent(new ProductChangedEvent(1, false));
+    }
+
+    @Test
+    @DisplayName("Should reject non positive or unknown restocks")
+    void testRestockRejectsInvalidInput() {
+        // Arrange
+        when(productRepository.incrementQuantity(99, 5)).thenReturn(0);
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.restock(1, 0))
+            .isInstanceOf(ProductQuantityUpdateException.class);
+        assertThatThrownBy(() -> productService.restock(99, 5))
+            .isInstanceOf(ProductNotFoundException.class);
+        verify(productRepository, never()).incrementQuantity(1, 0);
+    }
+
+    private static ProductProjection projectionOf(final Product product) {
+        return new ProductProjection(product.getProductId(), product.getProductTitle(), product.getImageUrl(),
+            product.getSku(), product.getPriceUnit(), product.getQuantity(), product.getCategory().getCategoryId(),
+            product.getCategory().getCategoryTitle(), product.getCategory().getImageUrl());
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,274 @@
+package com.selimhorri.app.unit.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.stock.StockConfig;
+import com.selimhorri.app.config.stock.StockProperties;
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.dto.ProductReservationDto;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.ProductReservationStateException;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.ProductReservationRepository;
+import com.selimhorri.app.service.StockReservationService;
+import com.selimhorri.app.service.impl.StockReservationServiceImpl;
+import com.selimhorri.app.stock.StripedStockAllotment;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:stock_reservation_stress;DB_CLOSE_DELAY=-1",
+    "spring.datasource.hikari.maximum-pool-size=16",
+    "app.stock.hot-product-ids=1",
+    "app.stock.allotment-batch-size=64",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "spring.jpa.properties.hibernate.format_sql=false",
+    "spring.jpa.properties.hibernate.use_sql_comments=false",
+    "logging.level.org.springframework.data=WARN",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.springframework=WARN"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({StockConfig.class, StripedStockAllotment.class, StockReservationServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockReservationStressTest {
+
+    private static final int HOT_PRODUCT_ID = 1;
+    private static final int COLD_PRODUCT_ID = 2;
+    private static final int STOCK = 10_000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StripedStockAllotment stripedStockAllotment;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductReservationRepository productReservationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StockProperties stockProperties;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(THREADS);
+        stripedStockAllotment.returnAllotments();
+        productReservationRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should never oversell a hot product under concurrent reservations")
+    void testHotProductIsNeverOversold() throws Exception {
+        // Arrange
+        setQuantity(HOT_PRODUCT_ID, STOCK);
+
+        // Act
+        final int reserved = reserveConcurrently(HOT_PRODUCT_ID, STOCK + 2_000);
+
+        // Assert
+        assertThat(reserved).isEqualTo(STOCK);
+        assertThat(productReservationRepository.count()).isEqualTo(STOCK);
+        assertThat(productRepository.findQuantityByProductId(HOT_PRODUCT_ID)).contains(0);
+        assertThat(stripedStockAllotment.allotted(HOT_PRODUCT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never oversell a cold product under concurrent reservations")
+    void testColdProductIsNeverOversold() throws Exception {
+        // Arrange
+        setQuantity(COLD_PRODUCT_ID, 2_000);
+
+        // Act
+        final int reserved = reserveConcurrently(COLD_PRODUCT_ID, 2_500);
+
+        // Assert
+        assertThat(reserved).isEqualTo(2_000);
+        assertThat(productRepository.findQuantityByProductId(COLD_PRODUCT_ID)).contains(0);
+    }
+
+    @Test
+    @DisplayName("Should consolidate striped allotments when the last units are requested")
+    void testHotProductConsolidatesStripesForLastUnits() throws Exception {
+        // Arrange
+        setQuantity(HOT_PRODUCT_ID, 100);
+        reserveConcurrently(HOT_PRODUCT_ID, 90);
+
+        // Act
+        final ProductReservationDto reservation = stockReservationService.reserve(reservation(HOT_PRODUCT_ID, 10), null);
+
+        // Assert
+        assertThat(reservation.getReservationStatus()).isEqualTo(ReservationStatus.RESERVED);
+        assertThatThrownBy(() -> stockReservationService.reserve(reservation(HOT_PRODUCT_ID, 1), null))
+            .isInstanceOf(InsufficientStockException.class);
+    }
+
+    @Test
+    @DisplayName("Should restock on release and refuse to commit a released reservation")
+    void testReleaseRestoresStock() {
+        // Arrange
+        setQuantity(COLD_PRODUCT_ID, 5);
+        final ProductReservationDto reservation = stockReservationService.reserve(reservation(COLD_PRODUCT_ID, 5), null);
+
+        // Act
+        final ProductReservationDto released = stockReservationService.release(reservation.getReservationId());
+
+        // Assert
+        assertThat(released.getReservationStatus()).isEqualTo(ReservationStatus.RELEASED);
+        assertThat(productRepository.findQuantityByProductId(COLD_PRODUCT_ID)).contains(5);
+        assertThatThrownBy(() -> stockReservationService.commit(reservation.getReservationId()))
+            .isInstanceOf(ProductReservationStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should restock expired reservations and refuse to commit them")
+    void testExpiredReservationsAreReleased() {
+        // Arrange
+        setQuantity(HOT_PRODUCT_ID, 3);
+        final ProductReservationDto reservation = stockReservationService.reserve(reservation(HOT_PRODUCT_ID, 3), Duration.ofMinutes(1));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> productReservationRepository
+            .findById(reservation.getReservationId())
+            .ifPresent(r -> r.setExpiresAt(LocalDateTime.now().minusSeconds(1))));
+
+        // Act & Assert
+        assertThatThrownBy(() -> stockReservationService.commit(reservation.getReservationId()))
+            .isInstanceOf(ProductReservationStateException.class)
+            .hasMessageContaining("expired");
+        assertThat(stockReservationService.releaseExpired()).isEqualTo(1);
+        assertThat(stockReservationService.findById(reservation.getReservationId()).getReservationStatus())
+            .isEqualTo(ReservationStatus.EXPIRED);
+        stripedStockAllotment.returnAllotments();
+        assertThat(productRepository.findQuantityByProductId(HOT_PRODUCT_ID)).contains(3);
+    }
+
+    @Test
+    @DisplayName("Should commit a live reservation without touching stock")
+    void testCommitKeepsStockDeducted() {
+        // Arrange
+        setQuantity(COLD_PRODUCT_ID, 5);
+        final ProductReservationDto reservation = stockReservationService.reserve(reservation(COLD_PRODUCT_ID, 2), null);
+
+        // Act
+        final ProductReservationDto committed = stockReservationService.commit(reservation.getReservationId());
+
+        // Assert
+        assertThat(committed.getReservationStatus()).isEqualTo(ReservationStatus.COMMITTED);
+        assertThat(productRepository.findQuantityByProductId(COLD_PRODUCT_ID)).contains(3);
+        assertThatThrownBy(() -> stockReservationService.release(reservation.getReservationId()))
+            .isInstanceOf(ProductReservationStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should return idle striped allotments to the product row")
+    void testIdleAllotmentsAreReturned() throws Exception {
+        // Arrange
+        setQuantity(HOT_PRODUCT_ID, 100);
+        reserveConcurrently(HOT_PRODUCT_ID, 1);
+        final Duration idleTimeout = stockProperties.getAllotmentIdleTimeout();
+
+        // Act
+        stripedStockAllotment.returnIdleAllotments();
+        final int allottedWhileActive = stripedStockAllotment.allotted(HOT_PRODUCT_ID);
+        stockProperties.setAllotmentIdleTimeout(Duration.ZERO);
+        try {
+            stripedStockAllotment.returnIdleAllotments();
+        }
+        finally {
+            stockProperties.setAllotmentIdleTimeout(idleTimeout);
+        }
+
+        // Assert
+        assertThat(allottedWhileActive).isPositive();
+        assertThat(stripedStockAllotment.allotted(HOT_PRODUCT_ID)).isZero();
+        assertThat(productRepository.findQuantityByProductId(HOT_PRODUCT_ID)).contains(99);
+    }
+
+    @Test
+    @DisplayName("Should not let a product update overwrite stock")
+    void testUpdateDoesNotOverwriteQuantity() {
+        // Arrange
+        setQuantity(COLD_PRODUCT_ID, 7);
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> productRepository
+            .findById(COLD_PRODUCT_ID)
+            .ifPresent(p -> {
+                p.setQuantity(1_000);
+                p.setProductTitle("renamed");
+            }));
+
+        // Assert
+        assertThat(productRepository.findQuantityByProductId(COLD_PRODUCT_ID)).contains(7);
+    }
+
+    private int reserveConcurrently(final int productId, final int attempts) throws Exception {
+        final List<Callable<Boolean>> tasks = new ArrayList<>(attempts);
+        for (int i = 0; i < attempts; i++)
+            tasks.add(() -> {
+                try {
+                    stockReservationService.reserve(reservation(productId, 1), null);
+                    return true;
+                }
+                catch (InsufficientStockException e) {
+                    return false;
+                }
+            });
+        int reserved = 0;
+        for (final Future<Boolean> future : executorService.invokeAll(tasks, 2, TimeUnit.MINUTES))
+            if (future.get())
+                reserved++;
+        return reserved;
+    }
+
+    private void setQuantity(final int productId, final int quantity) {
+        jdbcTemplate.update("UPDATE products SET quantity = ? WHERE product_id = ?", quantity, productId);
+    }
+
+    private static ProductReservationDto reservation(final int productId, final int quantity) {
+        return ProductReservationDto.builder()
+            .productId(productId)
+            .quantity(quantity)
+            .build();
+    }
+}
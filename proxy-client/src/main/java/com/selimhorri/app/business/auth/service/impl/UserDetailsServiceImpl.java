@@ -8,6 +8,7 @@ import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.cache.CredentialCache;
 import com.selimhorri.app.constant.AppConstant;
 
 import lombok.RequiredArgsConstructor;
@@ -20,11 +21,13 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 	
 	private static final String API_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/credentials";
 	private final RestTemplate restTemplate;
+	private final CredentialCache credentialCache;
 	
 	@Override
 	public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
 		log.info("**UserDetails, load user by username*\n");
-		return new UserDetailsImpl(this.restTemplate.getForObject(API_URL + "/username/" + username, CredentialDto.class));
+		return this.credentialCache.get(username, u -> new UserDetailsImpl(this.restTemplate
+				.getForObject(API_URL + "/username/" + u, CredentialDto.class)));
 	}
 	
 	
@@ -0,0 +1,85 @@
+package com.selimhorri.app.business.favourite.service.fallback;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.favourite.model.FavouriteDto;
+import com.selimhorri.app.business.favourite.model.FavouriteId;
+import com.selimhorri.app.business.favourite.model.response.FavouriteFavouriteServiceCollectionDtoResponse;
+import com.selimhorri.app.business.favourite.service.FavouriteClientService;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class FavouriteClientServiceFallbackFactory implements FallbackFactory<FavouriteClientService> {
+	
+	private static final String DOWNSTREAM = "favourite-service";
+	
+	@Override
+	public FavouriteClientService create(final Throwable cause) {
+		log.info("**FavouriteClientServiceFallbackFactory, {} call failed: {}*\n", DOWNSTREAM, cause.toString());
+		return new FavouriteClientService() {
+			
+			@Override
+			public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll() {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> new FavouriteFavouriteServiceCollectionDtoResponse(List.of()));
+			}
+			
+			@Override
+			public ResponseEntity<FavouriteDto> findById(final String userId, final String productId, final String likeDate) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> FavouriteDto.builder()
+						.userId(FeignFallbackHelper.parseId(userId))
+						.productId(FeignFallbackHelper.parseId(productId))
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<FavouriteDto> findById(final FavouriteId favouriteId) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> FavouriteDto.builder()
+						.userId(favouriteId.getUserId())
+						.productId(favouriteId.getProductId())
+						.likeDate(favouriteId.getLikeDate())
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<FavouriteDto> save(final FavouriteDto favouriteDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<FavouriteDto> update(final FavouriteDto favouriteDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final String userId, final String productId, final String likeDate) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final FavouriteId favouriteId) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
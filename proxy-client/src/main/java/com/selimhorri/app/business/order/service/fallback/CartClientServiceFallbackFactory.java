@@ -0,0 +1,74 @@
+package com.selimhorri.app.business.order.service.fallback;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.response.CartOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.business.order.service.CartClientService;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CartClientServiceFallbackFactory implements FallbackFactory<CartClientService> {
+	
+	private static final String DOWNSTREAM = "order-service";
+	
+	@Override
+	public CartClientService create(final Throwable cause) {
+		log.info("**CartClientServiceFallbackFactory, {} call failed: {}*\n", DOWNSTREAM, cause.toString());
+		return new CartClientService() {
+			
+			@Override
+			public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAll() {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> new CartOrderServiceDtoCollectionResponse(List.of()));
+			}
+			
+			@Override
+			public ResponseEntity<CartDto> findById(final String cartId) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> CartDto.builder()
+						.cartId(FeignFallbackHelper.parseId(cartId))
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<CartDto> save(final CartDto cartDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<CartDto> update(final CartDto cartDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<CartDto> update(final String cartId, final CartDto cartDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final String cartId) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,74 @@
+package com.selimhorri.app.business.order.service.fallback;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class OrderClientServiceFallbackFactory implements FallbackFactory<OrderClientService> {
+	
+	private static final String DOWNSTREAM = "order-service";
+	
+	@Override
+	public OrderClientService create(final Throwable cause) {
+		log.info("**OrderClientServiceFallbackFactory, {} call failed: {}*\n", DOWNSTREAM, cause.toString());
+		return new OrderClientService() {
+			
+			@Override
+			public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll() {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> new OrderOrderServiceDtoCollectionResponse(List.of()));
+			}
+			
+			@Override
+			public ResponseEntity<OrderDto> findById(final String orderId) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> OrderDto.builder()
+						.orderId(FeignFallbackHelper.parseId(orderId))
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<OrderDto> save(final OrderDto orderDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<OrderDto> update(final OrderDto orderDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<OrderDto> update(final String orderId, final OrderDto orderDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final String orderId) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
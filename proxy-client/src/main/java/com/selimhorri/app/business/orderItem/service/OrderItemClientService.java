@@ -15,8 +15,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
 import com.selimhorri.app.business.orderItem.model.OrderItemId;
 import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.fallback.OrderItemClientServiceFallbackFactory;
 
-@FeignClient(name = "SHIPPING-SERVICE", contextId = "shippingClientService", path = "/shipping-service/api/shippings")
+@FeignClient(name = "SHIPPING-SERVICE", contextId = "shippingClientService", path = "/shipping-service/api/shippings", fallbackFactory = OrderItemClientServiceFallbackFactory.class)
 public interface OrderItemClientService {
 	
 	@GetMapping
@@ -0,0 +1,84 @@
+package com.selimhorri.app.business.orderItem.service.fallback;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.OrderItemId;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class OrderItemClientServiceFallbackFactory implements FallbackFactory<OrderItemClientService> {
+	
+	private static final String DOWNSTREAM = "shipping-service";
+	
+	@Override
+	public OrderItemClientService create(final Throwable cause) {
+		log.info("**OrderItemClientServiceFallbackFactory, {} call failed: {}*\n", DOWNSTREAM, cause.toString());
+		return new OrderItemClientService() {
+			
+			@Override
+			public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll() {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> new OrderItemOrderItemServiceDtoCollectionResponse(List.of()));
+			}
+			
+			@Override
+			public ResponseEntity<OrderItemDto> findById(final String orderId, final String productId) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> OrderItemDto.builder()
+						.orderId(FeignFallbackHelper.parseId(orderId))
+						.productId(FeignFallbackHelper.parseId(productId))
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<OrderItemDto> findById(final OrderItemId orderItemId) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> OrderItemDto.builder()
+						.orderId(orderItemId.getOrderId())
+						.productId(orderItemId.getProductId())
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<OrderItemDto> save(final OrderItemDto orderItemDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<OrderItemDto> update(final OrderItemDto orderItemDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final String orderId, final String productId) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final OrderItemId orderItemId) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
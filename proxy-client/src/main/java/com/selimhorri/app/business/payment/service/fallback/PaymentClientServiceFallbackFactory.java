@@ -0,0 +1,69 @@
+package com.selimhorri.app.business.payment.service.fallback;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceDtoCollectionResponse;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class PaymentClientServiceFallbackFactory implements FallbackFactory<PaymentClientService> {
+	
+	private static final String DOWNSTREAM = "payment-service";
+	
+	@Override
+	public PaymentClientService create(final Throwable cause) {
+		log.info("**PaymentClientServiceFallbackFactory, {} call failed: {}*\n", DOWNSTREAM, cause.toString());
+		return new PaymentClientService() {
+			
+			@Override
+			public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll() {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> new PaymentPaymentServiceDtoCollectionResponse(List.of()));
+			}
+			
+			@Override
+			public ResponseEntity<PaymentDto> findById(final String paymentId) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> PaymentDto.builder()
+						.paymentId(FeignFallbackHelper.parseId(paymentId))
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<PaymentDto> save(final PaymentDto paymentDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<PaymentDto> update(final PaymentDto paymentDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final String paymentId) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
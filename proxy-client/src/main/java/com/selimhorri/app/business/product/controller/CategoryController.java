@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.RestController;
 import com.selimhorri.app.business.product.model.CategoryDto;
 import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.CategoryClientService;
+import com.selimhorri.app.config.cache.CatalogueResponseCache;
+import com.selimhorri.app.helper.ConditionalResponseHelper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,36 +24,52 @@ import lombok.RequiredArgsConstructor;
 public class CategoryController {
 	
 	private final CategoryClientService categoryClientService;
+	private final CatalogueResponseCache catalogueResponseCache;
 	
 	@GetMapping
 	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.categoryClientService.findAll().getBody());
+		return ConditionalResponseHelper.passThrough(this.catalogueResponseCache.get(
+				CatalogueResponseCache.CATEGORIES, "all", this.categoryClientService::findAll));
 	}
 	
 	@GetMapping("/{categoryId}")
 	public ResponseEntity<CategoryDto> findById(@PathVariable("categoryId") final String categoryId) {
-		return ResponseEntity.ok(this.categoryClientService.findById(categoryId).getBody());
+		return ConditionalResponseHelper.passThrough(this.catalogueResponseCache.get(
+				CatalogueResponseCache.CATEGORY, categoryId, () -> this.categoryClientService.findById(categoryId)));
 	}
 	
 	@PostMapping
 	public ResponseEntity<CategoryDto> save(@RequestBody final CategoryDto categoryDto) {
-		return ResponseEntity.ok(this.categoryClientService.save(categoryDto).getBody());
+		final var response = this.categoryClientService.save(categoryDto);
+		this.invalidateCatalogue();
+		return ResponseEntity.ok(response.getBody());
 	}
 	
 	@PutMapping
 	public ResponseEntity<CategoryDto> update(@RequestBody final CategoryDto categoryDto) {
-		return ResponseEntity.ok(this.categoryClientService.update(categoryDto).getBody());
+		final var response = this.categoryClientService.update(categoryDto);
+		this.invalidateCatalogue();
+		return ResponseEntity.ok(response.getBody());
 	}
 	
 	@PutMapping("/{categoryId}")
 	public ResponseEntity<CategoryDto> update(@PathVariable("categoryId") final String categoryId, 
 			@RequestBody final CategoryDto categoryDto) {
-		return ResponseEntity.ok(this.categoryClientService.update(categoryId, categoryDto).getBody());
+		final var response = this.categoryClientService.update(categoryId, categoryDto);
+		this.invalidateCatalogue();
+		return ResponseEntity.ok(response.getBody());
 	}
 	
 	@DeleteMapping("/{categoryId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("categoryId") final String categoryId) {
-		return ResponseEntity.ok(this.categoryClientService.deleteById(categoryId).getBody());
+		final var response = this.categoryClientService.deleteById(categoryId);
+		this.invalidateCatalogue();
+		return ResponseEntity.ok(response.getBody());
+	}
+	
+	private void invalidateCatalogue() {
+		this.catalogueResponseCache.invalidate(CatalogueResponseCache.PRODUCTS, CatalogueResponseCache.PRODUCT, 
+				CatalogueResponseCache.CATEGORIES, CatalogueResponseCache.CATEGORY);
 	}
 	
 	
@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.RestController;
 import com.selimhorri.app.business.product.model.ProductDto;
 import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.config.cache.CatalogueResponseCache;
+import com.selimhorri.app.helper.ConditionalResponseHelper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,36 +24,52 @@ import lombok.RequiredArgsConstructor;
 public class ProductController {
 	
 	private final ProductClientService productClientService;
+	private final CatalogueResponseCache catalogueResponseCache;
 	
 	@GetMapping
 	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.productClientService.findAll().getBody());
+		return ConditionalResponseHelper.passThrough(this.catalogueResponseCache.get(
+				CatalogueResponseCache.PRODUCTS, "all", this.productClientService::findAll));
 	}
 	
 	@GetMapping("/{productId}")
 	public ResponseEntity<ProductDto> findById(@PathVariable("productId") final String productId) {
-		return ResponseEntity.ok(this.productClientService.findById(productId).getBody());
+		return ConditionalResponseHelper.passThrough(this.catalogueResponseCache.get(
+				CatalogueResponseCache.PRODUCT, productId, () -> this.productClientService.findById(productId)));
 	}
 	
 	@PostMapping
 	public ResponseEntity<ProductDto> save(@RequestBody final ProductDto productDto) {
-		return ResponseEntity.ok(this.productClientService.save(productDto).getBody());
+		final var response = this.productClientService.save(productDto);
+		this.invalidateCatalogue();
+		return ResponseEntity.ok(response.getBody());
 	}
 	
 	@PutMapping
 	public ResponseEntity<ProductDto> update(@RequestBody final ProductDto productDto) {
-		return ResponseEntity.ok(this.productClientService.update(productDto).getBody());
+		final var response = this.productClientService.update(productDto);
+		this.invalidateCatalogue();
+		return ResponseEntity.ok(response.getBody());
 	}
 	
 	@PutMapping("/{productId}")
 	public ResponseEntity<ProductDto> update(@PathVariable("productId") final String productId, 
 			@RequestBody final ProductDto productDto) {
-		return ResponseEntity.ok(this.productClientService.update(productId, productDto).getBody());
+		final var response = this.productClientService.update(productId, productDto);
+		this.invalidateCatalogue();
+		return ResponseEntity.ok(response.getBody());
 	}
 	
 	@DeleteMapping("/{productId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("productId") final String productId) {
-		return ResponseEntity.ok(this.productClientService.deleteById(productId).getBody());
+		final var response = this.productClientService.deleteById(productId);
+		this.invalidateCatalogue();
+		return ResponseEntity.ok(response.getBody());
+	}
+	
+	private void invalidateCatalogue() {
+		this.catalogueResponseCache.invalidate(CatalogueResponseCache.PRODUCTS, CatalogueResponseCache.PRODUCT, 
+				CatalogueResponseCache.CATEGORIES, CatalogueResponseCache.CATEGORY);
 	}
 	
 	
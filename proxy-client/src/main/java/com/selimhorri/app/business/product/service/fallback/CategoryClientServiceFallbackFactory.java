@@ -0,0 +1,74 @@
+package com.selimhorri.app.business.product.service.fallback;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.product.model.CategoryDto;
+import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
+import com.selimhorri.app.business.product.service.CategoryClientService;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CategoryClientServiceFallbackFactory implements FallbackFactory<CategoryClientService> {
+	
+	private static final String DOWNSTREAM = "product-service";
+	
+	@Override
+	public CategoryClientService create(final Throwable cause) {
+		log.info("**CategoryClientServiceFallbackFactory, {} call failed: {}*\n", DOWNSTREAM, cause.toString());
+		return new CategoryClientService() {
+			
+			@Override
+			public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> new CategoryProductServiceCollectionDtoResponse(List.of()));
+			}
+			
+			@Override
+			public ResponseEntity<CategoryDto> findById(final String categoryId) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> CategoryDto.builder()
+						.categoryId(FeignFallbackHelper.parseId(categoryId))
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<CategoryDto> save(final CategoryDto categoryDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<CategoryDto> update(final CategoryDto categoryDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<CategoryDto> update(final String categoryId, final CategoryDto categoryDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final String categoryId) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,74 @@
+package com.selimhorri.app.business.product.service.fallback;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
+import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class ProductClientServiceFallbackFactory implements FallbackFactory<ProductClientService> {
+	
+	private static final String DOWNSTREAM = "product-service";
+	
+	@Override
+	public ProductClientService create(final Throwable cause) {
+		log.info("**ProductClientServiceFallbackFactory, {} call failed: {}*\n", DOWNSTREAM, cause.toString());
+		return new ProductClientService() {
+			
+			@Override
+			public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll() {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> new ProductProductServiceCollectionDtoResponse(List.of()));
+			}
+			
+			@Override
+			public ResponseEntity<ProductDto> findById(final String productId) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> ProductDto.builder()
+						.productId(FeignFallbackHelper.parseId(productId))
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<ProductDto> save(final ProductDto productDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<ProductDto> update(final ProductDto productDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<ProductDto> update(final String productId, final ProductDto productDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final String productId) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
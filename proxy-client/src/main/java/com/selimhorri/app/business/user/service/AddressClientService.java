@@ -15,8 +15,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import com.selimhorri.app.business.user.model.AddressDto;
 import com.selimhorri.app.business.user.model.response.AddressUserServiceCollectionDtoResponse;
+import com.selimhorri.app.business.user.service.fallback.AddressClientServiceFallbackFactory;
 
-@FeignClient(name = "USER-SERVICE", contextId = "addressClientService", path = "/user-service/api/address", decode404 = true)
+@FeignClient(name = "USER-SERVICE", contextId = "addressClientService", path = "/user-service/api/address", decode404 = true, fallbackFactory = AddressClientServiceFallbackFactory.class)
 public interface AddressClientService {
 	
 	@GetMapping
@@ -0,0 +1,74 @@
+package com.selimhorri.app.business.user.service.fallback;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.user.model.AddressDto;
+import com.selimhorri.app.business.user.model.response.AddressUserServiceCollectionDtoResponse;
+import com.selimhorri.app.business.user.service.AddressClientService;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class AddressClientServiceFallbackFactory implements FallbackFactory<AddressClientService> {
+	
+	private static final String DOWNSTREAM = "user-service";
+	
+	@Override
+	public AddressClientService create(final Throwable cause) {
+		log.info("**AddressClientServiceFallbackFactory, {} call failed: {}*\n", DOWNSTREAM, cause.toString());
+		return new AddressClientService() {
+			
+			@Override
+			public ResponseEntity<AddressUserServiceCollectionDtoResponse> findAll() {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> new AddressUserServiceCollectionDtoResponse(List.of()));
+			}
+			
+			@Override
+			public ResponseEntity<AddressDto> findById(final String addressId) {
+				return FeignFallbackHelper.degrade(DOWNSTREAM, cause, () -> AddressDto.builder()
+						.addressId(FeignFallbackHelper.parseId(addressId))
+						.build());
+			}
+			
+			@Override
+			public ResponseEntity<AddressDto> save(final AddressDto addressDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<AddressDto> update(final AddressDto addressDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<AddressDto> update(final String addressId, final AddressDto addressDto) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+			@Override
+			public ResponseEntity<Boolean> deleteById(final String addressId) {
+				throw FeignFallbackHelper.propagate(DOWNSTREAM, cause);
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,47 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+@EnableConfigurationProperties(CatalogueResponseCacheProperties.class)
+public class CatalogueCacheConfig {
+	
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService catalogueRefreshExecutorService(
+			final CatalogueResponseCacheProperties catalogueResponseCacheProperties, 
+			final MeterRegistry meterRegistry) {
+		final var threadPoolExecutor = new ThreadPoolExecutor(
+				catalogueResponseCacheProperties.getRefreshPoolSize(), 
+				catalogueResponseCacheProperties.getRefreshPoolSize(), 
+				60L, TimeUnit.SECONDS, 
+				new ArrayBlockingQueue<>(catalogueResponseCacheProperties.getRefreshQueueCapacity()), 
+				new CustomizableThreadFactory("catalogue-refresh-"), 
+				new ThreadPoolExecutor.AbortPolicy());
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+		return ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, "catalogue-refresh");
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
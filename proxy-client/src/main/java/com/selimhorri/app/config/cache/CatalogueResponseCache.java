@@ -0,0 +1,231 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CatalogueResponseCache {
+	
+	public static final String CATALOGUE_CACHE_NAME = "catalogue";
+	
+	public static final String PRODUCTS = "products";
+	public static final String PRODUCT = "product";
+	public static final String CATEGORIES = "categories";
+	public static final String CATEGORY = "category";
+	
+	private final CatalogueResponseCacheProperties catalogueResponseCacheProperties;
+	private final ExecutorService catalogueRefreshExecutorService;
+	private final MeterRegistry meterRegistry;
+	private final Ticker ticker;
+	private final Map<String, RouteCache> routeCaches = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> refreshing = new ConcurrentHashMap<>();
+	
+	@Autowired
+	public CatalogueResponseCache(final CatalogueResponseCacheProperties catalogueResponseCacheProperties, 
+			final ExecutorService catalogueRefreshExecutorService, 
+			final MeterRegistry meterRegistry) {
+		this(catalogueResponseCacheProperties, catalogueRefreshExecutorService, meterRegistry, Ticker.systemTicker());
+	}
+	
+	public CatalogueResponseCache(final CatalogueResponseCacheProperties catalogueResponseCacheProperties, 
+			final ExecutorService catalogueRefreshExecutorService, 
+			final MeterRegistry meterRegistry, 
+			final Ticker ticker) {
+		this.catalogueResponseCacheProperties = catalogueResponseCacheProperties;
+		this.catalogueRefreshExecutorService = catalogueRefreshExecutorService;
+		this.meterRegistry = meterRegistry;
+		this.ticker = ticker;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <T> ResponseEntity<T> get(final String route, final String key, final Supplier<ResponseEntity<T>> loader) {
+		if (!this.catalogueResponseCacheProperties.isEnabled())
+			return loader.get();
+		final RouteCache routeCache = this.routeCaches.computeIfAbsent(route, this::newRouteCache);
+		final CachedResponse cached = routeCache.cache.getIfPresent(key);
+		if (cached == null) {
+			routeCache.misses.increment();
+			return (ResponseEntity<T>) this.loadOnMiss(routeCache, key, loader).response;
+		}
+		if (this.ticker.read() - cached.loadedAt < routeCache.ttlNanos) {
+			routeCache.freshHits.increment();
+			return (ResponseEntity<T>) cached.response;
+		}
+		routeCache.staleHits.increment();
+		this.refreshAsync(routeCache, key, loader);
+		return (ResponseEntity<T>) cached.response;
+	}
+	
+	public void invalidate(final String... routes) {
+		for (final String route : routes) {
+			final RouteCache routeCache = this.routeCaches.get(route);
+			if (routeCache != null) {
+				routeCache.generation.incrementAndGet();
+				routeCache.loading.clear();
+				routeCache.cache.invalidateAll();
+			}
+		}
+	}
+	
+	private CachedResponse loadOnMiss(final RouteCache routeCache, final String key, 
+			final Supplier<? extends ResponseEntity<?>> loader) {
+		final CompletableFuture<CachedResponse> loading = new CompletableFuture<>();
+		final CompletableFuture<CachedResponse> inFlight = routeCache.loading.putIfAbsent(key, loading);
+		if (inFlight != null) {
+			try {
+				return inFlight.join();
+			}
+			catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
+		final long generation = routeCache.generation.get();
+		try {
+			final CachedResponse loaded = this.load(routeCache, loader);
+			this.store(routeCache, key, loaded, generation);
+			loading.complete(loaded);
+			return loaded;
+		}
+		catch (RuntimeException e) {
+			loading.completeExceptionally(e);
+			throw e;
+		}
+		finally {
+			routeCache.loading.remove(key, loading);
+		}
+	}
+	
+	private void store(final RouteCache routeCache, final String key, final CachedResponse loaded, final long generation) {
+		if (FeignFallbackHelper.isDegraded(loaded.response))
+			return;
+		routeCache.cache.asMap().compute(key, (k, current) -> 
+				routeCache.generation.get() == generation ? loaded : current);
+	}
+	
+	private void refreshAsync(final RouteCache routeCache, final String key, final Supplier<? extends ResponseEntity<?>> loader) {
+		final String refreshKey = routeCache.route + ':' + key;
+		if (this.refreshing.putIfAbsent(refreshKey, Boolean.TRUE) != null)
+			return;
+		final long generation = routeCache.generation.get();
+		try {
+			this.catalogueRefreshExecutorService.execute(() -> {
+				try {
+					this.store(routeCache, key, this.load(routeCache, loader), generation);
+				}
+				catch (RuntimeException e) {
+					log.info("**CatalogueResponseCache, refresh of {} failed, serving stale response: {}*\n", 
+							refreshKey, e.getMessage());
+				}
+				finally {
+					this.refreshing.remove(refreshKey);
+				}
+			});
+		}
+		catch (RejectedExecutionException e) {
+			this.refreshing.remove(refreshKey);
+		}
+	}
+	
+	private CachedResponse load(final RouteCache routeCache, final Supplier<? extends ResponseEntity<?>> loader) {
+		final long start = this.ticker.read();
+		final ResponseEntity<?> response = loader.get();
+		final long loadedAt = this.ticker.read();
+		routeCache.refreshLatency.record(loadedAt - start, TimeUnit.NANOSECONDS);
+		return new CachedResponse(response, loadedAt);
+	}
+	
+	private RouteCache newRouteCache(final String route) {
+		return new RouteCache(route, 
+				this.catalogueResponseCacheProperties.getTtl(route).toNanos(), 
+				CaffeineCacheMetrics.monitor(this.meterRegistry, Caffeine.newBuilder()
+						.maximumSize(this.catalogueResponseCacheProperties.getMaximumSize())
+						.expireAfterWrite(this.catalogueResponseCacheProperties.getTtl(route)
+								.plus(this.catalogueResponseCacheProperties.getStaleWhileRevalidate(route)))
+						.ticker(this.ticker)
+						.recordStats()
+						.<String, CachedResponse>build(), CATALOGUE_CACHE_NAME + "." + route), 
+				this.meterRegistry);
+	}
+	
+	private static final class CachedResponse {
+		
+		private final ResponseEntity<?> response;
+		private final long loadedAt;
+		
+		private CachedResponse(final ResponseEntity<?> response, final long loadedAt) {
+			this.response = response;
+			this.loadedAt = loadedAt;
+		}
+		
+	}
+	
+	private static final class RouteCache {
+		
+		private final String route;
+		private final long ttlNanos;
+		private final Cache<String, CachedResponse> cache;
+		private final AtomicLong generation = new AtomicLong();
+		private final Map<String, CompletableFuture<CachedResponse>> loading = new ConcurrentHashMap<>();
+		private final Counter freshHits;
+		private final Counter staleHits;
+		private final Counter misses;
+		private final Timer refreshLatency;
+		
+		private RouteCache(final String route, final long ttlNanos, final Cache<String, CachedResponse> cache, 
+				final MeterRegistry meterRegistry) {
+			this.route = route;
+			this.ttlNanos = ttlNanos;
+			this.cache = cache;
+			this.freshHits = requests(meterRegistry, route, "fresh");
+			this.staleHits = requests(meterRegistry, route, "stale");
+			this.misses = requests(meterRegistry, route, "miss");
+			this.refreshLatency = Timer.builder("catalogue.cache.load")
+					.tag("route", route)
+					.register(meterRegistry);
+		}
+		
+		private static Counter requests(final MeterRegistry meterRegistry, final String route, final String result) {
+			return Counter.builder("catalogue.cache.requests")
+					.tag("route", route)
+					.tag("result", result)
+					.register(meterRegistry);
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
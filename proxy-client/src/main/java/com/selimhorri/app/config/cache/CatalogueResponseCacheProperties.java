@@ -0,0 +1,53 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.cache.catalogue")
+@Data
+public class CatalogueResponseCacheProperties {
+	
+	private boolean enabled = true;
+	private long maximumSize = 10_000;
+	private Duration ttl = Duration.ofSeconds(30);
+	private Duration staleWhileRevalidate = Duration.ofMinutes(5);
+	private Map<String, Route> routes = new HashMap<>();
+	private int refreshPoolSize = 4;
+	private int refreshQueueCapacity = 256;
+	
+	public Duration getTtl(final String route) {
+		final Route overrides = this.routes.get(route);
+		return overrides != null && overrides.getTtl() != null ? overrides.getTtl() : this.ttl;
+	}
+	
+	public Duration getStaleWhileRevalidate(final String route) {
+		final Route overrides = this.routes.get(route);
+		return overrides != null && overrides.getStaleWhileRevalidate() != null 
+				? overrides.getStaleWhileRevalidate() 
+				: this.staleWhileRevalidate;
+	}
+	
+	@Data
+	public static class Route {
+		
+		private Duration ttl;
+		private Duration staleWhileRevalidate;
+		
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
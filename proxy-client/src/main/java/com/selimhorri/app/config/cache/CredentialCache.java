@@ -0,0 +1,50 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.function.Function;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class CredentialCache {
+	
+	public static final String CREDENTIAL_CACHE_NAME = "credentials";
+	
+	private final CredentialCacheProperties credentialCacheProperties;
+	private final Cache<String, UserDetails> cache;
+	
+	public CredentialCache(final CredentialCacheProperties credentialCacheProperties, 
+			final MeterRegistry meterRegistry) {
+		this.credentialCacheProperties = credentialCacheProperties;
+		this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumSize(credentialCacheProperties.getMaximumSize())
+				.expireAfterWrite(credentialCacheProperties.getExpireAfterWrite())
+				.recordStats()
+				.<String, UserDetails>build(), CREDENTIAL_CACHE_NAME);
+	}
+	
+	public UserDetails get(final String username, final Function<String, UserDetails> loader) {
+		if (!this.credentialCacheProperties.isEnabled())
+			return loader.apply(username);
+		return this.cache.get(username, loader);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,92 @@
+package com.selimhorri.app.config.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.jwt.model.VerifiedClaims;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class VerifiedTokenCache {
+	
+	public static final String VERIFIED_TOKEN_CACHE_NAME = "verifiedTokens";
+	
+	private final VerifiedTokenCacheProperties verifiedTokenCacheProperties;
+	private final Cache<String, VerifiedClaims> cache;
+	
+	public VerifiedTokenCache(final VerifiedTokenCacheProperties verifiedTokenCacheProperties, 
+			final MeterRegistry meterRegistry) {
+		this.verifiedTokenCacheProperties = verifiedTokenCacheProperties;
+		this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumSize(verifiedTokenCacheProperties.getMaximumSize())
+				.expireAfter(new UntilTokenExpiry())
+				.recordStats()
+				.<String, VerifiedClaims>build(), VERIFIED_TOKEN_CACHE_NAME);
+	}
+	
+	public VerifiedClaims get(final String token, final Function<String, VerifiedClaims> verifier) {
+		if (!this.verifiedTokenCacheProperties.isEnabled())
+			return verifier.apply(token);
+		return this.cache.get(hash(token), tokenHash -> verifier.apply(token));
+	}
+	
+	private static String hash(final String token) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static final class UntilTokenExpiry implements Expiry<String, VerifiedClaims> {
+		
+		@Override
+		public long expireAfterCreate(final String tokenHash, final VerifiedClaims claims, final long currentTime) {
+			final Date expiration = claims.getExpiration();
+			if (expiration == null)
+				return 0L;
+			return Math.max(0L, TimeUnit.MILLISECONDS
+					.toNanos(expiration.getTime() - System.currentTimeMillis()));
+		}
+		
+		@Override
+		public long expireAfterUpdate(final String tokenHash, final VerifiedClaims claims, 
+				final long currentTime, final long currentDuration) {
+			return currentDuration;
+		}
+		
+		@Override
+		public long expireAfterRead(final String tokenHash, final VerifiedClaims claims, 
+				final long currentTime, final long currentDuration) {
+			return currentDuration;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,24 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.cache.verified-token")
+@Data
+public class VerifiedTokenCacheProperties {
+	
+	private boolean enabled = true;
+	private long maximumSize = 10_000;
+	
+}
+
+
+
+
+
+
+
+
+
+
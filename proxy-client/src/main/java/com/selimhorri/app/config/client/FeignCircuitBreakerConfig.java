@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.client;
+
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@Configuration
+public class FeignCircuitBreakerConfig {
+	
+	@Bean
+	public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+		return (feignClientName, target, method) -> StringUtils.hasText(feignClientName) ? feignClientName : target.name();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
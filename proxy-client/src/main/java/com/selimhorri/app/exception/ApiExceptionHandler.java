@@ -1,8 +1,10 @@
 package com.selimhorri.app.exception;
 
+import java.lang.reflect.InvocationTargetException;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import org.springframework.cloud.client.circuitbreaker.NoFallbackAvailableException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -13,9 +15,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import com.selimhorri.app.exception.payload.ExceptionMsg;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
+import com.selimhorri.app.exception.wrapper.DownstreamUnavailableException;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
+import com.selimhorri.app.helper.FeignFallbackHelper;
 
 import feign.FeignException;
 import feign.FeignException.FeignClientException;
@@ -70,7 +74,6 @@ public class ApiExceptionHandler {
 		CredentialNotFoundException.class,
 		VerificationTokenNotFoundException.class,
 		FavouriteNotFoundException.class,
-		IllegalStateException.class,
 	})
 	public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleApiRequestException(final T e) {
 		
@@ -86,6 +89,40 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = {
+		IllegalStateException.class,
+		NoFallbackAvailableException.class,
+		DownstreamUnavailableException.class
+	})
+	public ResponseEntity<ExceptionMsg> handleCircuitBreakerException(final RuntimeException e) {
+		
+		final Throwable cause = unwrap(e);
+		if (cause instanceof FeignException)
+			return this.handleProxyException((FeignException) cause);
+		
+		log.info("**ApiExceptionHandler controller, handle circuit breaker exception*\n");
+		final var status = FeignFallbackHelper.isUnavailable(cause) ? 
+				HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_REQUEST;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg(cause.getMessage())
+					.httpStatus(status)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), status);
+	}
+	
+	private static Throwable unwrap(final Throwable e) {
+		Throwable cause = e;
+		while (cause.getCause() != null 
+				&& (cause instanceof NoFallbackAvailableException 
+						|| cause instanceof InvocationTargetException 
+						|| cause instanceof IllegalStateException && cause.getCause() instanceof InvocationTargetException))
+			cause = cause.getCause();
+		return cause;
+	}
+	
 	
 	
 }
@@ -0,0 +1,37 @@
+package com.selimhorri.app.helper;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+public interface ConditionalResponseHelper {
+	
+	public static final List<String> VALIDATOR_HEADERS = List.of(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, 
+			HttpHeaders.CACHE_CONTROL, HttpHeaders.WARNING);
+	
+	public static <T> ResponseEntity<T> passThrough(final ResponseEntity<T> upstream) {
+		final HttpHeaders headers = new HttpHeaders();
+		VALIDATOR_HEADERS.forEach(name -> {
+			final List<String> values = upstream.getHeaders().get(name);
+			if (values != null && !values.isEmpty())
+				headers.put(name, values);
+		});
+		return ResponseEntity.status(upstream.getStatusCode())
+				.headers(headers)
+				.body(upstream.getBody());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,77 @@
+package com.selimhorri.app.helper;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.exception.wrapper.DownstreamUnavailableException;
+
+import feign.FeignException.FeignServerException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
+public interface FeignFallbackHelper {
+	
+	public static final HttpStatus DEGRADED_STATUS = HttpStatus.NON_AUTHORITATIVE_INFORMATION;
+	public static final String DEGRADED_WARNING = "199 - \"%s unavailable, partial response\"";
+	
+	public static boolean isUnavailable(final Throwable cause) {
+		for (Throwable t = cause; t != null; t = t.getCause())
+			if (t instanceof CallNotPermittedException 
+					|| t instanceof BulkheadFullException 
+					|| t instanceof TimeoutException 
+					|| t instanceof RejectedExecutionException 
+					|| t instanceof RetryableException 
+					|| t instanceof FeignServerException 
+					|| t instanceof DownstreamUnavailableException)
+				return true;
+		return false;
+	}
+	
+	public static <T> ResponseEntity<T> degrade(final String downstream, final Throwable cause, final Supplier<T> partial) {
+		if (!isUnavailable(cause))
+			throw propagate(downstream, cause);
+		return ResponseEntity.status(DEGRADED_STATUS)
+				.header(HttpHeaders.WARNING, String.format(DEGRADED_WARNING, downstream))
+				.body(partial.get());
+	}
+	
+	public static RuntimeException propagate(final String downstream, final Throwable cause) {
+		if (isUnavailable(cause))
+			return new DownstreamUnavailableException(String.format("%s is unavailable", downstream), cause);
+		if (cause instanceof RuntimeException)
+			return (RuntimeException) cause;
+		return new IllegalStateException(cause);
+	}
+	
+	public static boolean isDegraded(final ResponseEntity<?> response) {
+		return response.getStatusCode() == DEGRADED_STATUS;
+	}
+	
+	public static Integer parseId(final String id) {
+		try {
+			return Integer.parseInt(id.strip());
+		}
+		catch (RuntimeException e) {
+			return null;
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.jwt.model;
+
+import java.util.Date;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class VerifiedClaims {
+	
+	String subject;
+	Date expiration;
+	List<String> authorities;
+	
+	public Date getExpiration() {
+		return (this.expiration == null) ? null : new Date(this.expiration.getTime());
+	}
+	
+	public boolean isExpired() {
+		return this.expiration == null || this.expiration.before(new Date());
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -5,6 +5,8 @@ import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.selimhorri.app.jwt.model.VerifiedClaims;
+
 import io.jsonwebtoken.Claims;
 
 public interface JwtService {
@@ -14,6 +16,8 @@ public interface JwtService {
 	<T> T extractClaims(final String token, final Function<Claims, T> claimsResolver);
 	String generateToken(final UserDetails userDetails);
 	Boolean validateToken(final String token, final UserDetails userDetails);
+	VerifiedClaims verify(final String token);
+	Boolean validateToken(final VerifiedClaims verifiedClaims, final UserDetails userDetails);
 	
 }
 
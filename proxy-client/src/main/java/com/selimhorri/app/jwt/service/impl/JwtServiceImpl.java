@@ -6,6 +6,8 @@ import java.util.function.Function;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.config.cache.VerifiedTokenCache;
+import com.selimhorri.app.jwt.model.VerifiedClaims;
 import com.selimhorri.app.jwt.service.JwtService;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
@@ -19,17 +21,18 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtServiceImpl implements JwtService {
 	
 	private final JwtUtil jwtUtil;
+	private final VerifiedTokenCache verifiedTokenCache;
 	
 	@Override
 	public String extractUsername(final String token) {
 		log.info("**String, jwt service extract username from given token!*");
-		return this.jwtUtil.extractUsername(token);
+		return this.verify(token).getSubject();
 	}
 	
 	@Override
 	public Date extractExpiration(final String token) {
 		log.info("**Date, jwt service extract expiration from given token!*");
-		return this.jwtUtil.extractExpiration(token);
+		return this.verify(token).getExpiration();
 	}
 	
 	@Override
@@ -47,7 +50,21 @@ public class JwtServiceImpl implements JwtService {
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
 		log.info("**Boolean, jwt service validate token from given token and userDetails!*");
-		return this.jwtUtil.validateToken(token, userDetails);
+		return this.validateToken(this.verify(token), userDetails);
+	}
+	
+	@Override
+	public VerifiedClaims verify(final String token) {
+		log.info("**VerifiedClaims, jwt service verify given token once!*");
+		return this.verifiedTokenCache.get(token, this.jwtUtil::verify);
+	}
+	
+	@Override
+	public Boolean validateToken(final VerifiedClaims verifiedClaims, final UserDetails userDetails) {
+		log.info("**Boolean, jwt service validate verified claims against given userDetails!*");
+		return (
+			verifiedClaims.getSubject().equals(userDetails.getUsername()) && !verifiedClaims.isExpired()
+		);
 	}
 	
 	
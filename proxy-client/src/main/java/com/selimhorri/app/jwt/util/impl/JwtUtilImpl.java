@@ -1,23 +1,34 @@
 package com.selimhorri.app.jwt.util.impl;
 
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.selimhorri.app.jwt.model.VerifiedClaims;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
 
 @Component
 public class JwtUtilImpl implements JwtUtil {
 	
 	private static final String SECRET_KEY = "secret";
+	private static final String AUTHORITIES_CLAIM = "authorities";
+	private static final Key SIGNING_KEY = new SecretKeySpec(
+			TextCodec.BASE64.decode(SECRET_KEY), SignatureAlgorithm.HS256.getJcaName());
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -36,16 +47,15 @@ public class JwtUtilImpl implements JwtUtil {
 	}
 	
 	private Claims extractAllClaims(final String token) {
-		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
-	}
-	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
+		return Jwts.parser().setSigningKey(SIGNING_KEY).parseClaimsJws(token).getBody();
 	}
 	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
+		claims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.collect(Collectors.toUnmodifiableList()));
 		return this.createToken(claims, userDetails.getUsername());
 	}
 	
@@ -55,18 +65,31 @@ public class JwtUtilImpl implements JwtUtil {
 					.setSubject(subject)
 					.setIssuedAt(new Date(System.currentTimeMillis()))
 					.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-					.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+					.signWith(SignatureAlgorithm.HS256, SIGNING_KEY)
 		.compact();
 	}
 	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		final VerifiedClaims verifiedClaims = this.verify(token);
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			verifiedClaims.getSubject().equals(userDetails.getUsername()) && !verifiedClaims.isExpired()
 		);
 	}
 	
+	@Override
+	public VerifiedClaims verify(final String token) {
+		final Claims claims = this.extractAllClaims(token);
+		final List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+		return VerifiedClaims.builder()
+				.subject(claims.getSubject())
+				.expiration(claims.getExpiration())
+				.authorities((authorities == null) ? List.of() : authorities.stream()
+						.map(String::valueOf)
+						.collect(Collectors.toUnmodifiableList()))
+				.build();
+	}
+	
 	
 	
 }
@@ -0,0 +1,129 @@
+package com.selimhorri.app.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.business.auth.service.impl.UserDetailsServiceImpl;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.cache.CredentialCache;
+import com.selimhorri.app.config.cache.CredentialCacheProperties;
+import com.selimhorri.app.config.cache.VerifiedTokenCache;
+import com.selimhorri.app.config.cache.VerifiedTokenCacheProperties;
+import com.selimhorri.app.config.filter.JwtRequestFilter;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtRequestFilterBenchmark {
+
+    private static final long SIMULATED_USER_SERVICE_LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    @Param({ "true", "false" })
+    private boolean cachesEnabled;
+
+    private JwtRequestFilter jwtRequestFilter;
+    private String authorizationHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+            .setLevel(ch.qos.logback.classic.Level.WARN);
+
+        final var credentialDto = CredentialDto.builder()
+            .username("selimhorri")
+            .password("secret")
+            .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+            .isEnabled(true)
+            .isAccountNonExpired(true)
+            .isAccountNonLocked(true)
+            .isCredentialsNonExpired(true)
+            .build();
+
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var verifiedTokenCacheProperties = new VerifiedTokenCacheProperties();
+        verifiedTokenCacheProperties.setEnabled(this.cachesEnabled);
+        final var credentialCacheProperties = new CredentialCacheProperties();
+        credentialCacheProperties.setEnabled(this.cachesEnabled);
+
+        final var jwtUtil = new JwtUtilImpl();
+        final var jwtService = new JwtServiceImpl(jwtUtil,
+            new VerifiedTokenCache(verifiedTokenCacheProperties, meterRegistry));
+        final var userDetailsService = new UserDetailsServiceImpl(new StubUserServiceRestTemplate(credentialDto),
+            new CredentialCache(credentialCacheProperties, meterRegistry));
+
+        this.jwtRequestFilter = new JwtRequestFilter(userDetailsService, jwtService);
+        this.authorizationHeader = "Bearer " + jwtUtil.generateToken(new UserDetailsImpl(credentialDto));
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public MockHttpServletRequest filterAuthenticatedRequest() throws ServletException, IOException {
+        final var request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("Authorization", this.authorizationHeader);
+        this.jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtRequestFilterBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+    private static final class StubUserServiceRestTemplate extends RestTemplate {
+
+        private final CredentialDto credentialDto;
+
+        private StubUserServiceRestTemplate(final CredentialDto credentialDto) {
+            this.credentialDto = credentialDto;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getForObject(final String url, final Class<T> responseType, final Object... uriVariables) {
+            LockSupport.parkNanos(SIMULATED_USER_SERVICE_LATENCY_NANOS);
+            return (T) this.credentialDto;
+        }
+
+    }
+}
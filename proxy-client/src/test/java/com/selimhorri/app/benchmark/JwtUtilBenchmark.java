@@ -0,0 +1,79 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.model.VerifiedClaims;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String RAW_SECRET_KEY = "secret";
+
+    private JwtUtilImpl jwtUtil;
+    private UserDetailsImpl userDetails;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.jwtUtil = new JwtUtilImpl();
+        this.userDetails = new UserDetailsImpl(CredentialDto.builder()
+            .username("selimhorri")
+            .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+            .build());
+        this.token = this.jwtUtil.generateToken(this.userDetails);
+    }
+
+    @Benchmark
+    public boolean tripleParseWithRawKey() {
+        final String username = parse(this.token).getSubject();
+        return username != null
+            && parse(this.token).getSubject().equals(this.userDetails.getUsername())
+            && !parse(this.token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleVerifyWithPrecomputedKey() {
+        final VerifiedClaims verifiedClaims = this.jwtUtil.verify(this.token);
+        return verifiedClaims.getSubject() != null
+            && verifiedClaims.getSubject().equals(this.userDetails.getUsername())
+            && !verifiedClaims.isExpired();
+    }
+
+    private static Claims parse(final String token) {
+        return Jwts.parser().setSigningKey(RAW_SECRET_KEY).parseClaimsJws(token).getBody();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtUtilBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,194 @@
+package com.selimhorri.app.unit.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.config.cache.CatalogueResponseCache;
+import com.selimhorri.app.config.cache.CatalogueResponseCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CatalogueResponseCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final QueuedExecutor executor = new QueuedExecutor();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogueResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        final CatalogueResponseCacheProperties properties = new CatalogueResponseCacheProperties();
+        properties.setTtl(Duration.ofSeconds(10));
+        properties.setStaleWhileRevalidate(Duration.ofSeconds(60));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.cache = new CatalogueResponseCache(properties, this.executor, this.meterRegistry, this.nanos::get);
+    }
+
+    private ResponseEntity<Integer> load() {
+        return ResponseEntity.ok(this.loads.incrementAndGet());
+    }
+
+    private Integer get(final String key) {
+        return this.cache.get(CatalogueResponseCache.PRODUCT, key, this::load).getBody();
+    }
+
+    @Test
+    void servesFreshEntryWithoutReloading() {
+        assertThat(this.get("1")).isEqualTo(1);
+        this.nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(this.get("1")).isEqualTo(1);
+        assertThat(this.loads).hasValue(1);
+        assertThat(this.executor.tasks).isEmpty();
+    }
+
+    @Test
+    void servesStaleEntryWhileSingleRefreshRuns() {
+        this.get("1");
+        this.nanos.addAndGet(Duration.ofSeconds(15).toNanos());
+
+        assertThat(this.get("1")).isEqualTo(1);
+        assertThat(this.get("1")).isEqualTo(1);
+        assertThat(this.executor.tasks).hasSize(1);
+
+        this.executor.runAll();
+        assertThat(this.get("1")).isEqualTo(2);
+        assertThat(this.meterRegistry.get("catalogue.cache.requests").tag("result", "stale").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void expiresEntryAfterStaleWindow() {
+        this.get("1");
+        this.nanos.addAndGet(Duration.ofSeconds(71).toNanos());
+        assertThat(this.get("1")).isEqualTo(2);
+        assertThat(this.executor.tasks).isEmpty();
+    }
+
+    @Test
+    void invalidationDiscardsInFlightRefresh() {
+        this.get("1");
+        this.nanos.addAndGet(Duration.ofSeconds(15).toNanos());
+        this.get("1");
+
+        this.cache.invalidate(CatalogueResponseCache.PRODUCT);
+        assertThat(this.get("1")).isEqualTo(2);
+        this.executor.runAll();
+        assertThat(this.get("1")).isEqualTo(2);
+    }
+
+    @Test
+    void invalidationDuringMissLoadIsNotOverwritten() {
+        final ResponseEntity<Integer> loadedBeforeInvalidation = this.cache.get(CatalogueResponseCache.PRODUCT, "1", () -> {
+            final ResponseEntity<Integer> response = this.load();
+            this.cache.invalidate(CatalogueResponseCache.PRODUCT);
+            return response;
+        });
+
+        assertThat(loadedBeforeInvalidation.getBody()).isEqualTo(1);
+        assertThat(this.get("1")).isEqualTo(2);
+        assertThat(this.get("1")).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Integer> first = callers.submit(() -> this.cache.get(CatalogueResponseCache.PRODUCT, "1", () -> {
+                loading.countDown();
+                try {
+                    release.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return this.load();
+            }).getBody());
+            loading.await();
+            final Future<Integer> second = callers.submit(() -> this.get("1"));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThat(first.get()).isEqualTo(1);
+            assertThat(second.get()).isEqualTo(1);
+            assertThat(this.loads).hasValue(1);
+        }
+        finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void doesNotCacheDegradedFallbackResponses() {
+        final ResponseEntity<Integer> degraded = this.cache.get(CatalogueResponseCache.PRODUCT, "1",
+                () -> ResponseEntity.status(HttpStatus.NON_AUTHORITATIVE_INFORMATION).body(0));
+        assertThat(degraded.getStatusCode()).isEqualTo(HttpStatus.NON_AUTHORITATIVE_INFORMATION);
+        assertThat(this.get("1")).isEqualTo(1);
+
+        this.nanos.addAndGet(Duration.ofSeconds(15).toNanos());
+        this.cache.get(CatalogueResponseCache.PRODUCT, "1",
+                () -> ResponseEntity.status(HttpStatus.NON_AUTHORITATIVE_INFORMATION).body(0));
+        this.executor.runAll();
+        assertThat(this.get("1")).isEqualTo(1);
+    }
+
+    private static final class QueuedExecutor extends AbstractExecutorService {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        void runAll() {
+            final List<Runnable> pending = new ArrayList<>(this.tasks);
+            this.tasks.clear();
+            pending.forEach(Runnable::run);
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            this.tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.selimhorri.app.unit.config.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.core.io.ClassPathResource;
+
+import com.selimhorri.app.business.product.service.CategoryClientService;
+import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.config.client.FeignCircuitBreakerConfig;
+
+import feign.Feign;
+import feign.Target.HardCodedTarget;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+
+class FeignCircuitBreakerConfigTest {
+
+    private final CircuitBreakerNameResolver resolver = new FeignCircuitBreakerConfig().circuitBreakerNameResolver();
+    private Resilience4JCircuitBreakerFactory circuitBreakerFactory;
+
+    @BeforeEach
+    void setUp() {
+        this.circuitBreakerFactory = new Resilience4JCircuitBreakerFactory();
+        this.circuitBreakerFactory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                .circuitBreakerConfig(CircuitBreakerConfig.custom()
+                        .minimumNumberOfCalls(5)
+                        .slidingWindowSize(10)
+                        .build())
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should name breakers after the Feign contextId so the configured bulkheads apply")
+    void testBreakerNamesMatchConfiguredInstances() throws Exception {
+        // Arrange
+        final YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        final Properties properties = yaml.getObject();
+
+        // Act
+        final String productBreaker = resolve(ProductClientService.class, "findAll");
+        final String categoryBreaker = resolve(CategoryClientService.class, "findAll");
+
+        // Assert
+        assertThat(productBreaker).isEqualTo("productClientService");
+        assertThat(categoryBreaker).isEqualTo("categoryClientService");
+        assertThat(Feign.configKey(HardCodedTarget.class, ProductClientService.class.getMethod("findAll")))
+            .isEqualTo(Feign.configKey(HardCodedTarget.class, CategoryClientService.class.getMethod("findAll")));
+        assertThat(properties.getProperty("resilience4j.thread-pool-bulkhead.instances." + productBreaker + ".base-config"))
+            .isEqualTo("hot-path");
+        assertThat(properties.getProperty("resilience4j.thread-pool-bulkhead.instances." + categoryBreaker + ".base-config"))
+            .isEqualTo("hot-path");
+    }
+
+    @Test
+    @DisplayName("Should keep the category breaker closed when product-service fails")
+    void testProductFailuresDoNotOpenCategoryBreaker() throws Exception {
+        // Arrange
+        final String productBreaker = resolve(ProductClientService.class, "findAll");
+        final String categoryBreaker = resolve(CategoryClientService.class, "findAll");
+
+        // Act
+        IntStream.range(0, 10).forEach(i -> this.circuitBreakerFactory.create(productBreaker)
+                .run(() -> {
+                    throw new IllegalStateException("product-service down");
+                }, throwable -> null));
+        final String categoryResult = this.circuitBreakerFactory.create(categoryBreaker)
+                .run(() -> "categories", throwable -> "fallback");
+
+        // Assert
+        assertThat(state(productBreaker)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(state(categoryBreaker)).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(categoryResult).isEqualTo("categories");
+    }
+
+    private String resolve(final Class<?> clientType, final String methodName) throws Exception {
+        final Method method = clientType.getMethod(methodName);
+        final FeignClient feignClient = clientType.getAnnotation(FeignClient.class);
+        return this.resolver.resolveCircuitBreakerName(feignClient.contextId(),
+                new HardCodedTarget<>(clientType, feignClient.name(), "http://" + feignClient.name()), method);
+    }
+
+    private CircuitBreaker.State state(final String name) {
+        return this.circuitBreakerFactory.getCircuitBreakerRegistry().circuitBreaker(name).getState();
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.selimhorri.app.unit.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
+import com.selimhorri.app.business.product.service.fallback.ProductClientServiceFallbackFactory;
+import com.selimhorri.app.exception.wrapper.DownstreamUnavailableException;
+import com.selimhorri.app.helper.FeignFallbackHelper;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+
+class FeignFallbackHelperTest {
+
+    private final ProductClientServiceFallbackFactory fallbackFactory = new ProductClientServiceFallbackFactory();
+
+    @Test
+    @DisplayName("Should degrade reads to a marked partial response when the downstream is unavailable")
+    void testReadsDegradeWhenUnavailable() {
+        // Arrange
+        final var fallback = this.fallbackFactory.create(new TimeoutException());
+
+        // Act
+        final ResponseEntity<ProductProductServiceCollectionDtoResponse> all = fallback.findAll();
+        final ResponseEntity<ProductDto> one = fallback.findById("7");
+
+        // Assert
+        assertThat(all.getStatusCode()).isEqualTo(HttpStatus.NON_AUTHORITATIVE_INFORMATION);
+        assertThat(all.getHeaders().getFirst(HttpHeaders.WARNING)).contains("product-service unavailable");
+        assertThat(all.getBody().getCollection()).isEqualTo(List.of());
+        assertThat(FeignFallbackHelper.isDegraded(one)).isTrue();
+        assertThat(one.getBody().getProductId()).isEqualTo(7);
+        assertThat(one.getBody().getProductTitle()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fail writes with an unavailable error instead of degrading them")
+    void testWritesFailWhenUnavailable() {
+        // Arrange
+        final var fallback = this.fallbackFactory.create(BulkheadFullException.createBulkheadFullException(
+                Bulkhead.ofDefaults("productClientService")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> fallback.deleteById("7"))
+            .isInstanceOf(DownstreamUnavailableException.class)
+            .hasMessageContaining("product-service");
+    }
+
+    @Test
+    @DisplayName("Should rethrow failures that are not availability problems")
+    void testClientErrorsAreNotMasked() {
+        // Arrange
+        final var badRequest = new IllegalArgumentException("bad request");
+        final var fallback = this.fallbackFactory.create(badRequest);
+
+        // Act & Assert
+        assertThatThrownBy(fallback::findAll).isSameAs(badRequest);
+        assertThat(FeignFallbackHelper.parseId("not-a-number")).isNull();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+public class ProductCacheConfig {
+	
+	public static final String PRODUCT_CACHE_NAME = "products";
+	
+	@Bean
+	public AsyncLoadingCache<Integer, ProductDto> productCache(final ProductCacheProperties productCacheProperties, 
+			final RestTemplate restTemplate, 
+			final EnrichmentExecutor enrichmentExecutor, 
+			final MeterRegistry meterRegistry) {
+		
+		final AsyncLoadingCache<Integer, ProductDto> productCache = Caffeine.newBuilder()
+				.maximumSize(productCacheProperties.getMaximumSize())
+				.expireAfterWrite(productCacheProperties.getExpireAfterWrite())
+				.recordStats()
+				.buildAsync((productId, executor) -> enrichmentExecutor
+						.supplyAsync(EnrichmentExecutor.PRODUCT_SERVICE, () -> restTemplate
+								.getForObject(AppConstant.DiscoveredDomainsApi
+										.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class)));
+		
+		return CaffeineCacheMetrics.monitor(meterRegistry, productCache, PRODUCT_CACHE_NAME);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
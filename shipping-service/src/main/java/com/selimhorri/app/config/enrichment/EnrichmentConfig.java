@@ -0,0 +1,22 @@
+package com.selimhorri.app.config.enrichment;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class EnrichmentConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,153 @@
+package com.selimhorri.app.config.enrichment;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class EnrichmentExecutor {
+	
+	public static final String PRODUCT_SERVICE = "product-service";
+	public static final String ORDER_SERVICE = "order-service";
+	
+	private final EnrichmentProperties enrichmentProperties;
+	private final MeterRegistry meterRegistry;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final Map<String, ThreadPoolExecutor> bulkheads = new ConcurrentHashMap<>();
+	private final Map<String, Semaphore> admissions = new ConcurrentHashMap<>();
+	
+	public EnrichmentExecutor(final EnrichmentProperties enrichmentProperties, 
+			final MeterRegistry meterRegistry, 
+			final CircuitBreakerRegistry circuitBreakerRegistry) {
+		this.enrichmentProperties = enrichmentProperties;
+		this.meterRegistry = meterRegistry;
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+	}
+	
+	public <T> CompletableFuture<T> supplyAsync(final String downstream, final Supplier<T> call) {
+		final ThreadPoolExecutor bulkhead = this.bulkheads.computeIfAbsent(downstream, this::registerBulkhead);
+		final Semaphore admission = this.admissions.get(downstream);
+		final CircuitBreaker circuitBreaker = this.circuitBreakerRegistry.circuitBreaker(downstream);
+		final Duration timeout = this.enrichmentProperties.getTimeout();
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		if (!acquire(admission, timeout)) {
+			result.completeExceptionally(new IllegalStateException(String
+					.format("Timed out waiting for a free slot to %s", downstream)));
+			return result;
+		}
+		final Future<?> task;
+		try {
+			task = bulkhead.submit(() -> {
+				try {
+					result.complete(circuitBreaker.executeSupplier(call));
+				}
+				catch (RuntimeException e) {
+					result.completeExceptionally(e);
+				}
+			});
+		}
+		catch (RejectedExecutionException e) {
+			admission.release();
+			result.completeExceptionally(new IllegalStateException(String
+					.format("Enrichment executor for %s is shut down", downstream), e));
+			return result;
+		}
+		return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+				.whenComplete((value, throwable) -> task.cancel(true));
+	}
+	
+	public static <T> T await(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+	
+	private static boolean acquire(final Semaphore admission, final Duration timeout) {
+		try {
+			return admission.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		this.bulkheads.values().forEach(ThreadPoolExecutor::shutdownNow);
+	}
+	
+	private ThreadPoolExecutor registerBulkhead(final String downstream) {
+		final int maxConcurrentRequests = this.enrichmentProperties.getMaxConcurrentRequests(downstream);
+		final int queueCapacity = this.enrichmentProperties.getQueueCapacity();
+		log.info("**EnrichmentExecutor, limit in-flight requests to {} at {}, queued at {}*\n", 
+				downstream, maxConcurrentRequests, queueCapacity);
+		final var admission = new Semaphore(maxConcurrentRequests + queueCapacity);
+		final var bulkhead = new ThreadPoolExecutor(
+				maxConcurrentRequests, 
+				maxConcurrentRequests, 
+				60L, TimeUnit.SECONDS, 
+				new LinkedBlockingQueue<>(), 
+				new CustomizableThreadFactory("enrichment-" + downstream + "-")) {
+			
+			@Override
+			protected void afterExecute(final Runnable task, final Throwable throwable) {
+				admission.release();
+			}
+			
+		};
+		this.admissions.put(downstream, admission);
+		bulkhead.allowCoreThreadTimeOut(true);
+		ExecutorServiceMetrics.monitor(this.meterRegistry, bulkhead, "enrichment", Tags.of("downstream", downstream));
+		Gauge.builder("enrichment.downstream.limit", bulkhead, b -> maxConcurrentRequests)
+				.tag("downstream", downstream)
+				.description("Maximum concurrent in-flight requests per downstream service")
+				.register(this.meterRegistry);
+		Gauge.builder("enrichment.downstream.in.flight", bulkhead, ThreadPoolExecutor::getActiveCount)
+				.tag("downstream", downstream)
+				.description("Current in-flight requests per downstream service")
+				.register(this.meterRegistry);
+		return bulkhead;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,34 @@
+package com.selimhorri.app.config.enrichment;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.enrichment")
+@Data
+public class EnrichmentProperties {
+	
+	private int queueCapacity = 256;
+	private Duration timeout = Duration.ofSeconds(5);
+	private int defaultMaxConcurrentRequests = 16;
+	private Map<String, Integer> maxConcurrentRequests = new HashMap<>();
+	
+	public int getMaxConcurrentRequests(final String downstream) {
+		return this.maxConcurrentRequests.getOrDefault(downstream, this.defaultMaxConcurrentRequests);
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -3,6 +3,7 @@ package com.selimhorri.app.resource;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,11 +12,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoKeysetPageResponse;
+import com.selimhorri.app.helper.NdjsonStreamingHelper;
 import com.selimhorri.app.service.OrderItemService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderItemResource {
 	
 	private final OrderItemService orderItemService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<OrderItemDto>> findAll() {
@@ -35,6 +43,25 @@ public class OrderItemResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderItemService.findAll()));
 	}
 	
+	@GetMapping(params = "limit")
+	public ResponseEntity<DtoKeysetPageResponse<OrderItemDto>> findAll(
+			@RequestParam(value = "after", required = false) final String after, 
+			@RequestParam("limit") final Integer limit) {
+		log.info("*** OrderItemDto List, controller; fetch orderItems page after id *");
+		final int pageLimit = Math.max(1, Math.min(limit, AppConstant.KEYSET_PAGE_MAX_LIMIT));
+		final var orderItemId = (after == null) ? null : parseCursor(after);
+		return ResponseEntity.ok(DtoKeysetPageResponse.of(this.orderItemService.findAllAfter(orderItemId, pageLimit), 
+				pageLimit, o -> o.getOrderId() + "," + o.getProductId()));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** OrderItemDto Stream, controller; stream all orderItems *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(NdjsonStreamingHelper.stream(this.objectMapper, this.orderItemService::streamAll));
+	}
+	
 	@GetMapping("/{orderId}/{productId}")
 	public ResponseEntity<OrderItemDto> findById(
 			@PathVariable("orderId") final String orderId, 
@@ -90,6 +117,14 @@ public class OrderItemResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	private static OrderItemId parseCursor(final String cursor) {
+		final String[] keys = cursor.split(",", 2);
+		final var orderItemId = new OrderItemId();
+		orderItemId.setOrderId(Integer.parseInt(keys[0].strip()));
+		orderItemId.setProductId(Integer.parseInt(keys[1].strip()));
+		return orderItemId;
+	}
+	
 	
 	
 }
@@ -1,18 +1,35 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
@@ -27,41 +44,130 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OrderItemServiceImpl implements OrderItemService {
 	
+	private static final ParameterizedTypeReference<DtoCollectionResponse<OrderDto>> ORDER_COLLECTION_TYPE = 
+			new ParameterizedTypeReference<>() {};
+	
 	private final OrderItemRepository orderItemRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final AsyncLoadingCache<Integer, ProductDto> productCache;
 	
 	@Override
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		return this.enrichAll(this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public List<OrderItemDto> findAllAfter(final OrderItemId orderItemId, final int limit) {
+		log.info("*** OrderItemDto List, service; fetch orderItems page after id *");
+		final var pageable = PageRequest.of(0, limit);
+		final List<OrderItem> orderItems = (orderItemId == null) 
+				? this.orderItemRepository.findAllByOrderByOrderIdAscProductIdAsc(pageable) 
+				: this.orderItemRepository.findAllAfter(orderItemId.getOrderId(), orderItemId.getProductId(), pageable);
+		return this.enrichAll(orderItems.stream()
+				.map(OrderItemMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<OrderItemDto> consumer) {
+		log.info("*** Void, service; stream all orderItems *");
+		final List<OrderItemDto> chunk = new ArrayList<>(AppConstant.STREAM_ENRICHMENT_CHUNK_SIZE);
+		try (final Stream<OrderItem> orderItems = this.orderItemRepository.streamAllByOrderByOrderIdAscProductIdAsc()) {
+			orderItems.forEach(orderItem -> {
+				chunk.add(OrderItemMappingHelper.map(orderItem));
+				this.entityManager.detach(orderItem);
+				if (chunk.size() == AppConstant.STREAM_ENRICHMENT_CHUNK_SIZE) {
+					this.enrichAll(chunk).forEach(consumer);
+					chunk.clear();
+				}
+			});
+		}
+		this.enrichAll(chunk).forEach(consumer);
 	}
 	
 	@Override
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
-				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-					return o;
-				})
+				.map(o -> EnrichmentExecutor.await(this.enrich(o)))
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
+	private List<OrderItemDto> enrichAll(final List<OrderItemDto> orderItemDtos) {
+		final CompletableFuture<Map<Integer, OrderDto>> orderDtos = this.findOrdersByIds(orderItemDtos.stream()
+				.map(orderItemDto -> orderItemDto.getOrderDto().getOrderId())
+				.collect(Collectors.toCollection(TreeSet::new)));
+		EnrichmentExecutor.await(CompletableFuture.allOf(orderItemDtos.stream()
+				.map(orderItemDto -> this.findProduct(orderItemDto).thenAccept(orderItemDto::setProductDto))
+				.toArray(CompletableFuture[]::new)));
+		final Map<Integer, OrderDto> orders = EnrichmentExecutor.await(orderDtos);
+		orderItemDtos.forEach(orderItemDto -> orderItemDto.setOrderDto(orders
+				.getOrDefault(orderItemDto.getOrderDto().getOrderId(), orderItemDto.getOrderDto())));
+		return orderItemDtos;
+	}
+	
+	private CompletableFuture<Map<Integer, OrderDto>> findOrdersByIds(final Collection<Integer> orderIds) {
+		final List<Integer> ids = new ArrayList<>(orderIds);
+		final List<CompletableFuture<Collection<OrderDto>>> chunks = new ArrayList<>();
+		for (int from = 0; from < ids.size(); from += AppConstant.BULK_LOOKUP_CHUNK_SIZE) {
+			final String joinedIds = ids.subList(from, Math.min(from + AppConstant.BULK_LOOKUP_CHUNK_SIZE, ids.size()))
+					.stream()
+						.map(String::valueOf)
+						.collect(Collectors.joining(","));
+			chunks.add(this.enrichmentExecutor
+					.supplyAsync(EnrichmentExecutor.ORDER_SERVICE, () -> this.restTemplate
+							.exchange(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "?ids=" + joinedIds, 
+									HttpMethod.GET, null, ORDER_COLLECTION_TYPE)
+							.getBody()
+							.getCollection())
+					.exceptionally(throwable -> {
+						log.warn("*** OrderItemDto, service; order lookup degraded: {} *", throwable.toString());
+						return List.of();
+					}));
+		}
+		return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+				.thenApply(ignored -> chunks.stream()
+						.flatMap(chunk -> chunk.join().stream())
+						.filter(Objects::nonNull)
+						.collect(Collectors.toMap(OrderDto::getOrderId, Function.identity(), (first, second) -> first)));
+	}
+	
+	private CompletableFuture<ProductDto> findProduct(final OrderItemDto orderItemDto) {
+		return this.productCache
+				.get(orderItemDto.getProductDto().getProductId())
+				.exceptionally(throwable -> {
+					log.warn("*** OrderItemDto, service; product lookup degraded: {} *", throwable.toString());
+					return orderItemDto.getProductDto();
+				});
+	}
+	
+	private CompletableFuture<OrderItemDto> enrich(final OrderItemDto orderItemDto) {
+		
+		final CompletableFuture<ProductDto> productDto = this.findProduct(orderItemDto);
+		final CompletableFuture<OrderDto> orderDto = this.enrichmentExecutor
+				.supplyAsync(EnrichmentExecutor.ORDER_SERVICE, () -> this.restTemplate
+						.getForObject(AppConstant.DiscoveredDomainsApi
+								.ORDER_SERVICE_API_URL + "/" + orderItemDto.getOrderDto().getOrderId(), OrderDto.class))
+				.exceptionally(throwable -> {
+					log.warn("*** OrderItemDto, service; order lookup degraded: {} *", throwable.toString());
+					return orderItemDto.getOrderDto();
+				});
+		
+		return productDto.thenCombine(orderDto, (p, o) -> {
+			orderItemDto.setProductDto(p);
+			orderItemDto.setOrderDto(o);
+			return orderItemDto;
+		});
+	}
+	
 	@Override
 	public OrderItemDto save(final OrderItemDto orderItemDto) {
 		log.info("*** OrderItemDto, service; save orderItem *");
@@ -0,0 +1,139 @@
+package com.selimhorri.app.unit.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.selimhorri.app.config.cache.ProductCacheConfig;
+import com.selimhorri.app.config.cache.ProductCacheProperties;
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
+import com.selimhorri.app.config.enrichment.EnrichmentProperties;
+import com.selimhorri.app.dto.ProductDto;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductCacheConfigTest {
+
+    private static final long PRODUCT_LATENCY_MILLIS = 20;
+
+    private EnrichmentExecutor enrichmentExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private StubProductServiceRestTemplate stubRestTemplate;
+    private ProductCacheProperties productCacheProperties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stubRestTemplate = new StubProductServiceRestTemplate();
+        productCacheProperties = new ProductCacheProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (enrichmentExecutor != null)
+            enrichmentExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should call product-service once per hot product")
+    void testRepeatedLookupsHitCache() {
+        // Arrange
+        final var productCache = newProductCache();
+
+        // Act
+        final List<ProductDto> productDtos = IntStream.range(0, 1_000)
+            .mapToObj(i -> productCache.get(i % 10 + 1))
+            .collect(Collectors.toList())
+            .stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        // Assert
+        assertThat(productDtos).hasSize(1_000)
+            .allSatisfy(p -> assertThat(p.getProductTitle()).isEqualTo("product-" + p.getProductId()));
+        assertThat(stubRestTemplate.calls.get()).isEqualTo(10);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ProductCacheConfig.PRODUCT_CACHE_NAME)
+            .tag("result", "miss").functionCounter().count()).isEqualTo(10.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ProductCacheConfig.PRODUCT_CACHE_NAME)
+            .tag("result", "hit").functionCounter().count()).isEqualTo(990.0);
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent lookups of the same product")
+    void testConcurrentLookupsAreDeduplicated() {
+        // Arrange
+        final var productCache = newProductCache();
+        final var callerExecutorService = Executors.newFixedThreadPool(32);
+
+        // Act
+        try {
+            final List<CompletableFuture<ProductDto>> futures = IntStream.range(0, 32)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> productCache.get(1).join(), callerExecutorService))
+                .collect(Collectors.toList());
+            futures.forEach(CompletableFuture::join);
+        }
+        finally {
+            callerExecutorService.shutdownNow();
+        }
+
+        // Assert
+        assertThat(stubRestTemplate.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict beyond the configured maximum size")
+    void testEvictionIsBoundedAndRecorded() {
+        // Arrange
+        productCacheProperties.setMaximumSize(10);
+        final var productCache = newProductCache();
+
+        // Act
+        IntStream.rangeClosed(1, 100).forEach(i -> productCache.get(i).join());
+        productCache.synchronous().cleanUp();
+
+        // Assert
+        assertThat(productCache.synchronous().estimatedSize()).isLessThanOrEqualTo(10);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", ProductCacheConfig.PRODUCT_CACHE_NAME)
+            .functionCounter().count()).isGreaterThanOrEqualTo(90.0);
+    }
+
+    private AsyncLoadingCache<Integer, ProductDto> newProductCache() {
+        enrichmentExecutor = new EnrichmentExecutor(new EnrichmentProperties(), meterRegistry,
+            CircuitBreakerRegistry.ofDefaults());
+        return new ProductCacheConfig().productCache(productCacheProperties, stubRestTemplate,
+            enrichmentExecutor, meterRegistry);
+    }
+
+    private static final class StubProductServiceRestTemplate extends RestTemplate {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getForObject(final String url, final Class<T> responseType, final Object... uriVariables) {
+            this.calls.incrementAndGet();
+            try {
+                Thread.sleep(PRODUCT_LATENCY_MILLIS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final var productId = Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+            return (T) ProductDto.builder().productId(productId).productTitle("product-" + productId).build();
+        }
+
+    }
+}
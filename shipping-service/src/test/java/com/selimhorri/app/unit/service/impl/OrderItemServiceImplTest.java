@@ -0,0 +1,251 @@
+package com.selimhorri.app.unit.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.cache.ProductCacheConfig;
+import com.selimhorri.app.config.cache.ProductCacheProperties;
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
+import com.selimhorri.app.config.enrichment.EnrichmentProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.OrderItemRepository;
+import com.selimhorri.app.service.impl.OrderItemServiceImpl;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OrderItemServiceImplTest {
+
+    private static final long PRODUCT_LATENCY_MILLIS = 200;
+    private static final long ORDER_LATENCY_MILLIS = 300;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private EnrichmentExecutor enrichmentExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private EnrichmentProperties enrichmentProperties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        enrichmentProperties = new EnrichmentProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (enrichmentExecutor != null)
+            enrichmentExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fetch product and order of an item concurrently")
+    void testFindByIdTracksSlowestDependency() {
+        // Arrange
+        final var orderItemId = new OrderItemId(1, 10);
+        when(orderItemRepository.findById(orderItemId))
+            .thenReturn(Optional.of(OrderItem.builder().productId(1).orderId(10).orderedQuantity(2).build()));
+        stubProducts(PRODUCT_LATENCY_MILLIS, new AtomicInteger(), new AtomicInteger());
+        stubOrder();
+        final var orderItemService = newOrderItemService();
+
+        // Act
+        final long start = System.nanoTime();
+        final OrderItemDto result = orderItemService.findById(orderItemId);
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertThat(result.getProductDto().getProductTitle()).isEqualTo("product-1");
+        assertThat(result.getOrderDto().getOrderDesc()).isEqualTo("order-10");
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(ORDER_LATENCY_MILLIS)
+            .isLessThan(PRODUCT_LATENCY_MILLIS + ORDER_LATENCY_MILLIS);
+    }
+
+    @Test
+    @DisplayName("Should cap in-flight requests per downstream service")
+    void testFindAllRespectsConcurrencyLimit() {
+        // Arrange
+        enrichmentProperties.setMaxConcurrentRequests(Map.of(EnrichmentExecutor.PRODUCT_SERVICE, 2));
+        when(orderItemRepository.findAll()).thenReturn(IntStream.rangeClosed(1, 8)
+            .mapToObj(i -> OrderItem.builder().productId(i).orderId(100 + i).orderedQuantity(1).build())
+            .collect(Collectors.toList()));
+        final var productInFlight = new AtomicInteger();
+        final var productMaxInFlight = new AtomicInteger();
+        stubProducts(PRODUCT_LATENCY_MILLIS, productInFlight, productMaxInFlight);
+        stubOrders(ORDER_LATENCY_MILLIS, new AtomicInteger());
+        final var orderItemService = newOrderItemService();
+
+        // Act
+        final List<OrderItemDto> result = orderItemService.findAll();
+
+        // Assert
+        assertThat(result).hasSize(8)
+            .allSatisfy(o -> assertThat(o.getProductDto().getProductTitle()).isEqualTo("product-" + o.getProductId()));
+        assertThat(productMaxInFlight.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("enrichment.downstream.limit")
+            .tag("downstream", EnrichmentExecutor.PRODUCT_SERVICE).gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("enrichment.downstream.in.flight")
+            .tag("downstream", EnrichmentExecutor.PRODUCT_SERVICE).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should queue lookups to a saturated downstream instead of dropping them")
+    void testSaturatedDownstreamQueuesCallers() {
+        // Arrange
+        enrichmentProperties.setMaxConcurrentRequests(Map.of(EnrichmentExecutor.PRODUCT_SERVICE, 1));
+        enrichmentProperties.setQueueCapacity(1);
+        when(orderItemRepository.findAll()).thenReturn(IntStream.rangeClosed(1, 8)
+            .mapToObj(i -> OrderItem.builder().productId(i).orderId(100 + i).orderedQuantity(1).build())
+            .collect(Collectors.toList()));
+        final var productInFlight = new AtomicInteger();
+        final var productMaxInFlight = new AtomicInteger();
+        stubProducts(50, productInFlight, productMaxInFlight);
+        stubOrders(ORDER_LATENCY_MILLIS, new AtomicInteger());
+        final var orderItemService = newOrderItemService();
+
+        // Act
+        final List<OrderItemDto> result = orderItemService.findAll();
+
+        // Assert
+        assertThat(result).hasSize(8)
+            .allSatisfy(o -> assertThat(o.getOrderDto().getOrderDesc()).isEqualTo("order-" + o.getOrderId()))
+            .allSatisfy(o -> assertThat(o.getProductDto().getProductTitle()).isEqualTo("product-" + o.getProductId()));
+        assertThat(productMaxInFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should enrich more items than the queue holds with one order lookup per chunk of distinct ids")
+    void testFindAllBeyondQueueCapacity() {
+        // Arrange
+        final int items = 2 * enrichmentProperties.getQueueCapacity() + 100;
+        when(orderItemRepository.findAll()).thenReturn(IntStream.range(0, items)
+            .mapToObj(i -> OrderItem.builder().productId(i % 400 + 1).orderId(i % 600 + 1).orderedQuantity(1).build())
+            .collect(Collectors.toList()));
+        stubProducts(1, new AtomicInteger(), new AtomicInteger());
+        final var orderLookups = new AtomicInteger();
+        stubOrders(1, orderLookups);
+        final var orderItemService = newOrderItemService();
+
+        // Act
+        final List<OrderItemDto> result = orderItemService.findAll();
+
+        // Assert
+        assertThat(result).hasSize(items)
+            .allSatisfy(o -> assertThat(o.getProductDto().getProductTitle()).isEqualTo("product-" + o.getProductId()))
+            .allSatisfy(o -> assertThat(o.getOrderDto().getOrderDesc()).isEqualTo("order-" + o.getOrderId()));
+        assertThat(orderLookups.get()).isEqualTo(2);
+        verify(restTemplate, never()).getForObject(startsWith(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/"),
+            eq(OrderDto.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to id-only orders when a bulk order lookup fails")
+    void testFindAllDegradesWhenOrderLookupFails() {
+        // Arrange
+        when(orderItemRepository.findAll()).thenReturn(List.of(
+            OrderItem.builder().productId(1).orderId(10).orderedQuantity(1).build()));
+        stubProducts(1, new AtomicInteger(), new AtomicInteger());
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+            .thenThrow(new IllegalStateException("order-service down"));
+        final var orderItemService = newOrderItemService();
+
+        // Act
+        final List<OrderItemDto> result = orderItemService.findAll();
+
+        // Assert
+        assertThat(result).singleElement().satisfies(o -> {
+            assertThat(o.getOrderDto().getOrderId()).isEqualTo(10);
+            assertThat(o.getOrderDto().getOrderDesc()).isNull();
+            assertThat(o.getProductDto().getProductTitle()).isEqualTo("product-1");
+        });
+    }
+
+    private OrderItemServiceImpl newOrderItemService() {
+        enrichmentExecutor = new EnrichmentExecutor(enrichmentProperties, meterRegistry,
+            CircuitBreakerRegistry.ofDefaults());
+        return new OrderItemServiceImpl(orderItemRepository, entityManager, restTemplate, enrichmentExecutor,
+            new ProductCacheConfig().productCache(new ProductCacheProperties(), restTemplate, enrichmentExecutor, meterRegistry));
+    }
+
+    private void stubProducts(final long latencyMillis, final AtomicInteger productInFlight,
+            final AtomicInteger productMaxInFlight) {
+        when(restTemplate.getForObject(startsWith(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/"), eq(ProductDto.class)))
+            .thenAnswer(invocation -> {
+                productMaxInFlight.accumulateAndGet(productInFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(latencyMillis);
+                    final String url = invocation.getArgument(0);
+                    final var productId = Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+                    return ProductDto.builder().productId(productId).productTitle("product-" + productId).build();
+                }
+                finally {
+                    productInFlight.decrementAndGet();
+                }
+            });
+    }
+
+    private void stubOrder() {
+        when(restTemplate.getForObject(startsWith(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/"), eq(OrderDto.class)))
+            .thenAnswer(invocation -> {
+                Thread.sleep(ORDER_LATENCY_MILLIS);
+                final String url = invocation.getArgument(0);
+                final var orderId = Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+                return OrderDto.builder().orderId(orderId).orderDesc("order-" + orderId).build();
+            });
+    }
+
+    private void stubOrders(final long latencyMillis, final AtomicInteger orderLookups) {
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+            .thenAnswer(invocation -> {
+                orderLookups.incrementAndGet();
+                Thread.sleep(latencyMillis);
+                final String url = invocation.getArgument(0);
+                return ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.stream(url.substring(url.indexOf("?ids=") + 5).split(","))
+                    .map(Integer::parseInt)
+                    .map(orderId -> OrderDto.builder().orderId(orderId).orderDesc("order-" + orderId).build())
+                    .collect(Collectors.toList())));
+            });
+    }
+}
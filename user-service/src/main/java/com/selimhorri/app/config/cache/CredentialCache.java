@@ -0,0 +1,95 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.dto.CredentialDto;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CredentialCache {
+	
+	public static final String CREDENTIAL_CACHE_NAME = "credentials";
+	
+	private final CredentialCacheProperties credentialCacheProperties;
+	private final Cache<String, CredentialDto> cache;
+	private final ConcurrentMap<Integer, String> usernamesByCredentialId = new ConcurrentHashMap<>();
+	private final Timer hitLatency;
+	private final Timer missLatency;
+	
+	public CredentialCache(final CredentialCacheProperties credentialCacheProperties, 
+			final MeterRegistry meterRegistry) {
+		this.credentialCacheProperties = credentialCacheProperties;
+		this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumSize(credentialCacheProperties.getMaximumSize())
+				.expireAfterWrite(credentialCacheProperties.getExpireAfterWrite())
+				.recordStats()
+				.<String, CredentialDto>removalListener((username, credentialDto, cause) -> {
+					if (cause.wasEvicted() && credentialDto != null)
+						this.usernamesByCredentialId.remove(credentialDto.getCredentialId(), username);
+				})
+				.build(), CREDENTIAL_CACHE_NAME);
+		this.hitLatency = Timer.builder("credential.lookup")
+				.tag("result", "hit")
+				.register(meterRegistry);
+		this.missLatency = Timer.builder("credential.lookup")
+				.tag("result", "miss")
+				.register(meterRegistry);
+		Gauge.builder("credential.cache.hit.ratio", this.cache, c -> c.stats().hitRate())
+				.register(meterRegistry);
+	}
+	
+	public CredentialDto get(final String username, final Function<String, CredentialDto> loader) {
+		if (!this.credentialCacheProperties.isEnabled())
+			return this.missLatency.record(() -> loader.apply(username));
+		final long start = System.nanoTime();
+		final boolean[] loaded = new boolean[1];
+		final CredentialDto credentialDto = this.cache.get(username, u -> {
+			loaded[0] = true;
+			final CredentialDto loadedDto = loader.apply(u);
+			if (loadedDto != null && loadedDto.getCredentialId() != null)
+				this.usernamesByCredentialId.put(loadedDto.getCredentialId(), u);
+			return loadedDto;
+		});
+		(loaded[0] ? this.missLatency : this.hitLatency).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return credentialDto;
+	}
+	
+	public void evict(final Integer credentialId) {
+		final String username = this.usernamesByCredentialId.remove(credentialId);
+		if (username != null)
+			this.cache.invalidate(username);
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCredentialChanged(final CredentialChangedEvent event) {
+		log.info("**CredentialCache, evict credential {}*\n", event.getCredentialId());
+		this.evict(event.getCredentialId());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.cache.credential")
+@Data
+public class CredentialCacheProperties {
+	
+	private boolean enabled = true;
+	private long maximumSize = 10_000;
+	private Duration expireAfterWrite = Duration.ofMinutes(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
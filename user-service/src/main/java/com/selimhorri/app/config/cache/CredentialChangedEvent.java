@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.cache;
+
+import lombok.Value;
+
+@Value
+public class CredentialChangedEvent {
+	
+	Integer credentialId;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,30 @@
+package com.selimhorri.app.config.scheduling;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.verification-token.sweep")
+@Data
+public class VerificationTokenSweepProperties {
+	
+	private boolean enabled = true;
+	private Duration interval = Duration.ofMinutes(10);
+	private int batchSize = 500;
+	private int maxBatchesPerRun = 200;
+	private Duration pause = Duration.ofMillis(100);
+	private Duration lockAtMostFor = Duration.ofMinutes(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
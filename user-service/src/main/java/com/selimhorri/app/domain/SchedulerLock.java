@@ -0,0 +1,49 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "scheduler_locks")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public final class SchedulerLock implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@Column(name = "lock_name", unique = true, nullable = false, updatable = false)
+	private String lockName;
+	
+	@Column(name = "locked_until", nullable = false)
+	private LocalDateTime lockedUntil;
+	
+	@Column(name = "locked_at", nullable = false)
+	private LocalDateTime lockedAt;
+	
+	@Column(name = "locked_by", nullable = false)
+	private String lockedBy;
+	
+}
+
+
+
+
+
+
+
+
+
+
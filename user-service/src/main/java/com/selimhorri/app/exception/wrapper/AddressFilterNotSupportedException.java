@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class AddressFilterNotSupportedException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public AddressFilterNotSupportedException() {
+		super();
+	}
+	
+	public AddressFilterNotSupportedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public AddressFilterNotSupportedException(String message) {
+		super(message);
+	}
+	
+	public AddressFilterNotSupportedException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class UserBatchSizeExceededException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public UserBatchSizeExceededException() {
+		super();
+	}
+	
+	public UserBatchSizeExceededException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public UserBatchSizeExceededException(String message) {
+		super(message);
+	}
+	
+	public UserBatchSizeExceededException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,49 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Address;
 
 public interface AddressRepository extends JpaRepository<Address, Integer> {
 	
+	List<Address> findByAddressIdGreaterThanOrderByAddressIdAsc(final Integer addressId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	List<Address> findByUserUserIdAndAddressIdGreaterThanOrderByAddressIdAsc(final Integer userId, 
+			final Integer addressId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	List<Address> findByUserUserIdAndPostalCodeAndAddressIdGreaterThanOrderByAddressIdAsc(final Integer userId, 
+			final String postalCode, final Integer addressId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	List<Address> findByUserUserIdAndCityAndAddressIdGreaterThanOrderByAddressIdAsc(final Integer userId, 
+			final String city, final Integer addressId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	List<Address> findByUserUserIdAndPostalCodeAndCityAndAddressIdGreaterThanOrderByAddressIdAsc(final Integer userId, 
+			final String postalCode, final String city, final Integer addressId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	List<Address> findByPostalCodeAndAddressIdGreaterThanOrderByAddressIdAsc(final String postalCode, 
+			final Integer addressId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	List<Address> findByPostalCodeAndCityAndAddressIdGreaterThanOrderByAddressIdAsc(final String postalCode, 
+			final String city, final Integer addressId, final Pageable pageable);
 	
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.STREAM_FETCH_SIZE))
+	Stream<Address> streamAllByOrderByAddressIdAsc();
 	
 }
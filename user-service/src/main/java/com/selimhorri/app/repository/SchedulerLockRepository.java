@@ -0,0 +1,33 @@
+package com.selimhorri.app.repository;
+
+import java.time.LocalDateTime;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.selimhorri.app.domain.SchedulerLock;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+	
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :lockedBy "
+			+ "WHERE l.lockName = :lockName AND l.lockedUntil <= :now")
+	int acquire(@Param("lockName") final String lockName, 
+			@Param("lockedBy") final String lockedBy, 
+			@Param("now") final LocalDateTime now, 
+			@Param("lockedUntil") final LocalDateTime lockedUntil);
+	
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE SchedulerLock l SET l.lockedUntil = :now "
+			+ "WHERE l.lockName = :lockName AND l.lockedBy = :lockedBy")
+	int release(@Param("lockName") final String lockName, 
+			@Param("lockedBy") final String lockedBy, 
+			@Param("now") final LocalDateTime now);
+	
+}
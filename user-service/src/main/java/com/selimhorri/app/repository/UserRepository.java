@@ -1,13 +1,50 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "credential")
+	List<User> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "credential")
+	List<User> findAllById(final Iterable<Integer> userIds);
+	
+	@Override
+	@EntityGraph(attributePaths = "credential")
+	Optional<User> findById(final Integer userId);
+	
+	@EntityGraph(attributePaths = {"credential", "addresses"})
+	@QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+	@Query("SELECT DISTINCT u FROM User u ORDER BY u.userId ASC")
+	List<User> findAllWithCredentialAndAddresses();
+	
+	@EntityGraph(attributePaths = "credential")
 	Optional<User> findByCredentialUsername(final String username);
 	
+	@EntityGraph(attributePaths = "credential")
+	List<User> findByUserIdGreaterThanOrderByUserIdAsc(final Integer userId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "credential")
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.STREAM_FETCH_SIZE))
+	Stream<User> streamAllByOrderByUserIdAsc();
+	
 }
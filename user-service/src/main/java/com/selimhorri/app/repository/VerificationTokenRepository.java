@@ -1,11 +1,34 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.VerificationToken;
 
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Integer> {
 	
+	List<VerificationToken> findByVerificationTokenIdGreaterThanOrderByVerificationTokenIdAsc(final Integer verificationTokenId, final Pageable pageable);
+	
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.STREAM_FETCH_SIZE))
+	Stream<VerificationToken> streamAllByOrderByVerificationTokenIdAsc();
 	
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "DELETE FROM verification_tokens WHERE expire_date < :expireDate LIMIT :limit", nativeQuery = true)
+	int deleteExpiredBefore(@Param("expireDate") final LocalDate expireDate, @Param("limit") final int limit);
 	
 }
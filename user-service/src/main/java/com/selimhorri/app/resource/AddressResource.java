@@ -4,6 +4,7 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +13,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.AddressDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoKeysetPageResponse;
+import com.selimhorri.app.helper.NdjsonStreamingHelper;
 import com.selimhorri.app.service.AddressService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AddressResource {
 	
 	private final AddressService addressService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<AddressDto>> findAll() {
@@ -35,6 +43,62 @@ public class AddressResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.addressService.findAll()));
 	}
 	
+	@GetMapping(params = {"limit", "!userId", "!postalCode", "!city"})
+	public ResponseEntity<DtoKeysetPageResponse<AddressDto>> findAll(
+			@RequestParam(value = "after", defaultValue = "0") final Integer addressId, 
+			@RequestParam("limit") final Integer limit) {
+		log.info("*** AddressDto List, controller; fetch addresses page after id *");
+		final int pageLimit = Math.max(1, Math.min(limit, AppConstant.KEYSET_PAGE_MAX_LIMIT));
+		return ResponseEntity.ok(DtoKeysetPageResponse.of(this.addressService.findAllAfter(addressId, pageLimit), 
+				pageLimit, addressDto -> String.valueOf(addressDto.getAddressId())));
+	}
+	
+	@GetMapping(params = "userId")
+	public ResponseEntity<DtoKeysetPageResponse<AddressDto>> findAllByUserId(
+			@RequestParam("userId") final Integer userId, 
+			@RequestParam(value = "postalCode", required = false) final String postalCode, 
+			@RequestParam(value = "city", required = false) final String city, 
+			@RequestParam(value = "after", defaultValue = "0") final Integer addressId, 
+			@RequestParam(value = "limit", defaultValue = "" + AppConstant.KEYSET_PAGE_DEFAULT_LIMIT) final Integer limit) {
+		log.info("*** AddressDto List, controller; fetch addresses page by userId after id *");
+		return this.findAllMatching(userId, postalCode, city, addressId, limit);
+	}
+	
+	@GetMapping(params = {"postalCode", "!userId"})
+	public ResponseEntity<DtoKeysetPageResponse<AddressDto>> findAllByPostalCode(
+			@RequestParam("postalCode") final String postalCode, 
+			@RequestParam(value = "city", required = false) final String city, 
+			@RequestParam(value = "after", defaultValue = "0") final Integer addressId, 
+			@RequestParam(value = "limit", defaultValue = "" + AppConstant.KEYSET_PAGE_DEFAULT_LIMIT) final Integer limit) {
+		log.info("*** AddressDto List, controller; fetch addresses page by postalCode after id *");
+		return this.findAllMatching(null, postalCode, city, addressId, limit);
+	}
+	
+	@GetMapping(params = {"city", "!userId", "!postalCode"})
+	public ResponseEntity<DtoKeysetPageResponse<AddressDto>> findAllByCity(
+			@RequestParam("city") final String city, 
+			@RequestParam(value = "after", defaultValue = "0") final Integer addressId, 
+			@RequestParam(value = "limit", defaultValue = "" + AppConstant.KEYSET_PAGE_DEFAULT_LIMIT) final Integer limit) {
+		log.info("*** AddressDto List, controller; fetch addresses page by city after id *");
+		return this.findAllMatching(null, null, city, addressId, limit);
+	}
+	
+	private ResponseEntity<DtoKeysetPageResponse<AddressDto>> findAllMatching(final Integer userId, 
+			final String postalCode, final String city, final Integer addressId, final Integer limit) {
+		final int pageLimit = Math.max(1, Math.min(limit, AppConstant.KEYSET_PAGE_MAX_LIMIT));
+		return ResponseEntity.ok(DtoKeysetPageResponse.of(
+				this.addressService.findAllMatchingAfter(userId, postalCode, city, addressId, pageLimit), 
+				pageLimit, addressDto -> String.valueOf(addressDto.getAddressId())));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** AddressDto Stream, controller; stream all addresses *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(NdjsonStreamingHelper.stream(this.objectMapper, this.addressService::streamAll));
+	}
+	
 	@GetMapping("/{addressId}")
 	public ResponseEntity<AddressDto> findById(
 			@PathVariable("addressId") 
@@ -0,0 +1,41 @@
+package com.selimhorri.app.scheduling;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.repository.SchedulerLockRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockGuard {
+	
+	private final String instanceId = ManagementFactory.getRuntimeMXBean().getName();
+	private final SchedulerLockRepository schedulerLockRepository;
+	
+	public boolean tryAcquire(final String lockName, final Duration lockAtMostFor) {
+		final LocalDateTime now = LocalDateTime.now();
+		return this.schedulerLockRepository.acquire(lockName, this.instanceId, now, now.plus(lockAtMostFor)) == 1;
+	}
+	
+	public void release(final String lockName) {
+		this.schedulerLockRepository.release(lockName, this.instanceId, LocalDateTime.now());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
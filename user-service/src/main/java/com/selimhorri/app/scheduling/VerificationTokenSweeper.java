@@ -0,0 +1,102 @@
+package com.selimhorri.app.scheduling;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.scheduling.VerificationTokenSweepProperties;
+import com.selimhorri.app.repository.VerificationTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class VerificationTokenSweeper {
+	
+	public static final String LOCK_NAME = "verification-token-sweep";
+	
+	private final VerificationTokenRepository verificationTokenRepository;
+	private final SchedulerLockGuard schedulerLockGuard;
+	private final VerificationTokenSweepProperties verificationTokenSweepProperties;
+	private final DistributionSummary purgedPerRun;
+	private final Timer sweepDuration;
+	private final Counter skippedRuns;
+	
+	public VerificationTokenSweeper(final VerificationTokenRepository verificationTokenRepository, 
+			final SchedulerLockGuard schedulerLockGuard, 
+			final VerificationTokenSweepProperties verificationTokenSweepProperties, 
+			final MeterRegistry meterRegistry) {
+		this.verificationTokenRepository = verificationTokenRepository;
+		this.schedulerLockGuard = schedulerLockGuard;
+		this.verificationTokenSweepProperties = verificationTokenSweepProperties;
+		this.purgedPerRun = DistributionSummary.builder("verification.token.sweep.purged")
+				.baseUnit("rows")
+				.register(meterRegistry);
+		this.sweepDuration = Timer.builder("verification.token.sweep.duration")
+				.register(meterRegistry);
+		this.skippedRuns = Counter.builder("verification.token.sweep.skipped")
+				.register(meterRegistry);
+	}
+	
+	@Scheduled(fixedDelayString = "${app.verification-token.sweep.interval:PT10M}")
+	public int sweep() {
+		if (!this.verificationTokenSweepProperties.isEnabled())
+			return 0;
+		if (!this.schedulerLockGuard.tryAcquire(LOCK_NAME, this.verificationTokenSweepProperties.getLockAtMostFor())) {
+			this.skippedRuns.increment();
+			return 0;
+		}
+		try {
+			final int purged = this.sweepDuration.record(() -> this.purgeExpired(LocalDate.now()));
+			this.purgedPerRun.record(purged);
+			if (purged > 0)
+				log.info("**VerificationTokenSweeper, purged {} expired verification tokens*\n", purged);
+			return purged;
+		}
+		finally {
+			this.schedulerLockGuard.release(LOCK_NAME);
+		}
+	}
+	
+	private int purgeExpired(final LocalDate today) {
+		final int batchSize = this.verificationTokenSweepProperties.getBatchSize();
+		int purged = 0;
+		for (int batch = 0; batch < this.verificationTokenSweepProperties.getMaxBatchesPerRun(); batch++) {
+			final int deleted = this.verificationTokenRepository.deleteExpiredBefore(today, batchSize);
+			purged += deleted;
+			if (deleted < batchSize || !this.pause())
+				break;
+		}
+		return purged;
+	}
+	
+	private boolean pause() {
+		try {
+			TimeUnit.MILLISECONDS.sleep(this.verificationTokenSweepProperties.getPause().toMillis());
+			return true;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,17 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.AddressDto;
 
 public interface AddressService {
 	
 	List<AddressDto> findAll();
+	List<AddressDto> findAllAfter(final Integer addressId, final int limit);
+	List<AddressDto> findAllMatchingAfter(final Integer userId, final String postalCode, final String city, 
+			final Integer addressId, final int limit);
+	void streamAll(final Consumer<AddressDto> consumer);
 	AddressDto findById(final Integer addressId);
 	AddressDto save(final AddressDto addressDto);
 	AddressDto update(final AddressDto addressDto);
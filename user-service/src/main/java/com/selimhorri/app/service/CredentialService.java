@@ -1,12 +1,15 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.CredentialDto;
 
 public interface CredentialService {
 	
 	List<CredentialDto> findAll();
+	List<CredentialDto> findAllAfter(final Integer credentialId, final int limit);
+	void streamAll(final Consumer<CredentialDto> consumer);
 	CredentialDto findById(final Integer credentialId);
 	CredentialDto save(final CredentialDto credentialDto);
 	CredentialDto update(final CredentialDto credentialDto);
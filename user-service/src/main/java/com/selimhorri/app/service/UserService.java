@@ -1,12 +1,19 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.UserDto;
 
 public interface UserService {
 	
 	List<UserDto> findAll();
+	List<UserDto> findAllAfter(final Integer userId, final int limit);
+	void streamAll(final Consumer<UserDto> consumer);
+	List<UserDto> findAllByIds(final Collection<Integer> userIds);
+	Map<Integer, UserDto> findAllByIdsAsMap(final Collection<Integer> userIds);
 	UserDto findById(final Integer userId);
 	UserDto save(final UserDto userDto);
 	UserDto update(final UserDto userDto);
@@ -1,12 +1,15 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.VerificationTokenDto;
 
 public interface VerificationTokenService {
 	
 	List<VerificationTokenDto> findAll();
+	List<VerificationTokenDto> findAllAfter(final Integer verificationTokenId, final int limit);
+	void streamAll(final Consumer<VerificationTokenDto> consumer);
 	VerificationTokenDto findById(final Integer verificationTokenId);
 	VerificationTokenDto save(final VerificationTokenDto verificationTokenDto);
 	VerificationTokenDto update(final VerificationTokenDto verificationTokenDto);
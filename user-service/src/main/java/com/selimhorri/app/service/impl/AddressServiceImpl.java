@@ -1,13 +1,19 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.Address;
 import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.exception.wrapper.AddressFilterNotSupportedException;
 import com.selimhorri.app.exception.wrapper.AddressNotFoundException;
 import com.selimhorri.app.helper.AddressMappingHelper;
 import com.selimhorri.app.repository.AddressRepository;
@@ -23,6 +29,11 @@ import lombok.extern.slf4j.Slf4j;
 public class AddressServiceImpl implements AddressService {
 	
 	private final AddressRepository addressRepository;
+	private final EntityManager entityManager;
+	
+	private static String stripToNull(final String value) {
+		return value == null || value.isBlank() ? null : value.strip();
+	}
 	
 	@Override
 	public List<AddressDto> findAll() {
@@ -34,6 +45,59 @@ public class AddressServiceImpl implements AddressService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<AddressDto> findAllAfter(final Integer addressId, final int limit) {
+		log.info("*** AddressDto List, service; fetch addresses page after id *");
+		return this.addressRepository.findByAddressIdGreaterThanOrderByAddressIdAsc(addressId, PageRequest.of(0, limit))
+				.stream()
+					.map(AddressMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public List<AddressDto> findAllMatchingAfter(final Integer userId, final String postalCode, final String city, 
+			final Integer addressId, final int limit) {
+		log.info("*** AddressDto List, service; fetch addresses page by userId, postalCode and city after id *");
+		final String postal = stripToNull(postalCode);
+		final String town = stripToNull(city);
+		final PageRequest pageRequest = PageRequest.of(0, limit);
+		final List<Address> addresses;
+		if (userId != null && postal != null && town != null)
+			addresses = this.addressRepository.findByUserUserIdAndPostalCodeAndCityAndAddressIdGreaterThanOrderByAddressIdAsc(
+					userId, postal, town, addressId, pageRequest);
+		else if (userId != null && postal != null)
+			addresses = this.addressRepository.findByUserUserIdAndPostalCodeAndAddressIdGreaterThanOrderByAddressIdAsc(
+					userId, postal, addressId, pageRequest);
+		else if (userId != null && town != null)
+			addresses = this.addressRepository.findByUserUserIdAndCityAndAddressIdGreaterThanOrderByAddressIdAsc(
+					userId, town, addressId, pageRequest);
+		else if (userId != null)
+			addresses = this.addressRepository.findByUserUserIdAndAddressIdGreaterThanOrderByAddressIdAsc(
+					userId, addressId, pageRequest);
+		else if (postal != null && town != null)
+			addresses = this.addressRepository.findByPostalCodeAndCityAndAddressIdGreaterThanOrderByAddressIdAsc(
+					postal, town, addressId, pageRequest);
+		else if (postal != null)
+			addresses = this.addressRepository.findByPostalCodeAndAddressIdGreaterThanOrderByAddressIdAsc(
+					postal, addressId, pageRequest);
+		else
+			throw new AddressFilterNotSupportedException("Filtering addresses requires a userId or a postalCode");
+		return addresses.stream()
+					.map(AddressMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public void streamAll(final Consumer<AddressDto> consumer) {
+		log.info("*** Void, service; stream all addresses *");
+		try (final Stream<Address> addresses = this.addressRepository.streamAllByOrderByAddressIdAsc()) {
+			addresses.forEach(address -> {
+				consumer.accept(AddressMappingHelper.map(address));
+				this.entityManager.detach(address);
+			});
+		}
+	}
+	
 	@Override
 	public AddressDto findById(final Integer addressId) {
 		log.info("*** AddressDto, service; fetch address by id *");
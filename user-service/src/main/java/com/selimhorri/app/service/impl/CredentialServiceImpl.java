@@ -1,12 +1,20 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.config.cache.CredentialCache;
+import com.selimhorri.app.config.cache.CredentialChangedEvent;
+import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
@@ -24,6 +32,9 @@ import lombok.extern.slf4j.Slf4j;
 public class CredentialServiceImpl implements CredentialService {
 	
 	private final CredentialRepository credentialRepository;
+	private final EntityManager entityManager;
+	private final CredentialCache credentialCache;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
 	public List<CredentialDto> findAll() {
@@ -35,6 +46,26 @@ public class CredentialServiceImpl implements CredentialService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<CredentialDto> findAllAfter(final Integer credentialId, final int limit) {
+		log.info("*** CredentialDto List, service; fetch credentials page after id *");
+		return this.credentialRepository.findByCredentialIdGreaterThanOrderByCredentialIdAsc(credentialId, PageRequest.of(0, limit))
+				.stream()
+					.map(CredentialMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public void streamAll(final Consumer<CredentialDto> consumer) {
+		log.info("*** Void, service; stream all credentials *");
+		try (final Stream<Credential> credentials = this.credentialRepository.streamAllByOrderByCredentialIdAsc()) {
+			credentials.forEach(credential -> {
+				consumer.accept(CredentialMappingHelper.map(credential));
+				this.entityManager.detach(credential);
+			});
+		}
+	}
+	
 	@Override
 	public CredentialDto findById(final Integer credentialId) {
 		log.info("*** CredentialDto, service; fetch credential by ids *");
@@ -52,12 +83,14 @@ public class CredentialServiceImpl implements CredentialService {
 	@Override
 	public CredentialDto update(final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential *");
+		this.applicationEventPublisher.publishEvent(new CredentialChangedEvent(credentialDto.getCredentialId()));
 		return CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
 	}
 	
 	@Override
 	public CredentialDto update(final Integer credentialId, final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential with credentialId *");
+		this.applicationEventPublisher.publishEvent(new CredentialChangedEvent(credentialId));
 		return CredentialMappingHelper.map(this.credentialRepository.save(
 				CredentialMappingHelper.map(this.findById(credentialId))));
 	}
@@ -66,12 +99,13 @@ public class CredentialServiceImpl implements CredentialService {
 	public void deleteById(final Integer credentialId) {
 		log.info("*** Void, service; delete credential by id *");
 		this.credentialRepository.deleteById(credentialId);
+		this.applicationEventPublisher.publishEvent(new CredentialChangedEvent(credentialId));
 	}
 	
 	@Override
 	public CredentialDto findByUsername(final String username) {
-		return CredentialMappingHelper.map(this.credentialRepository.findByUsername(username)
-				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
+		return this.credentialCache.get(username, u -> CredentialMappingHelper.map(this.credentialRepository.findByUsername(u)
+				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", u)))));
 	}
 	
 	
@@ -1,13 +1,28 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.config.cache.CredentialChangedEvent;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.exception.wrapper.UserBatchSizeExceededException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.UserMappingHelper;
 import com.selimhorri.app.repository.UserRepository;
@@ -23,6 +38,8 @@ import lombok.extern.slf4j.Slf4j;
 public class UserServiceImpl implements UserService {
 	
 	private final UserRepository userRepository;
+	private final EntityManager entityManager;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	
 	@Override
 	public List<UserDto> findAll() {
@@ -34,6 +51,45 @@ public class UserServiceImpl implements UserService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<UserDto> findAllByIds(final Collection<Integer> userIds) {
+		log.info("*** UserDto List, service; fetch all users by ids *");
+		return this.userRepository.findAllById(requireBatchSize(userIds))
+				.stream()
+					.map(UserMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public Map<Integer, UserDto> findAllByIdsAsMap(final Collection<Integer> userIds) {
+		log.info("*** UserDto Map, service; fetch all users by ids keyed by id *");
+		return this.userRepository.findAllById(requireBatchSize(userIds))
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(UserDto::getUserId, Function.identity()));
+	}
+	
+	@Override
+	public List<UserDto> findAllAfter(final Integer userId, final int limit) {
+		log.info("*** UserDto List, service; fetch users page after id *");
+		return this.userRepository.findByUserIdGreaterThanOrderByUserIdAsc(userId, PageRequest.of(0, limit))
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public void streamAll(final Consumer<UserDto> consumer) {
+		log.info("*** Void, service; stream all users *");
+		try (final Stream<User> users = this.userRepository.streamAllByOrderByUserIdAsc()) {
+			users.forEach(user -> {
+				consumer.accept(UserMappingHelper.map(user));
+				this.entityManager.detach(user);
+			});
+		}
+	}
+	
 	@Override
 	public UserDto findById(final Integer userId) {
 		log.info("*** UserDto, service; fetch user by id *");
@@ -51,20 +107,28 @@ public class UserServiceImpl implements UserService {
 	@Override
 	public UserDto update(final UserDto userDto) {
 		log.info("*** UserDto, service; update user *");
+		this.publishCredentialChanged(Optional.ofNullable(userDto.getCredentialDto())
+				.map(CredentialDto::getCredentialId));
 		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
 	}
 	
 	@Override
 	public UserDto update(final Integer userId, final UserDto userDto) {
 		log.info("*** UserDto, service; update user with userId *");
-		return UserMappingHelper.map(this.userRepository.save(
-				UserMappingHelper.map(this.findById(userId))));
+		final UserDto storedUserDto = this.findById(userId);
+		this.publishCredentialChanged(Optional.ofNullable(storedUserDto.getCredentialDto())
+				.map(CredentialDto::getCredentialId));
+		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(storedUserDto)));
 	}
 	
 	@Override
 	public void deleteById(final Integer userId) {
 		log.info("*** Void, service; delete user by id *");
+		final Optional<Integer> credentialId = this.userRepository.findById(userId)
+				.map(User::getCredential)
+				.map(Credential::getCredentialId);
 		this.userRepository.deleteById(userId);
+		this.publishCredentialChanged(credentialId);
 	}
 	
 	@Override
@@ -74,6 +138,17 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with username: %s not found", username))));
 	}
 	
+	private void publishCredentialChanged(final Optional<Integer> credentialId) {
+		credentialId.ifPresent(id -> this.applicationEventPublisher.publishEvent(new CredentialChangedEvent(id)));
+	}
+	
+	private static Collection<Integer> requireBatchSize(final Collection<Integer> userIds) {
+		if (userIds.size() > AppConstant.BULK_LOOKUP_MAX_IDS)
+			throw new UserBatchSizeExceededException(String.format("Batch of %d user ids exceeds the maximum of %d", 
+					userIds.size(), AppConstant.BULK_LOOKUP_MAX_IDS));
+		return userIds;
+	}
+	
 	
 	
 }
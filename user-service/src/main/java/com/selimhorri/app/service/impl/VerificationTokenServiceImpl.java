@@ -1,12 +1,17 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.VerificationToken;
 import com.selimhorri.app.dto.VerificationTokenDto;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
 import com.selimhorri.app.helper.VerificationTokenMappingHelper;
@@ -23,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 public class VerificationTokenServiceImpl implements VerificationTokenService {
 	
 	private final VerificationTokenRepository verificationTokenRepository;
+	private final EntityManager entityManager;
 	
 	@Override
 	public List<VerificationTokenDto> findAll() {
@@ -34,6 +40,26 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<VerificationTokenDto> findAllAfter(final Integer verificationTokenId, final int limit) {
+		log.info("*** VerificationTokenDto List, service; fetch verificationTokens page after id *");
+		return this.verificationTokenRepository.findByVerificationTokenIdGreaterThanOrderByVerificationTokenIdAsc(verificationTokenId, PageRequest.of(0, limit))
+				.stream()
+					.map(VerificationTokenMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public void streamAll(final Consumer<VerificationTokenDto> consumer) {
+		log.info("*** Void, service; stream all verificationTokens *");
+		try (final Stream<VerificationToken> verificationTokens = this.verificationTokenRepository.streamAllByOrderByVerificationTokenIdAsc()) {
+			verificationTokens.forEach(verificationToken -> {
+				consumer.accept(VerificationTokenMappingHelper.map(verificationToken));
+				this.entityManager.detach(verificationToken);
+			});
+		}
+	}
+	
 	@Override
 	public VerificationTokenDto findById(final Integer verificationTokenId) {
 		log.info("*** VerificationTokenDto, service; fetch verificationToken by ids *");
@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_credentials_username_user_id ON credentials (username, user_id);
+
@@ -0,0 +1,12 @@
+
+CREATE TABLE scheduler_locks (
+	lock_name VARCHAR(64) NOT NULL PRIMARY KEY,
+	locked_until TIMESTAMP NOT NULL,
+	locked_at TIMESTAMP NOT NULL,
+	locked_by VARCHAR(255) NOT NULL
+);
+
+INSERT INTO scheduler_locks
+(lock_name, locked_until, locked_at, locked_by) VALUES
+('verification-token-sweep', '1970-01-01 00:00:01', '1970-01-01 00:00:01', 'none');
+
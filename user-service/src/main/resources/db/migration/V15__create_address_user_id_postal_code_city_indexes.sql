@@ -0,0 +1,3 @@
+CREATE INDEX idx_address_user_id_address_id ON address (user_id, address_id);
+CREATE INDEX idx_address_postal_code_city_address_id ON address (postal_code, city, address_id);
+
@@ -0,0 +1,122 @@
+package com.selimhorri.app.unit.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.cache.CredentialCache;
+import com.selimhorri.app.config.cache.CredentialCacheProperties;
+import com.selimhorri.app.config.cache.CredentialChangedEvent;
+import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CredentialCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CredentialCacheProperties properties;
+    private CredentialCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.properties = new CredentialCacheProperties();
+        this.cache = new CredentialCache(this.properties, this.meterRegistry);
+    }
+
+    private CredentialDto load(final String username) {
+        return CredentialDto.builder()
+                .credentialId(username.length())
+                .username(username)
+                .password("password-" + this.loads.incrementAndGet())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should load a username once and serve later lookups from the cache")
+    void testReadThrough() {
+        // Act
+        this.cache.get("selimhorri", this::load);
+        final CredentialDto credentialDto = this.cache.get("selimhorri", this::load);
+
+        // Assert
+        assertThat(credentialDto.getPassword()).isEqualTo("password-1");
+        assertThat(this.loads).hasValue(1);
+        assertThat(this.meterRegistry.get("credential.lookup").tag("result", "miss").timer().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("credential.lookup").tag("result", "hit").timer().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("credential.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should reload a credential after it changed")
+    void testEvictOnCredentialChanged() {
+        // Arrange
+        this.cache.get("selimhorri", this::load);
+        this.cache.get("amine", this::load);
+
+        // Act
+        this.cache.onCredentialChanged(new CredentialChangedEvent("selimhorri".length()));
+
+        // Assert
+        assertThat(this.cache.get("selimhorri", this::load).getPassword()).isEqualTo("password-3");
+        assertThat(this.cache.get("amine", this::load).getPassword()).isEqualTo("password-2");
+    }
+
+    @Test
+    @DisplayName("Should evict a credential by id through the username it was loaded under")
+    void testEvictById() {
+        // Arrange
+        this.cache.get("selimhorri", u -> CredentialDto.builder().credentialId(7).username(u).build());
+
+        // Act
+        this.cache.evict(7);
+
+        // Assert
+        assertThat(this.cache.get("selimhorri", this::load).getPassword()).isEqualTo("password-1");
+    }
+
+    @Test
+    @DisplayName("Should ignore evictions of credentials that are not cached")
+    void testEvictUnknownCredential() {
+        // Arrange
+        this.cache.get("selimhorri", this::load);
+
+        // Act
+        this.cache.evict(42);
+
+        // Assert
+        this.cache.get("selimhorri", this::load);
+        assertThat(this.loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache failed lookups")
+    void testMissingUsernameIsNotCached() {
+        // Act & Assert
+        assertThatThrownBy(() -> this.cache.get("unknown", u -> {
+            throw new UserObjectNotFoundException(u);
+        })).isInstanceOf(UserObjectNotFoundException.class);
+        assertThat(this.cache.get("unknown", this::load).getUsername()).isEqualTo("unknown");
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache when disabled")
+    void testDisabled() {
+        // Arrange
+        this.properties.setEnabled(false);
+
+        // Act
+        this.cache.get("selimhorri", this::load);
+        this.cache.get("selimhorri", this::load);
+
+        // Assert
+        assertThat(this.loads).hasValue(2);
+    }
+}
@@ -0,0 +1,185 @@
+package com.selimhorri.app.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.selimhorri.app.domain.Address;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.exception.wrapper.AddressFilterNotSupportedException;
+import com.selimhorri.app.repository.AddressRepository;
+import com.selimhorri.app.service.impl.AddressServiceImpl;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AddressRepositoryTest {
+
+    private static final int USERS = 20;
+    private static final int ADDRESSES_PER_USER = 5;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AddressServiceImpl addressService;
+    private Statistics statistics;
+    private List<Integer> userIds;
+
+    @BeforeEach
+    void setUp() {
+        addressService = new AddressServiceImpl(addressRepository, entityManager);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        userIds = IntStream.range(0, USERS).mapToObj(i -> {
+            final User user = User.builder()
+                .firstName("First-" + i)
+                .lastName("Last-" + i)
+                .email("address-user-" + i + "@example.com")
+                .build();
+            user.setCredential(Credential.builder()
+                .username("address-user-" + i)
+                .password("password")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .user(user)
+                .build());
+            entityManager.persist(user);
+            IntStream.range(0, ADDRESSES_PER_USER).forEach(j -> entityManager.persist(Address.builder()
+                .fullAddress("address-" + i + "-" + j)
+                .postalCode("9900" + j)
+                .city(i % 2 == 0 ? "Even" : "Odd")
+                .user(user)
+                .build()));
+            return user.getUserId();
+        }).collect(Collectors.toList());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should page through one user's addresses by keyset")
+    void testFindAllByUserIdAfter() {
+        // Act
+        final List<AddressDto> firstPage = addressService.findAllMatchingAfter(userIds.get(3), null, null, 0, 3);
+        final List<AddressDto> secondPage = addressService.findAllMatchingAfter(userIds.get(3), null, null,
+            firstPage.get(firstPage.size() - 1).getAddressId(), 3);
+
+        // Assert
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(ADDRESSES_PER_USER - 3);
+        assertThat(firstPage).extracting(a -> a.getUserDto().getUserId()).containsOnly(userIds.get(3));
+        assertThat(secondPage).extracting(AddressDto::getAddressId)
+            .allMatch(id -> id > firstPage.get(firstPage.size() - 1).getAddressId())
+            .isSorted();
+    }
+
+    @Test
+    @DisplayName("Should filter addresses by postal code and optionally by city")
+    void testFindAllByPostalCodeAfter() {
+        // Act
+        final List<AddressDto> byPostalCode = addressService.findAllMatchingAfter(null, "99001", null, 0, 100);
+        final List<AddressDto> byPostalCodeAndCity = addressService.findAllMatchingAfter(null, " 99001 ", "Even", 0, 100);
+
+        // Assert
+        assertThat(byPostalCode).hasSize(USERS).extracting(AddressDto::getAddressId).isSorted();
+        assertThat(byPostalCodeAndCity).hasSize(USERS / 2)
+            .allSatisfy(a -> assertThat(a.getCity()).isEqualTo("Even"));
+    }
+
+    @Test
+    @DisplayName("Should filter one user's addresses by postal code")
+    void testFindAllByUserIdAndPostalCodeAfter() {
+        // Act
+        final List<AddressDto> addresses = addressService.findAllMatchingAfter(userIds.get(3), " 99001 ", null, 0, 100);
+
+        // Assert
+        assertThat(addresses).hasSize(1)
+            .allSatisfy(a -> assertThat(a.getPostalCode()).isEqualTo("99001"))
+            .allSatisfy(a -> assertThat(a.getUserDto().getUserId()).isEqualTo(userIds.get(3)));
+    }
+
+    @Test
+    @DisplayName("Should filter one user's addresses by city, with or without a postal code")
+    void testFindAllByUserIdAndCityAfter() {
+        // Act
+        final List<AddressDto> byCity = addressService.findAllMatchingAfter(userIds.get(4), null, " Even ", 0, 100);
+        final List<AddressDto> otherCity = addressService.findAllMatchingAfter(userIds.get(4), null, "Odd", 0, 100);
+        final List<AddressDto> byPostalCodeAndCity = addressService.findAllMatchingAfter(userIds.get(4), "99001", "Even", 0, 100);
+        final List<AddressDto> noMatch = addressService.findAllMatchingAfter(userIds.get(4), "99001", "Odd", 0, 100);
+
+        // Assert
+        assertThat(byCity).hasSize(ADDRESSES_PER_USER)
+            .allSatisfy(a -> assertThat(a.getCity()).isEqualTo("Even"));
+        assertThat(otherCity).isEmpty();
+        assertThat(byPostalCodeAndCity).hasSize(1)
+            .allSatisfy(a -> assertThat(a.getPostalCode()).isEqualTo("99001"))
+            .allSatisfy(a -> assertThat(a.getUserDto().getUserId()).isEqualTo(userIds.get(4)));
+        assertThat(noMatch).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a city filter without a userId or postal code")
+    void testFindAllByCityAloneIsRejected() {
+        // Act & Assert
+        assertThatThrownBy(() -> addressService.findAllMatchingAfter(null, null, "Even", 0, 100))
+            .isInstanceOf(AddressFilterNotSupportedException.class);
+        assertThatThrownBy(() -> addressService.findAllMatchingAfter(null, " ", null, 0, 100))
+            .isInstanceOf(AddressFilterNotSupportedException.class);
+    }
+
+    @Test
+    @DisplayName("Should load an address page with its users in a single SQL statement")
+    void testFindAllByPostalCodeUsesSingleStatement() {
+        // Act
+        final List<AddressDto> addresses = addressService.findAllMatchingAfter(null, "99002", null, 0, USERS);
+
+        // Assert
+        assertThat(addresses).hasSize(USERS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should look up addresses through the user_id and postal_code/city indexes")
+    void testLookupsUseIndexes() {
+        // Arrange
+        jdbcTemplate.execute("ANALYZE");
+
+        // Act
+        final String byUserId = jdbcTemplate.queryForObject(
+            "EXPLAIN SELECT * FROM address WHERE user_id = ? AND address_id > 0 ORDER BY address_id LIMIT 20",
+            String.class, userIds.get(0));
+        final String byPostalCodeAndCity = jdbcTemplate.queryForObject(
+            "EXPLAIN SELECT * FROM address WHERE postal_code = ? AND city = ? AND address_id > 0 ORDER BY address_id LIMIT 20",
+            String.class, "99001", "Even");
+
+        // Assert
+        assertThat(byUserId).containsIgnoringCase("IDX_ADDRESS_USER_ID_ADDRESS_ID");
+        assertThat(byPostalCodeAndCity).containsIgnoringCase("IDX_ADDRESS_POSTAL_CODE_CITY_ADDRESS_ID");
+    }
+}
@@ -0,0 +1,179 @@
+package com.selimhorri.app.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.selimhorri.app.domain.Address;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.repository.UserRepository;
+import com.selimhorri.app.service.impl.UserServiceImpl;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserRepositoryStatisticsTest {
+
+    private static final int ADDRESSES_PER_USER = 2;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private UserServiceImpl userService;
+    private Statistics statistics;
+    private long existingUsers;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl(userRepository, entityManager, applicationEventPublisher);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        existingUsers = userRepository.count();
+    }
+
+    @Test
+    @DisplayName("Should issue one credential select per user when the credential is not fetched")
+    void testPlainQueryIsNPlusOne() {
+        // Arrange
+        persistUsers(20);
+
+        // Act
+        final List<User> users = entityManager.createQuery("SELECT u FROM User u", User.class).getResultList();
+
+        // Assert
+        assertThat(users).hasSize((int) existingUsers + 20);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(20);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100})
+    @DisplayName("Should load all users and their credentials with a single SQL statement")
+    void testFindAllUsesSingleStatement(final int users) {
+        // Arrange
+        persistUsers(users);
+
+        // Act
+        final List<UserDto> userDtos = userService.findAll();
+
+        // Assert
+        assertThat(userDtos).hasSize((int) existingUsers + users)
+            .allSatisfy(u -> assertThat(u.getCredentialDto().getUsername()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load users by ids, a keyset page and a single user with one SQL statement each")
+    void testLookupsUseSingleStatement() {
+        // Arrange
+        final List<Integer> userIds = persistUsers(10);
+
+        // Act & Assert
+        assertThat(userService.findAllByIds(userIds)).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        assertThat(userService.findAllAfter(0, 5)).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        assertThat(userService.findById(userIds.get(0)).getCredentialDto().getUsername()).isEqualTo("user-0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        assertThat(userService.findByUsername("user-1").getUserId()).isEqualTo(userIds.get(1));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stream users and their credentials with a single SQL statement")
+    void testStreamAllUsesSingleStatement() {
+        // Arrange
+        persistUsers(50);
+
+        // Act
+        final List<UserDto> streamed = new ArrayList<>();
+        userService.streamAll(streamed::add);
+
+        // Assert
+        assertThat(streamed).hasSize((int) existingUsers + 50);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load users with their credentials and addresses with a single SQL statement")
+    void testFindAllWithCredentialAndAddressesUsesSingleStatement() {
+        // Arrange
+        final List<Integer> userIds = persistUsers(30);
+
+        // Act
+        final List<User> users = userRepository.findAllWithCredentialAndAddresses();
+
+        // Assert
+        assertThat(users).hasSize((int) existingUsers + 30)
+            .allSatisfy(u -> assertThat(Hibernate.isInitialized(u.getAddresses())).isTrue());
+        assertThat(users.stream().filter(u -> userIds.contains(u.getUserId())))
+            .allSatisfy(u -> assertThat(u.getAddresses()).hasSize(ADDRESSES_PER_USER));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private List<Integer> persistUsers(final int count) {
+        final List<User> users = IntStream.range(0, count).mapToObj(i -> {
+            final User user = User.builder()
+                .firstName("First-" + i)
+                .lastName("Last-" + i)
+                .email("user-" + i + "@example.com")
+                .build();
+            final Credential credential = Credential.builder()
+                .username("user-" + i)
+                .password("password")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .user(user)
+                .build();
+            user.setCredential(credential);
+            entityManager.persist(user);
+            IntStream.range(0, ADDRESSES_PER_USER).forEach(j -> entityManager.persist(Address.builder()
+                .fullAddress("address-" + i + "-" + j)
+                .postalCode("0000" + j)
+                .city("City")
+                .user(user)
+                .build()));
+            return user;
+        }).collect(Collectors.toList());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return users.stream().map(User::getUserId).collect(Collectors.toList());
+    }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.domain.RoleBasedAuthority;
@@ -173,4 +177,33 @@ class UserRepositoryTest {
         assertThat(savedUser.getEmail()).isEqualTo("new.user@example.com");
         assertThat(savedUser.getCredential().getUsername()).isEqualTo("newuser");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should page users by keyset in id order")
+    void testFindByUserIdGreaterThan() {
+        // Arrange
+        List<User> all = userRepository.findAll(Sort.by("userId"));
+        Integer firstId = all.get(0).getUserId();
+
+        // Act
+        List<User> page = userRepository.findByUserIdGreaterThanOrderByUserIdAsc(firstId, PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(page).hasSizeLessThanOrEqualTo(2)
+                .extracting(User::getUserId)
+                .containsExactlyElementsOf(all.stream().skip(1).limit(2).map(User::getUserId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should stream all users in id order")
+    void testStreamAllByOrderByUserIdAsc() {
+        // Act
+        List<Integer> streamed;
+        try (Stream<User> users = userRepository.streamAllByOrderByUserIdAsc()) {
+            streamed = users.map(User::getUserId).collect(Collectors.toList());
+        }
+
+        // Assert
+        assertThat(streamed).isSorted().hasSize((int) userRepository.count());
+    }
+}
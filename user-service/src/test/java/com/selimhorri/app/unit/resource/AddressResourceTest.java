@@ -0,0 +1,80 @@
+package com.selimhorri.app.unit.resource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.exception.wrapper.AddressFilterNotSupportedException;
+import com.selimhorri.app.resource.AddressResource;
+import com.selimhorri.app.service.AddressService;
+
+@WebMvcTest(AddressResource.class)
+class AddressResourceTest {
+
+    private static final int LIMIT = AppConstant.KEYSET_PAGE_DEFAULT_LIMIT;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AddressService addressService;
+
+    @Test
+    @DisplayName("Should pass every userId, postalCode and city combination to the service")
+    void testFiltersAreDispatched() throws Exception {
+        when(addressService.findAllMatchingAfter(any(), any(), any(), anyInt(), anyInt()))
+                .thenReturn(List.of(AddressDto.builder().addressId(7).city("Paris").build()));
+
+        mockMvc.perform(get("/api/address").param("userId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection[0].addressId").value(7));
+        mockMvc.perform(get("/api/address").param("userId", "1").param("city", "Paris"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/address").param("userId", "1").param("postalCode", "75001"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/address").param("userId", "1").param("postalCode", "75001").param("city", "Paris"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/address").param("postalCode", "75001"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/address").param("postalCode", "75001").param("city", "Paris").param("limit", "5"))
+                .andExpect(status().isOk());
+
+        verify(addressService).findAllMatchingAfter(1, null, null, 0, LIMIT);
+        verify(addressService).findAllMatchingAfter(1, null, "Paris", 0, LIMIT);
+        verify(addressService).findAllMatchingAfter(1, "75001", null, 0, LIMIT);
+        verify(addressService).findAllMatchingAfter(1, "75001", "Paris", 0, LIMIT);
+        verify(addressService).findAllMatchingAfter(null, "75001", null, 0, LIMIT);
+        verify(addressService).findAllMatchingAfter(null, "75001", "Paris", 0, 5);
+        verify(addressService, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reject a city filter on its own instead of listing every address")
+    void testCityAloneIsRejected() throws Exception {
+        when(addressService.findAllMatchingAfter(isNull(), isNull(), any(), anyInt(), anyInt()))
+                .thenThrow(new AddressFilterNotSupportedException("Filtering addresses requires a userId or a postalCode"));
+
+        mockMvc.perform(get("/api/address").param("city", "Paris"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/address").param("city", "Paris").param("limit", "5"))
+                .andExpect(status().isBadRequest());
+
+        verify(addressService, never()).findAll();
+        verify(addressService, never()).findAllAfter(anyInt(), anyInt());
+    }
+
+}
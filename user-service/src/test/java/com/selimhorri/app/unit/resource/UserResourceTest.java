@@ -1,11 +1,14 @@
 package com.selimhorri.app.unit.resource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -16,10 +19,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.exception.wrapper.UserBatchSizeExceededException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.resource.UserResource;
 import com.selimhorri.app.service.UserService;
@@ -103,6 +108,90 @@ class UserResourceTest {
         verify(userService, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Should return users by ids")
+    void testFindAllByIds() throws Exception {
+        when(userService.findAllByIds(List.of(1, 2))).thenReturn(userDtos);
+
+        mockMvc.perform(get("/api/users")
+                .param("ids", "1,2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection.length()").value(2))
+                .andExpect(jsonPath("$.collection[0].userId").value(1))
+                .andExpect(jsonPath("$.collection[1].userId").value(2));
+
+        verify(userService, times(1)).findAllByIds(List.of(1, 2));
+        verify(userService, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should return a batch of users keyed by id")
+    void testFindBatch() throws Exception {
+        when(userService.findAllByIdsAsMap(List.of(1, 2))).thenReturn(Map.of(1, userDto1, 2, userDto2));
+
+        mockMvc.perform(post("/api/users/batch")
+                .content("[1,2]")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$['1'].credential.username").value("johnsmith"))
+                .andExpect(jsonPath("$['2'].firstName").value("Jane"));
+
+        verify(userService, times(1)).findAllByIdsAsMap(List.of(1, 2));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch larger than the cap")
+    void testFindBatchTooLarge() throws Exception {
+        when(userService.findAllByIdsAsMap(anyList())).thenThrow(new UserBatchSizeExceededException("too many ids"));
+
+        mockMvc.perform(post("/api/users/batch")
+                .content("[1,2]")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return a keyset page with the next cursor")
+    void testFindAllAfter() throws Exception {
+        when(userService.findAllAfter(0, 2)).thenReturn(userDtos);
+
+        mockMvc.perform(get("/api/users")
+                .param("limit", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection.length()").value(2))
+                .andExpect(jsonPath("$.next").value("2"));
+
+        verify(userService, times(1)).findAllAfter(0, 2);
+        verify(userService, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should stream all users as NDJSON")
+    void testStreamAll() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<UserDto> consumer = invocation.getArgument(0);
+            userDtos.forEach(consumer);
+            return null;
+        }).when(userService).streamAll(any());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/users")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.split("\n")).hasSize(2);
+        assertThat(objectMapper.readValue(body.split("\n")[1], UserDto.class).getUserId()).isEqualTo(2);
+        verify(userService, never()).findAll();
+    }
+
     @Test
     @DisplayName("Should return user by ID")
     void testFindById() throws Exception {
@@ -0,0 +1,140 @@
+package com.selimhorri.app.unit.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.selimhorri.app.config.scheduling.VerificationTokenSweepProperties;
+import com.selimhorri.app.repository.SchedulerLockRepository;
+import com.selimhorri.app.repository.VerificationTokenRepository;
+import com.selimhorri.app.scheduling.SchedulerLockGuard;
+import com.selimhorri.app.scheduling.VerificationTokenSweeper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+class VerificationTokenSweeperTest {
+
+    private static final int EXPIRED = 1_050;
+    private static final int VALID = 10;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private VerificationTokenSweepProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private VerificationTokenSweeper sweeper;
+    private long existingExpired;
+
+    @BeforeEach
+    void setUp() {
+        properties = new VerificationTokenSweepProperties();
+        properties.setBatchSize(100);
+        properties.setPause(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new VerificationTokenSweeper(verificationTokenRepository,
+            new SchedulerLockGuard(schedulerLockRepository), properties, meterRegistry);
+
+        final LocalDate today = LocalDate.now();
+        existingExpired = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM verification_tokens WHERE expire_date < ?", Long.class, Date.valueOf(today));
+        final List<Object[]> tokens = IntStream.range(0, EXPIRED + VALID)
+            .mapToObj(i -> new Object[] { "token-" + i,
+                Date.valueOf(i < EXPIRED ? today.minusDays(1 + i % 30) : today.plusDays(i % 2)) })
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO verification_tokens (verif_token, expire_date) VALUES (?, ?)", tokens);
+    }
+
+    @Test
+    @DisplayName("Should purge every expired token in bounded batches and keep valid ones")
+    void testSweepPurgesExpiredTokens() {
+        // Arrange
+        final long total = verificationTokenRepository.count();
+
+        // Act
+        final int purged = sweeper.sweep();
+
+        // Assert
+        assertThat(purged).isEqualTo(EXPIRED + existingExpired);
+        assertThat(verificationTokenRepository.count()).isEqualTo(total - purged);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM verification_tokens WHERE expire_date < ?", Long.class, Date.valueOf(LocalDate.now())))
+            .isZero();
+        assertThat(meterRegistry.get("verification.token.sweep.purged").summary().totalAmount())
+            .isEqualTo(purged);
+        assertThat(meterRegistry.get("verification.token.sweep.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop after the maximum number of batches per run")
+    void testSweepIsBoundedPerRun() {
+        // Arrange
+        properties.setMaxBatchesPerRun(3);
+
+        // Act & Assert
+        assertThat(sweeper.sweep()).isEqualTo(300);
+        assertThat(sweeper.sweep()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("Should skip the run while another replica holds the lock")
+    void testSweepSkipsWhenLockIsHeld() {
+        // Arrange
+        jdbcTemplate.update("UPDATE scheduler_locks SET locked_until = ?, locked_by = 'other-replica' WHERE lock_name = ?",
+            LocalDateTime.now().plusMinutes(5), VerificationTokenSweeper.LOCK_NAME);
+
+        // Act
+        final int purged = sweeper.sweep();
+
+        // Assert
+        assertThat(purged).isZero();
+        assertThat(meterRegistry.get("verification.token.sweep.skipped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("verification.token.sweep.purged").summary().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release the lock once the run completes")
+    void testSweepReleasesLock() {
+        // Act
+        sweeper.sweep();
+        sweeper.sweep();
+
+        // Assert
+        assertThat(meterRegistry.get("verification.token.sweep.skipped").counter().count()).isZero();
+        assertThat(meterRegistry.get("verification.token.sweep.purged").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should find expired tokens through the expire_date index")
+    void testDeleteUsesExpireDateIndex() {
+        // Arrange
+        jdbcTemplate.execute("ANALYZE");
+
+        // Act
+        final String plan = jdbcTemplate.queryForObject(
+            "EXPLAIN DELETE FROM verification_tokens WHERE expire_date < ? LIMIT 100", String.class,
+            Date.valueOf(LocalDate.now().minusDays(1)));
+
+        // Assert
+        assertThat(plan).containsIgnoringCase("IDX_VERIFICATION_TOKENS_EXPIRE_DATE");
+    }
+}
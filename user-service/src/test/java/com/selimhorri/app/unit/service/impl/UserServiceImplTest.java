@@ -6,7 +6,10 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,11 +18,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.selimhorri.app.config.cache.CredentialChangedEvent;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.domain.User;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.exception.wrapper.UserBatchSizeExceededException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.impl.UserServiceImpl;
@@ -30,6 +37,9 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -142,6 +152,52 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Should find all users by ids")
+    void testFindAllByIds() {
+        // Arrange
+        when(userRepository.findAllById(List.of(1, 2))).thenReturn(Arrays.asList(user1, user2));
+
+        // Act
+        List<UserDto> result = userService.findAllByIds(List.of(1, 2));
+
+        // Assert
+        assertThat(result).isNotNull().hasSize(2);
+        assertThat(result.get(0).getUserId()).isEqualTo(1);
+        assertThat(result.get(1).getUserId()).isEqualTo(2);
+        verify(userRepository, times(1)).findAllById(List.of(1, 2));
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should find users by ids keyed by id")
+    void testFindAllByIdsAsMap() {
+        // Arrange
+        when(userRepository.findAllById(List.of(1, 2, 3))).thenReturn(Arrays.asList(user1, user2));
+
+        // Act
+        Map<Integer, UserDto> result = userService.findAllByIdsAsMap(List.of(1, 2, 3));
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1, 2);
+        assertThat(result.get(2).getFirstName()).isEqualTo(user2.getFirstName());
+        verify(userRepository, times(1)).findAllById(List.of(1, 2, 3));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch of ids larger than the cap")
+    void testFindAllByIdsAsMapTooLarge() {
+        // Arrange
+        List<Integer> userIds = IntStream.rangeClosed(1, AppConstant.BULK_LOOKUP_MAX_IDS + 1).boxed()
+                .collect(Collectors.toList());
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.findAllByIdsAsMap(userIds))
+            .isInstanceOf(UserBatchSizeExceededException.class)
+            .hasMessageContaining("exceeds the maximum of " + AppConstant.BULK_LOOKUP_MAX_IDS);
+        verify(userRepository, never()).findAllById(any());
+    }
+
     @Test
     @DisplayName("Should find user by ID")
     void testFindById() {
@@ -225,6 +281,7 @@ class UserServiceImplTest {
         assertThat(result.getLastName()).isEqualTo("Smith-Updated");
         assertThat(result.getEmail()).isEqualTo("john.updated@example.com");
         verify(userRepository, times(1)).save(any(User.class));
+        verify(applicationEventPublisher, times(1)).publishEvent(new CredentialChangedEvent(1));
     }
 
     @Test
@@ -242,12 +299,14 @@ class UserServiceImplTest {
         assertThat(result.getUserId()).isEqualTo(1);
         verify(userRepository, times(1)).findById(1);
         verify(userRepository, times(1)).save(any(User.class));
+        verify(applicationEventPublisher, times(1)).publishEvent(new CredentialChangedEvent(1));
     }
 
     @Test
     @DisplayName("Should delete user by ID")
     void testDeleteById() {
         // Arrange
+        when(userRepository.findById(1)).thenReturn(Optional.of(user1));
         doNothing().when(userRepository).deleteById(1);
         
         // Act
@@ -255,6 +314,7 @@ class UserServiceImplTest {
         
         // Assert
         verify(userRepository, times(1)).deleteById(1);
+        verify(applicationEventPublisher, times(1)).publishEvent(new CredentialChangedEvent(1));
     }
 
     @Test